@@ -3,9 +3,12 @@ package com.example.integration;
 import org.springframework.boot.SpringApplication;
 import org.springframework.boot.autoconfigure.SpringBootApplication;
 import org.springframework.data.jpa.repository.config.EnableJpaAuditing;
+import org.springframework.scheduling.annotation.EnableScheduling;
 
 // BaseEntity
 @EnableJpaAuditing
+// 문장 개수 재계산, 끝난 음성 사전 합성 작업 정리, 검색 색인 재생성, 권한 변경 조회 결과 정리
+@EnableScheduling
 @SpringBootApplication
 public class IntegrationApplication {
 
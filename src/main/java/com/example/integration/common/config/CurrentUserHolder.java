@@ -0,0 +1,66 @@
+package com.example.integration.common.config;
+
+import com.example.integration.common.config.jwt.JwtPrincipal;
+import com.example.integration.common.response.CustomException;
+import com.example.integration.common.response.ErrorCode;
+import com.example.integration.common.util.SecurityUtil;
+import com.example.integration.entity.User;
+import com.example.integration.repository.UserRepository;
+import lombok.RequiredArgsConstructor;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.stereotype.Component;
+import org.springframework.web.context.annotation.RequestScope;
+
+/**
+ * 요청 단위로 현재 사용자를 한 번만 조회하여 재사용
+ * <p>
+ * - JWTCheckFilter가 이미 User를 조회한 경우 그 객체를 그대로 사용합니다. (같은 EntityManager에서 조회, {@link JpaConfig})
+ * - 무상태 인증 모드(JwtPrincipal)에서는 엔티티가 필요할 때 한 번만 조회하고, ID만 필요하면 조회하지 않습니다.
+ */
+@Component
+@RequestScope
+@RequiredArgsConstructor
+public class CurrentUserHolder {
+
+    private final UserRepository userRepository;
+
+    private User user;
+
+    /**
+     * 현재 사용자 조회 (요청당 최대 한 번 조회)
+     * @return User 객체
+     */
+    public User get() {
+        if (user == null) {
+            user = resolve();
+        }
+        return user;
+    }
+
+    /**
+     * 현재 사용자 ID 조회 (토큰 클레임에 ID가 있으면 조회하지 않음)
+     * @return 사용자 ID
+     */
+    public Long getId() {
+        if (user == null && principal() instanceof JwtPrincipal jwtPrincipal) {
+            return jwtPrincipal.id();
+        }
+        return get().getId();
+    }
+
+    private User resolve() {
+        if (principal() instanceof User authenticatedUser) {
+            return authenticatedUser;
+        }
+
+        return userRepository.findByEmail(SecurityUtil.getCurrentMember()).orElseThrow(
+                () -> new CustomException(ErrorCode.NOT_FOUND_USER)
+        );
+    }
+
+    private static Object principal() {
+        Authentication authentication = SecurityContextHolder.getContext().getAuthentication();
+        return authentication == null ? null : authentication.getPrincipal();
+    }
+}
@@ -0,0 +1,35 @@
+package com.example.integration.common.config;
+
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.autoconfigure.orm.jpa.HibernatePropertiesCustomizer;
+import org.springframework.boot.autoconfigure.security.SecurityProperties;
+import org.springframework.boot.web.servlet.FilterRegistrationBean;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.orm.jpa.support.OpenEntityManagerInViewFilter;
+
+@Configuration
+public class JpaConfig {
+
+    /**
+     * EntityManager를 보안 필터보다 먼저 열어, JWTCheckFilter에서 조회한 User를 서비스에서도 영속 상태로 재사용
+     * (기본 OSIV 인터셉터는 필터 이후에 열리므로 필터에서 조회한 엔티티는 준영속 상태가 됨)
+     * @return
+     */
+    @Bean
+    @ConditionalOnProperty(prefix = "spring.jpa", name = "open-in-view", havingValue = "true", matchIfMissing = true)
+    public FilterRegistrationBean<OpenEntityManagerInViewFilter> openEntityManagerInViewFilter() {
+        FilterRegistrationBean<OpenEntityManagerInViewFilter> registration = new FilterRegistrationBean<>(new OpenEntityManagerInViewFilter());
+        registration.setOrder(SecurityProperties.DEFAULT_FILTER_ORDER - 1);
+        return registration;
+    }
+
+    /**
+     * 컬렉션 fetch join과 페이징을 함께 사용하면 (메모리 페이징, HHH90003004) 경고 대신 예외 발생
+     * @return
+     */
+    @Bean
+    public HibernatePropertiesCustomizer failOnPaginationOverCollectionFetch() {
+        return properties -> properties.put("hibernate.query.fail_on_pagination_over_collection_fetch", true);
+    }
+}
@@ -4,9 +4,11 @@ import com.example.integration.common.config.exception.CustomAccessDeniedHandler
 import com.example.integration.common.config.exception.CustomAuthenticationEntryPoint;
 import com.example.integration.common.config.jwt.JWTCheckFilter;
 import com.example.integration.common.config.jwt.JWTUtil;
+import com.example.integration.common.config.jwt.RoleChangeRegistry;
 import com.example.integration.entity.RoleType;
 import com.example.integration.service.UserService;
 import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.security.authentication.AuthenticationManager;
@@ -30,12 +32,23 @@ public class SecurityConfig {
 
     private final JWTUtil jwtUtil;
 
+    private final RoleChangeRegistry roleChangeRegistry;
+
     private final CustomAuthenticationEntryPoint authenticationEntryPoint;
 
     private final CustomAccessDeniedHandler customAccessDeniedHandler;
 
     private final CorsConfigurationSource corsConfigurationSource;
 
+    // 무상태 인증 모드 (Access Token 클레임으로 인증, 요청마다 사용자 조회 X)
+    // 권한이 바뀐 사용자의 이전 토큰은 Redis의 변경 기록(로컬에 몇 초간 보관)으로 확인하여 DB의 현재 권한으로 인증 (RoleChangeRegistry)
+    @Value("${jwt.stateless-auth.enabled:false}")
+    private boolean statelessAuth;
+
+    // 클레임의 권한을 신뢰할 최대 토큰 나이 (초, 0이면 토큰 만료까지)
+    @Value("${jwt.stateless-auth.max-claim-age-seconds:0}")
+    private long maxClaimAgeSeconds;
+
     private String[] whiteList = {
             "/api/v1/auth/register",
             "/api/v1/auth/login",
@@ -60,7 +73,7 @@ public class SecurityConfig {
 
     @Bean
     public SecurityFilterChain filterChain(HttpSecurity http, AuthenticationManager authenticationManager) throws Exception {
-        JWTCheckFilter checkFilter = new JWTCheckFilter(authenticationManager, userService, jwtUtil);
+        JWTCheckFilter checkFilter = new JWTCheckFilter(authenticationManager, userService, jwtUtil, statelessAuth, maxClaimAgeSeconds, roleChangeRegistry);
 
         http
                 .csrf(csrf -> csrf.disable()) // CSRF 비활성화
@@ -0,0 +1,38 @@
+package com.example.integration.common.config.event;
+
+import com.example.integration.service.SentenceSetSearchService;
+import lombok.AllArgsConstructor;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+@AllArgsConstructor
+@Component
+public class SearchIndexEventListener {
+
+    private final SentenceSetSearchService sentenceSetSearchService;
+
+    // 공용 문장 세트 생성/수정이 커밋되면 세트 전체를 다시 색인
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT)
+    public void handleSentenceSetChangedEvent(SentenceSetChangedEvent event) {
+        sentenceSetSearchService.indexSentenceSet(event.getSentenceSetId());
+    }
+
+    // 문장 세트 삭제가 커밋되면 색인에서 제거
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT)
+    public void handleSentenceSetDeletedEvent(SentenceSetDeletedEvent event) {
+        sentenceSetSearchService.removeSentenceSet(event.getSentenceSetId());
+    }
+
+    // 문장 생성/수정이 커밋되면 해당 문장만 다시 색인
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT)
+    public void handleSentenceChangedEvent(SentenceChangedEvent event) {
+        sentenceSetSearchService.indexSentence(event.getSentenceSetId(), event.getSentenceId());
+    }
+
+    // 문장 삭제가 커밋되면 색인에서 제거
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT)
+    public void handleSentenceDeletedEvent(SentenceDeletedEvent event) {
+        sentenceSetSearchService.removeSentence(event.getSentenceSetId(), event.getSentenceId());
+    }
+}
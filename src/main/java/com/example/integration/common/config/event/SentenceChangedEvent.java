@@ -0,0 +1,16 @@
+package com.example.integration.common.config.event;
+
+import lombok.Getter;
+
+@Getter
+public class SentenceChangedEvent {
+
+    private final Long sentenceSetId;
+    private final Long sentenceId;
+
+    public SentenceChangedEvent(Long sentenceSetId, Long sentenceId) {
+        this.sentenceSetId = sentenceSetId;
+        this.sentenceId = sentenceId;
+    }
+
+}
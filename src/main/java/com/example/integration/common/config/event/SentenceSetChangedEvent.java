@@ -0,0 +1,14 @@
+package com.example.integration.common.config.event;
+
+import lombok.Getter;
+
+@Getter
+public class SentenceSetChangedEvent {
+
+    private final Long sentenceSetId;
+
+    public SentenceSetChangedEvent(Long sentenceSetId) {
+        this.sentenceSetId = sentenceSetId;
+    }
+
+}
@@ -0,0 +1,14 @@
+package com.example.integration.common.config.event;
+
+import lombok.Getter;
+
+@Getter
+public class SentenceSetDeletedEvent {
+
+    private final Long sentenceSetId;
+
+    public SentenceSetDeletedEvent(Long sentenceSetId) {
+        this.sentenceSetId = sentenceSetId;
+    }
+
+}
@@ -17,11 +17,8 @@ public class SentenceSetViewedEventListener {
     @Async
     @EventListener
     @Transactional
-    // 문장 세트 조회 이벤트가 발생한다면 현재 날짜로 업데이트
+    // 문장 세트 조회 이벤트가 발생한다면 현재 날짜로 업데이트 (조회 후 저장하지 않고 해당 컬럼만 UPDATE)
     public void handleSentenceSetViewedEvent(SentenceSetViewedEvent event) {
-        sentenceSetRepository.findById(event.getSentenceSetId()).ifPresent(sentenceSet -> {
-            sentenceSet.updateLastViewedDate(DateUtil.getLastViewedDate());
-            sentenceSetRepository.save(sentenceSet);
-        });
+        sentenceSetRepository.updateLastViewedDate(event.getSentenceSetId(), DateUtil.getLastViewedDate());
     }
 }
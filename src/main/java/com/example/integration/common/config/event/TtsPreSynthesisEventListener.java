@@ -0,0 +1,26 @@
+package com.example.integration.common.config.event;
+
+import com.example.integration.service.TtsPreSynthesisService;
+import lombok.AllArgsConstructor;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+@AllArgsConstructor
+@Component
+public class TtsPreSynthesisEventListener {
+
+    private final TtsPreSynthesisService ttsPreSynthesisService;
+
+    // 문장 생성/수정이 커밋되면 해당 문장의 음성 사전 합성 예약
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT)
+    public void handleSentenceChangedEvent(SentenceChangedEvent event) {
+        ttsPreSynthesisService.enqueueSentence(event.getSentenceSetId(), event.getSentenceId());
+    }
+
+    // 공용 문장 세트 생성/수정이 커밋되면 세트 전체 문장의 음성 사전 합성 예약
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT)
+    public void handleSentenceSetChangedEvent(SentenceSetChangedEvent event) {
+        ttsPreSynthesisService.enqueueSentenceSet(event.getSentenceSetId());
+    }
+}
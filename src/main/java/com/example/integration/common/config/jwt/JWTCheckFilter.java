@@ -15,16 +15,32 @@ import org.springframework.security.core.context.SecurityContextHolder;
 import org.springframework.security.web.authentication.www.BasicAuthenticationFilter;
 
 import java.io.IOException;
+import java.time.Instant;
 
 @Slf4j
 public class JWTCheckFilter extends BasicAuthenticationFilter {
     private final UserService userService;
     private final JWTUtil jwtUtil;
 
+    // 무상태 인증 모드: 토큰 클레임만으로 인증 객체를 만들어 요청마다 DB를 조회하지 않음
+    private final boolean statelessAuth;
+    // 클레임을 신뢰할 최대 토큰 나이 (초, 0 이하면 토큰 만료까지). 지나면 DB에서 권한을 다시 조회
+    private final long maxClaimAgeSeconds;
+    // 권한이 바뀐 사용자의 이전 토큰은 클레임 대신 DB에서 권한을 조회
+    private final RoleChangeRegistry roleChangeRegistry;
+
     public JWTCheckFilter(AuthenticationManager authenticationManager, UserService userService, JWTUtil jwtUtil) {
+        this(authenticationManager, userService, jwtUtil, false, 0, null);
+    }
+
+    public JWTCheckFilter(AuthenticationManager authenticationManager, UserService userService, JWTUtil jwtUtil,
+                          boolean statelessAuth, long maxClaimAgeSeconds, RoleChangeRegistry roleChangeRegistry) {
         super(authenticationManager);
         this.userService = userService;
         this.jwtUtil = jwtUtil;
+        this.statelessAuth = statelessAuth;
+        this.maxClaimAgeSeconds = maxClaimAgeSeconds;
+        this.roleChangeRegistry = roleChangeRegistry;
     }
 
     @Override
@@ -57,14 +73,11 @@ public class JWTCheckFilter extends BasicAuthenticationFilter {
 
         switch (result.status()) {
             case SUCCESS:
-                User user = (User) userService.loadUserByUsername(result.username());
-                UsernamePasswordAuthenticationToken userToken = new UsernamePasswordAuthenticationToken(
-                        user, null, user.getAuthorities()
-                );
+                UsernamePasswordAuthenticationToken userToken = authenticate(result);
 
                 // SecurityContext에 인증 객체 저장
                 SecurityContextHolder.getContext().setAuthentication(userToken);
-                log.info("Token successfully verified for user: {}. Request URI: {}", user.getUsername(), request.getRequestURI());
+                log.info("Token successfully verified for user: {}. Request URI: {}", userToken.getName(), request.getRequestURI());
                 chain.doFilter(request, response);
                 break;
             case EXPIRED:
@@ -78,4 +91,24 @@ public class JWTCheckFilter extends BasicAuthenticationFilter {
         }
     }
 
+    /**
+     * 인증 객체 생성
+     * 무상태 인증 모드이고 클레임이 충분히 최근 것이며 발급 이후 권한이 바뀌지 않았으면 클레임으로,
+     * 그렇지 않으면 DB에서 사용자를 조회하여 생성
+     */
+    private UsernamePasswordAuthenticationToken authenticate(VerifyResult result) {
+        JwtPrincipal principal = result.principal();
+        if (statelessAuth && principal != null && isFresh(principal) && !roleChangeRegistry.isIssuedBeforeChange(principal)) {
+            return new UsernamePasswordAuthenticationToken(principal, null, principal.getAuthorities());
+        }
+
+        User user = (User) userService.loadUserByUsername(result.username());
+        return new UsernamePasswordAuthenticationToken(user, null, user.getAuthorities());
+    }
+
+    private boolean isFresh(JwtPrincipal principal) {
+        return maxClaimAgeSeconds <= 0
+                || Instant.now().getEpochSecond() - principal.issuedAt() <= maxClaimAgeSeconds;
+    }
+
 }
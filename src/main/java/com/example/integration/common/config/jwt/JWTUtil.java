@@ -1,16 +1,24 @@
 package com.example.integration.common.config.jwt;
 
 import com.auth0.jwt.JWT;
+import com.auth0.jwt.JWTVerifier;
 import com.auth0.jwt.algorithms.Algorithm;
+import com.auth0.jwt.exceptions.JWTDecodeException;
 import com.auth0.jwt.exceptions.JWTVerificationException;
+import com.auth0.jwt.exceptions.TokenExpiredException;
 import com.auth0.jwt.interfaces.DecodedJWT;
+import com.example.integration.common.util.HashUtil;
+import com.example.integration.entity.RoleType;
 import com.example.integration.entity.User;
 import com.example.integration.dto.user.VerifyResult;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Component;
 
 import java.time.Instant;
-import java.util.Date;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.atomic.AtomicInteger;
 
 @Component
 public class JWTUtil {
@@ -18,14 +26,32 @@ public class JWTUtil {
     private final long authTime;
     private final long refreshTime;
 
+    // Access Token 클레임 (무상태 인증 모드에서 DB 조회 대신 사용)
+    private static final String USER_ID_CLAIM = "uid";
+    private static final String ROLE_CLAIM = "role";
+
+    // 스레드 안전하므로 하나만 만들어 재사용
+    private final JWTVerifier verifier;
+
+    // 최근 검증에 성공한 토큰 (토큰 원문 대신 SHA-256 다이제스트를 키로 사용, 토큰의 만료 시각까지만 유효)
+    private final ConcurrentHashMap<String, VerifiedToken> verifiedTokens = new ConcurrentHashMap<>();
+    // 기록한 순서 (가득 차면 가장 먼저 기록한 토큰부터 제거, 같은 수명의 토큰은 먼저 기록한 것이 먼저 만료됨)
+    private final ConcurrentLinkedQueue<String> insertionOrder = new ConcurrentLinkedQueue<>();
+    // insertionOrder 크기 (ConcurrentLinkedQueue.size()는 O(n))
+    private final AtomicInteger queuedCount = new AtomicInteger();
+    private final int verifiedCacheSize;
+
     public JWTUtil(
             @Value("${jwt.secret}") String secret,
             @Value("${jwt.auth-time}") long authTime,
-            @Value("${jwt.refresh-time}") long refreshTime
+            @Value("${jwt.refresh-time}") long refreshTime,
+            @Value("${jwt.verified-cache-size:10000}") int verifiedCacheSize
     ) {
         this.algorithm = Algorithm.HMAC256(secret);
         this.authTime = authTime;
         this.refreshTime = refreshTime;
+        this.verifier = JWT.require(algorithm).build();
+        this.verifiedCacheSize = verifiedCacheSize;
     }
 
     public long getRefreshTime() {
@@ -34,12 +60,15 @@ public class JWTUtil {
 
     /**
      * Jwt Access Token 생성
+     * 사용자 ID와 권한을 클레임으로 포함 (권한 변경은 토큰 만료 후 재발급 시 반영)
      * @param user
      * @return
      */
     public String makeAccessToken(User user) {
         return JWT.create()
                 .withSubject(user.getUsername())
+                .withClaim(USER_ID_CLAIM, user.getId())
+                .withClaim(ROLE_CLAIM, user.getRoleType().name())
                 .withClaim("iat", Instant.now().getEpochSecond()) // 발급 시간
                 .withClaim("exp", Instant.now().getEpochSecond() + authTime) // 만료 시간
                 .sign(algorithm);
@@ -47,12 +76,14 @@ public class JWTUtil {
 
     /**
      * Jwt Refresh Token 생성
+     * 같은 초에 발급되어도 토큰마다 다른 값이 되도록 jti 포함 (재사용 감지에 필요)
      * @param user
      * @return
      */
     public String makeRefreshToken(User user) {
         return JWT.create()
                 .withSubject(user.getUsername())
+                .withJWTId(UUID.randomUUID().toString())
                 .withClaim("iat", Instant.now().getEpochSecond()) // 발급 시간
                 .withClaim("exp", Instant.now().getEpochSecond() + refreshTime) // 만료 시간
                 .sign(algorithm);
@@ -60,24 +91,98 @@ public class JWTUtil {
 
     /**
      * Jwt 토큰 검증
+     * 최근 검증한 토큰은 서명 검증과 디코딩 없이 만료 시각만 확인
      * @param token
      * @return
      */
     public VerifyResult verify(String token) {
+        String digest = HashUtil.sha256Hex(token);
+        long now = System.currentTimeMillis();
+
+        VerifiedToken verified = verifiedTokens.get(digest);
+        if (verified != null) {
+            if (now < verified.expiresAt()) {
+                return new VerifyResult(TokenStatus.SUCCESS, verified.subject(), verified.principal());
+            }
+            verifiedTokens.remove(digest);
+            return new VerifyResult(TokenStatus.EXPIRED, verified.subject());
+        }
+
+        DecodedJWT decoded;
+        try {
+            decoded = JWT.decode(token);
+        } catch (JWTDecodeException ex) {
+            // 형식이 잘못된 토큰
+            return new VerifyResult(TokenStatus.INVALID, null);
+        }
+
         try {
             // 검증 성공
-            DecodedJWT verify = JWT.require(algorithm).build().verify(token);
-            return new VerifyResult(TokenStatus.SUCCESS, verify.getSubject());
+            verifier.verify(decoded);
+        } catch (TokenExpiredException ex) {
+            // 만료된 경우
+            return new VerifyResult(TokenStatus.EXPIRED, decoded.getSubject());
         } catch (JWTVerificationException ex) {
             // 검증 실패
-            DecodedJWT decode = JWT.decode(token);
+            return new VerifyResult(TokenStatus.INVALID, decoded.getSubject());
+        }
 
-            if (decode.getExpiresAt() != null && decode.getExpiresAt().before(new Date())) {
-                // 만료된 경우
-                return new VerifyResult(TokenStatus.EXPIRED, decode.getSubject());
-            }
+        JwtPrincipal principal = toPrincipal(decoded);
+        if (decoded.getExpiresAt() != null) {
+            remember(digest, new VerifiedToken(decoded.getSubject(), principal, decoded.getExpiresAt().getTime()));
+        }
+        return new VerifyResult(TokenStatus.SUCCESS, decoded.getSubject(), principal);
+    }
 
-            return new VerifyResult(TokenStatus.INVALID, decode.getSubject());
+    /**
+     * 클레임으로 인증 주체 생성
+     * Refresh Token이나 클레임 추가 이전에 발급된 토큰처럼 클레임이 없으면 null
+     */
+    private static JwtPrincipal toPrincipal(DecodedJWT decoded) {
+        Long userId = decoded.getClaim(USER_ID_CLAIM).asLong();
+        String role = decoded.getClaim(ROLE_CLAIM).asString();
+        if (userId == null || role == null || decoded.getIssuedAt() == null) {
+            return null;
         }
+
+        try {
+            return new JwtPrincipal(userId, decoded.getSubject(), RoleType.valueOf(role),
+                    decoded.getIssuedAt().toInstant().getEpochSecond());
+        } catch (IllegalArgumentException e) {
+            return null;
+        }
+    }
+
+    /**
+     * 검증한 토큰 기록
+     * 가득 찬 경우 가장 먼저 기록한 토큰을 제거 (전체를 훑지 않으므로 기록 비용은 캐시 크기와 무관)
+     * 만료되어 먼저 제거된 토큰도 순서 큐에는 남아 있으므로, 큐 크기를 기준으로 제거하여 큐와 맵 모두 크기를 넘지 않음
+     */
+    private void remember(String digest, VerifiedToken verified) {
+        if (verifiedTokens.putIfAbsent(digest, verified) != null) {
+            return;
+        }
+        insertionOrder.add(digest);
+        queuedCount.incrementAndGet();
+
+        while (queuedCount.get() > verifiedCacheSize) {
+            String eldest = insertionOrder.poll();
+            if (eldest == null) {
+                break;
+            }
+            queuedCount.decrementAndGet();
+            verifiedTokens.remove(eldest);
+        }
+    }
+
+    int cachedTokenCount() {
+        return verifiedTokens.size();
+    }
+
+    boolean isCached(String token) {
+        return verifiedTokens.containsKey(HashUtil.sha256Hex(token));
+    }
+
+    private record VerifiedToken(String subject, JwtPrincipal principal, long expiresAt) {
     }
 }
@@ -0,0 +1,30 @@
+package com.example.integration.common.config.jwt;
+
+import com.example.integration.entity.RoleType;
+import org.springframework.security.core.AuthenticatedPrincipal;
+import org.springframework.security.core.GrantedAuthority;
+import org.springframework.security.core.authority.SimpleGrantedAuthority;
+
+import java.util.Collection;
+import java.util.Collections;
+
+/**
+ * Access Token의 클레임만으로 만든 인증 주체 (DB 조회 없이 사용)
+ * authentication.getName()은 User와 같이 이메일을 반환
+ *
+ * @param id       사용자 ID (uid 클레임)
+ * @param email    이메일 (sub)
+ * @param roleType 권한 (role 클레임)
+ * @param issuedAt 토큰 발급 시각 (epoch seconds)
+ */
+public record JwtPrincipal(Long id, String email, RoleType roleType, long issuedAt) implements AuthenticatedPrincipal {
+
+    @Override
+    public String getName() {
+        return email;
+    }
+
+    public Collection<? extends GrantedAuthority> getAuthorities() {
+        return Collections.singletonList(new SimpleGrantedAuthority("ROLE_" + roleType.name()));
+    }
+}
@@ -0,0 +1,103 @@
+package com.example.integration.common.config.jwt;
+
+import com.example.integration.common.util.RedisUtil;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.time.Instant;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * 사용자 권한 변경 시각 기록 (무상태 인증 모드에서 변경 이전에 발급된 Access Token의 권한 클레임을 믿지 않기 위함)
+ * <p>
+ * - 권한이 바뀌면 변경 시각을 Access Token 유효 기간(jwt.auth-time) 동안 Redis에 저장합니다.
+ * - 변경 시각 이전(같은 초 포함)에 발급된 토큰은 클레임 대신 DB에서 현재 권한을 조회합니다.
+ * - 조회 결과는 사용자별로 짧게(jwt.stateless-auth.role-change-cache-seconds) 로컬에 보관하여 요청마다 Redis를 조회하지 않습니다.
+ *   다른 인스턴스에서 바뀐 권한은 최대 그 시간만큼 늦게 반영됩니다. (0이면 보관하지 않음)
+ * - Redis 오류 시에는 DB 조회로 대체하고, 그 결과도 같은 시간 동안 보관하여 장애 중 Redis 재시도가 요청마다 반복되지 않도록 합니다.
+ */
+@Slf4j
+@Component
+public class RoleChangeRegistry {
+
+    private static final String KEY_PREFIX = "role_changed_at:";
+
+    // 변경 기록이 없음
+    private static final long NOT_CHANGED = -1;
+    // Redis 오류로 확인할 수 없음 (모든 토큰을 DB에서 확인)
+    private static final long UNKNOWN = Long.MAX_VALUE;
+
+    private final RedisUtil redisUtil;
+    private final long authTime;
+    private final long cacheMillis;
+
+    // 이메일별 마지막 권한 변경 시각 조회 결과
+    private final ConcurrentHashMap<String, CachedChange> cachedChanges = new ConcurrentHashMap<>();
+
+    public RoleChangeRegistry(
+            RedisUtil redisUtil,
+            @Value("${jwt.auth-time}") long authTime,
+            @Value("${jwt.stateless-auth.role-change-cache-seconds:5}") long cacheSeconds
+    ) {
+        this.redisUtil = redisUtil;
+        this.authTime = authTime;
+        this.cacheMillis = cacheSeconds * 1000;
+    }
+
+    /**
+     * 권한 변경 기록 (이전에 발급된 Access Token은 이후 요청부터 DB의 권한으로 인증)
+     * @param email
+     */
+    public void markChanged(String email) {
+        long changedAt = Instant.now().getEpochSecond();
+        redisUtil.setDataExpire(KEY_PREFIX + email, String.valueOf(changedAt), authTime);
+        // 이 인스턴스에는 바로 반영
+        cachedChanges.put(email, new CachedChange(changedAt, System.currentTimeMillis()));
+    }
+
+    /**
+     * 토큰이 마지막 권한 변경 이전에 발급되었는지 확인
+     * @param principal Access Token 클레임
+     * @return 변경 이전에 발급되었거나 확인할 수 없으면 true
+     */
+    public boolean isIssuedBeforeChange(JwtPrincipal principal) {
+        long changedAt = changedAt(principal.email());
+        return changedAt != NOT_CHANGED && principal.issuedAt() <= changedAt;
+    }
+
+    /**
+     * 보관 기간이 지난 조회 결과 정리
+     */
+    @Scheduled(fixedDelayString = "${jwt.stateless-auth.role-change-cache-purge-ms:60000}")
+    public void purgeExpired() {
+        long now = System.currentTimeMillis();
+        cachedChanges.values().removeIf(cached -> now - cached.fetchedAt() >= cacheMillis);
+    }
+
+    private long changedAt(String email) {
+        long now = System.currentTimeMillis();
+        CachedChange cached = cachedChanges.get(email);
+        if (cached != null && now - cached.fetchedAt() < cacheMillis) {
+            return cached.changedAt();
+        }
+
+        long changedAt;
+        try {
+            String value = redisUtil.getData(KEY_PREFIX + email);
+            changedAt = value == null ? NOT_CHANGED : Long.parseLong(value);
+        } catch (Exception e) {
+            log.warn("권한 변경 시각 조회 실패, DB에서 권한 조회: {}", e.getMessage());
+            changedAt = UNKNOWN;
+        }
+
+        if (cacheMillis > 0) {
+            cachedChanges.put(email, new CachedChange(changedAt, now));
+        }
+        return changedAt;
+    }
+
+    private record CachedChange(long changedAt, long fetchedAt) {
+    }
+}
@@ -0,0 +1,342 @@
+package com.example.integration.common.config.search;
+
+import com.example.integration.common.util.SearchTokenizer;
+import com.example.integration.dto.sentence.SentenceSearchItemDto;
+import com.example.integration.dto.sentenceSet.SentenceSetSearchResultDto;
+
+import java.time.LocalDate;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+/**
+ * 공용 문장 세트 검색용 역색인 (문장 세트 하나가 문서 하나)
+ * <p>
+ * - 제목과 문장의 content/meaning을 {@link SearchTokenizer}의 n-gram으로 색인하고, BM25로 순위를 매깁니다.
+ * - 제목의 n-gram은 TITLE_WEIGHT배의 빈도로 계산하여 제목 일치가 문장 일치보다 높게 평가됩니다.
+ * - 검색어 n-gram 중 minMatchRatio 이상만 일치해도 결과에 포함되므로 한두 글자의 오타를 허용합니다.
+ * - 문장 하나가 바뀌면 그 문장의 n-gram만 색인에 반영합니다.
+ */
+public class SentenceSetSearchIndex {
+
+    private static final int TITLE_WEIGHT = 3;
+    private static final double K1 = 1.2;
+    private static final double B = 0.75;
+
+    // 한 글자 검색어는 그 글자로 시작하는 n-gram으로 확장 (너무 흔한 글자는 일부만 사용)
+    private static final int MAX_PREFIX_EXPANSION = 64;
+
+    private static final int SNIPPET_LENGTH = 80;
+    private static final int SNIPPET_LEAD = 20;
+
+    private final ReentrantReadWriteLock lock = new ReentrantReadWriteLock();
+    private final Map<Long, Document> documents = new HashMap<>();
+    // n-gram -> (문장 세트 id -> 가중 빈도), 한 글자 검색어의 앞 글자 확장을 위해 정렬된 맵 사용
+    private final TreeMap<String, Map<Long, Integer>> postings = new TreeMap<>();
+    private long totalLength;
+
+    /**
+     * 문장 세트 색인 (이미 색인된 세트는 교체)
+     * @param sentenceSetId
+     * @param title
+     * @param createdAt
+     * @param sentences 세트에 포함된 문장 목록
+     */
+    public void putSentenceSet(Long sentenceSetId, String title, LocalDate createdAt, List<SentenceSearchItemDto> sentences) {
+        lock.writeLock().lock();
+        try {
+            removeDocument(sentenceSetId);
+
+            Document document = new Document(sentenceSetId, createdAt);
+            documents.put(sentenceSetId, document);
+
+            document.title = title;
+            document.titleTerms = termCounts(title, TITLE_WEIGHT);
+            addTerms(document, document.titleTerms, 1);
+
+            sentences.forEach(sentence -> putSentence(document, sentence));
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    /**
+     * 문장 세트를 색인에서 제거
+     * @param sentenceSetId
+     */
+    public void removeSentenceSet(Long sentenceSetId) {
+        lock.writeLock().lock();
+        try {
+            removeDocument(sentenceSetId);
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    /**
+     * 문장 추가/수정 반영 (색인되지 않은 문장 세트의 문장은 무시)
+     * @param sentence
+     */
+    public void putSentence(SentenceSearchItemDto sentence) {
+        lock.writeLock().lock();
+        try {
+            Document document = documents.get(sentence.sentenceSetId());
+            if (document != null) {
+                putSentence(document, sentence);
+            }
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    /**
+     * 문장 삭제 반영
+     * @param sentenceSetId
+     * @param sentenceId
+     */
+    public void removeSentence(Long sentenceSetId, Long sentenceId) {
+        lock.writeLock().lock();
+        try {
+            Document document = documents.get(sentenceSetId);
+            if (document != null) {
+                removeSentence(document, sentenceId);
+            }
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    public boolean contains(Long sentenceSetId) {
+        lock.readLock().lock();
+        try {
+            return documents.containsKey(sentenceSetId);
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    public int size() {
+        lock.readLock().lock();
+        try {
+            return documents.size();
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    /**
+     * BM25 점수 순으로 문장 세트 검색 (같은 점수는 최근 생성 순)
+     * @param query         검색어
+     * @param offset        건너뛸 결과 개수
+     * @param limit         조회할 개수
+     * @param minMatchRatio 결과에 포함되기 위해 일치해야 하는 검색어 n-gram 비율
+     * @return
+     */
+    public List<SentenceSetSearchResultDto> search(String query, int offset, int limit, double minMatchRatio) {
+        List<String> queryGrams = SearchTokenizer.tokenize(query).stream().distinct().toList();
+        if (queryGrams.isEmpty()) {
+            return List.of();
+        }
+
+        lock.readLock().lock();
+        try {
+            if (documents.isEmpty()) {
+                return List.of();
+            }
+
+            double averageLength = (double) totalLength / documents.size();
+            Map<Long, Candidate> candidates = new HashMap<>();
+
+            for (String gram : queryGrams) {
+                Map<Long, Integer> frequencies = frequenciesOf(gram);
+                if (frequencies.isEmpty()) {
+                    continue;
+                }
+
+                int documentFrequency = frequencies.size();
+                double idf = Math.log(1 + (documents.size() - documentFrequency + 0.5) / (documentFrequency + 0.5));
+
+                frequencies.forEach((sentenceSetId, frequency) -> {
+                    Candidate candidate = candidates.computeIfAbsent(sentenceSetId, id -> new Candidate(documents.get(id)));
+                    double lengthNorm = K1 * (1 - B + B * candidate.document.length / averageLength);
+
+                    candidate.score += idf * frequency * (K1 + 1) / (frequency + lengthNorm);
+                    candidate.matchedGrams++;
+                });
+            }
+
+            int minMatchedGrams = Math.max(1, (int) Math.ceil(queryGrams.size() * minMatchRatio));
+
+            return candidates.values().stream()
+                    .filter(candidate -> candidate.matchedGrams >= minMatchedGrams)
+                    .sorted(Comparator.comparingDouble((Candidate candidate) -> candidate.score).reversed()
+                            .thenComparing(candidate -> candidate.document.createdAt, Comparator.nullsLast(Comparator.reverseOrder()))
+                            .thenComparing(candidate -> candidate.document.id, Comparator.reverseOrder()))
+                    .skip(offset)
+                    .limit(limit)
+                    .map(candidate -> toResult(candidate, queryGrams))
+                    .toList();
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    // 검색어 n-gram의 문장 세트별 빈도 (한 글자는 그 글자로 시작하는 n-gram의 빈도를 합산)
+    private Map<Long, Integer> frequenciesOf(String gram) {
+        if (gram.length() > 1) {
+            return postings.getOrDefault(gram, Map.of());
+        }
+
+        Map<Long, Integer> merged = new HashMap<>();
+        postings.subMap(gram, true, gram + Character.MAX_VALUE, true).values().stream()
+                .limit(MAX_PREFIX_EXPANSION)
+                .forEach(frequencies -> frequencies.forEach((id, frequency) -> merged.merge(id, frequency, Integer::sum)));
+
+        return merged;
+    }
+
+    private void putSentence(Document document, SentenceSearchItemDto sentence) {
+        removeSentence(document, sentence.id());
+
+        Map<String, Integer> terms = termCounts(sentence.content(), 1);
+        termCounts(sentence.meaning(), 1).forEach((term, count) -> terms.merge(term, count, Integer::sum));
+
+        document.sentences.put(sentence.id(), sentence);
+        document.sentenceTerms.put(sentence.id(), terms);
+        addTerms(document, terms, 1);
+    }
+
+    private void removeSentence(Document document, Long sentenceId) {
+        document.sentences.remove(sentenceId);
+        Map<String, Integer> terms = document.sentenceTerms.remove(sentenceId);
+        if (terms != null) {
+            addTerms(document, terms, -1);
+        }
+    }
+
+    private void removeDocument(Long sentenceSetId) {
+        Document document = documents.remove(sentenceSetId);
+        if (document == null) {
+            return;
+        }
+
+        addTerms(document, document.titleTerms, -1);
+        document.sentenceTerms.values().forEach(terms -> addTerms(document, terms, -1));
+    }
+
+    // sign이 1이면 n-gram 빈도를 더하고, -1이면 뺌 (빈도가 0이 되면 색인에서 제거)
+    private void addTerms(Document document, Map<String, Integer> terms, int sign) {
+        terms.forEach((term, count) -> {
+            Map<Long, Integer> frequencies = postings.computeIfAbsent(term, key -> new HashMap<>());
+            frequencies.merge(document.id, sign * count, (previous, delta) -> previous + delta == 0 ? null : previous + delta);
+            if (frequencies.isEmpty()) {
+                postings.remove(term);
+            }
+
+            document.length += sign * count;
+            totalLength += sign * count;
+        });
+    }
+
+    private static Map<String, Integer> termCounts(String text, int weight) {
+        Map<String, Integer> counts = new HashMap<>();
+        SearchTokenizer.tokenize(text).forEach(gram -> counts.merge(gram, weight, Integer::sum));
+        return counts;
+    }
+
+    private SentenceSetSearchResultDto toResult(Candidate candidate, List<String> queryGrams) {
+        Document document = candidate.document;
+        return new SentenceSetSearchResultDto(
+                document.id,
+                document.title,
+                document.sentences.size(),
+                document.createdAt,
+                candidate.score,
+                snippet(document, queryGrams)
+        );
+    }
+
+    // 검색어 n-gram이 가장 많이 포함된 문장(content/meaning)의 일치 위치 주변
+    private static String snippet(Document document, List<String> queryGrams) {
+        String best = null;
+        int bestMatches = 0;
+
+        for (SentenceSearchItemDto sentence : document.sentences.values()) {
+            for (String text : new String[]{sentence.content(), sentence.meaning()}) {
+                int matches = countMatches(text, queryGrams);
+                if (matches > bestMatches) {
+                    best = text;
+                    bestMatches = matches;
+                }
+            }
+        }
+
+        return best == null ? null : excerpt(best, queryGrams);
+    }
+
+    private static int countMatches(String text, List<String> queryGrams) {
+        if (text == null) {
+            return 0;
+        }
+
+        String normalized = text.toLowerCase(Locale.ROOT);
+        int matches = 0;
+        for (String gram : queryGrams) {
+            if (normalized.contains(gram)) {
+                matches++;
+            }
+        }
+        return matches;
+    }
+
+    private static String excerpt(String text, List<String> queryGrams) {
+        if (text.length() <= SNIPPET_LENGTH) {
+            return text;
+        }
+
+        String normalized = text.toLowerCase(Locale.ROOT);
+        int firstMatch = text.length();
+        for (String gram : queryGrams) {
+            int index = normalized.indexOf(gram);
+            if (index >= 0) {
+                firstMatch = Math.min(firstMatch, index);
+            }
+        }
+
+        int start = Math.max(0, Math.min(firstMatch - SNIPPET_LEAD, text.length() - SNIPPET_LENGTH));
+        int end = Math.min(text.length(), start + SNIPPET_LENGTH);
+
+        return (start > 0 ? "…" : "") + text.substring(start, end) + (end < text.length() ? "…" : "");
+    }
+
+    private static final class Document {
+        private final Long id;
+        private final LocalDate createdAt;
+        private String title;
+        private Map<String, Integer> titleTerms = Map.of();
+        private final Map<Long, SentenceSearchItemDto> sentences = new LinkedHashMap<>();
+        private final Map<Long, Map<String, Integer>> sentenceTerms = new HashMap<>();
+        // 가중 n-gram 개수 (BM25 문서 길이)
+        private int length;
+
+        private Document(Long id, LocalDate createdAt) {
+            this.id = id;
+            this.createdAt = createdAt;
+        }
+    }
+
+    private static final class Candidate {
+        private final Document document;
+        private double score;
+        private int matchedGrams;
+
+        private Candidate(Document document) {
+            this.document = document;
+        }
+    }
+}
@@ -0,0 +1,133 @@
+package com.example.integration.common.config.tts;
+
+import com.example.integration.common.enums.tts.AudioFormat;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpRange;
+import org.springframework.stereotype.Component;
+
+import java.io.IOException;
+import java.nio.channels.Channels;
+import java.nio.channels.FileChannel;
+import java.nio.channels.WritableByteChannel;
+import java.nio.file.Files;
+import java.nio.file.StandardOpenOption;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 캐시된 음성 파일을 힙에 올리지 않고 응답으로 전송합니다.
+ * <p>
+ * - Range 요청(단일 구간)은 206 Partial Content로 응답하여 플레이어가 다시 받지 않고 탐색할 수 있습니다.
+ * - Tomcat이 sendfile을 지원하면 커널의 sendfile로, 그렇지 않으면 {@link FileChannel#transferTo}로 전송합니다.
+ * - 내용 기반 키를 ETag로 사용하므로 같은 음성은 클라이언트 캐시에서 재사용됩니다.
+ * - 인코딩별 전송 바이트를 'tts.audio.bytes.served' 지표로 집계하여 인코딩에 따른 대역폭 절감을 확인할 수 있습니다.
+ */
+@Slf4j
+@Component
+public class AudioFileStreamer {
+
+    private static final String SENDFILE_SUPPORT = "org.apache.tomcat.sendfile.support";
+    private static final String SENDFILE_FILENAME = "org.apache.tomcat.sendfile.filename";
+    private static final String SENDFILE_START = "org.apache.tomcat.sendfile.start";
+    private static final String SENDFILE_END = "org.apache.tomcat.sendfile.end";
+
+    // 같은 키의 음성은 바뀌지 않으므로 오래 캐시
+    private static final String CACHE_CONTROL = "private, max-age=31536000, immutable";
+
+    private final Map<AudioFormat, Counter> servedBytes = new EnumMap<>(AudioFormat.class);
+
+    public AudioFileStreamer(MeterRegistry meterRegistry) {
+        for (AudioFormat format : AudioFormat.values()) {
+            servedBytes.put(format, Counter.builder("tts.audio.bytes.served")
+                    .tag("format", format.name())
+                    .baseUnit("bytes")
+                    .register(meterRegistry));
+        }
+    }
+
+    /**
+     * 음성 파일을 응답으로 전송
+     * @param audioFile 전송할 캐시 파일
+     * @param request
+     * @param response
+     * @throws IOException 파일 전송 중 오류가 발생한 경우
+     */
+    public void stream(TtsAudioFile audioFile, HttpServletRequest request, HttpServletResponse response) throws IOException {
+        long fileLength = Files.size(audioFile.path());
+        String etag = "\"" + audioFile.cacheKey() + "\"";
+
+        response.setHeader(HttpHeaders.ETAG, etag);
+        response.setHeader(HttpHeaders.CACHE_CONTROL, CACHE_CONTROL);
+        response.setHeader(HttpHeaders.ACCEPT_RANGES, "bytes");
+        response.setContentType(audioFile.format().getMediaType());
+
+        // 클라이언트가 같은 음성을 이미 가지고 있는 경우
+        if (etag.equals(request.getHeader(HttpHeaders.IF_NONE_MATCH))) {
+            response.setStatus(HttpServletResponse.SC_NOT_MODIFIED);
+            return;
+        }
+
+        long start = 0;
+        long end = fileLength - 1;
+
+        String rangeHeader = request.getHeader(HttpHeaders.RANGE);
+        String ifRange = request.getHeader(HttpHeaders.IF_RANGE);
+
+        // If-Range가 현재 ETag와 다르면 전체 응답
+        if (rangeHeader != null && (ifRange == null || ifRange.equals(etag))) {
+            try {
+                List<HttpRange> ranges = HttpRange.parseRanges(rangeHeader);
+
+                // 다중 구간 요청은 전체 응답으로 처리 (RFC 9110 허용)
+                if (ranges.size() == 1) {
+                    start = ranges.get(0).getRangeStart(fileLength);
+                    end = ranges.get(0).getRangeEnd(fileLength);
+                    response.setStatus(HttpServletResponse.SC_PARTIAL_CONTENT);
+                    response.setHeader(HttpHeaders.CONTENT_RANGE, "bytes " + start + "-" + end + "/" + fileLength);
+                }
+            } catch (IllegalArgumentException e) {
+                response.setStatus(HttpServletResponse.SC_REQUESTED_RANGE_NOT_SATISFIABLE);
+                response.setHeader(HttpHeaders.CONTENT_RANGE, "bytes */" + fileLength);
+                return;
+            }
+        }
+
+        long length = end - start + 1;
+        response.setContentLengthLong(length);
+
+        if ("HEAD".equals(request.getMethod())) {
+            return;
+        }
+
+        servedBytes.get(audioFile.format()).increment(length);
+
+        // Tomcat sendfile: 응답 본문을 직접 쓰지 않고 컨테이너가 커널 sendfile로 전송
+        if (Boolean.TRUE.equals(request.getAttribute(SENDFILE_SUPPORT))) {
+            request.setAttribute(SENDFILE_FILENAME, audioFile.path().toAbsolutePath().toString());
+            request.setAttribute(SENDFILE_START, start);
+            request.setAttribute(SENDFILE_END, end + 1);
+            return;
+        }
+
+        try (FileChannel channel = FileChannel.open(audioFile.path(), StandardOpenOption.READ)) {
+            WritableByteChannel out = Channels.newChannel(response.getOutputStream());
+
+            long position = start;
+            long remaining = length;
+            while (remaining > 0) {
+                long transferred = channel.transferTo(position, remaining, out);
+                if (transferred <= 0) {
+                    break;
+                }
+                position += transferred;
+                remaining -= transferred;
+            }
+        }
+    }
+}
@@ -0,0 +1,186 @@
+package com.example.integration.common.config.tts;
+
+import com.example.integration.common.enums.tts.AudioFormat;
+import com.example.integration.common.util.Mp3Util;
+import com.google.api.core.ApiFuture;
+import com.google.api.gax.rpc.ApiException;
+import com.google.cloud.texttospeech.v1.AudioConfig;
+import com.google.cloud.texttospeech.v1.SynthesisInput;
+import com.google.cloud.texttospeech.v1.SynthesizeSpeechResponse;
+import com.google.cloud.texttospeech.v1.TextToSpeechClient;
+import com.google.cloud.texttospeech.v1.VoiceSelectionParams;
+import com.google.cloud.texttospeech.v1beta1.SynthesizeSpeechRequest;
+import com.google.cloud.texttospeech.v1beta1.Timepoint;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.annotation.Profile;
+import org.springframework.stereotype.Component;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ExecutionException;
+
+/**
+ * Google Cloud Text-to-Speech API를 사용하는 TTS 백엔드
+ * <p>
+ * - blocking 호출은 스레드가 인터럽트되어도 gRPC 호출이 취소되지 않으므로, 비동기로 호출한 뒤 응답을 기다립니다.
+ *   기다리는 중 인터럽트되면({@link TtsCallPolicy}의 기한 초과 등) gRPC 호출을 취소하여 upstream 요청과 호출 스레드를 바로 정리합니다.
+ */
+@Slf4j
+@Profile("!local-tts")
+@RequiredArgsConstructor
+@Component
+public class GoogleTextToSpeechProvider implements TextToSpeechProvider {
+
+    private static final String MARK_PREFIX = "s";
+
+    // 문장 사이 간격 (잘린 음성의 끝에 짧은 무음이 남아 프레임 경계에서 잘려도 소리가 끊기지 않음)
+    private static final String SENTENCE_BREAK = "<break time=\"300ms\"/>";
+
+    private final TextToSpeechClientManager textToSpeechClientManager;
+
+    /**
+     * Google Cloud Text-to-Speech API를 사용하여 텍스트를 음성으로 변환합니다.
+     * <p>
+     * - 애플리케이션 시작 시 생성된 공유 클라이언트({@link TextToSpeechClientManager})를 사용합니다.
+     * - 지정된 언어, 음성, 인코딩 설정을 기반으로 TTS 요청을 수행합니다.
+     *
+     * @param spec 텍스트, 언어, 음성, 인코딩
+     * @return 변환된 음성 데이터
+     * @throws IOException API 호출 중 오류 발생 시
+     */
+    @Override
+    public byte[] synthesize(TtsAudioSpec spec) throws IOException {
+        TextToSpeechClient textToSpeechClient = textToSpeechClientManager.getClient();
+
+        try {
+            // 요청 내용 구성
+            SynthesisInput input = SynthesisInput.newBuilder()
+                    .setText(spec.text())
+                    .build();
+
+            // 음성 설정 (언어 코드, 음성 유형)
+            VoiceSelectionParams voice = VoiceSelectionParams.newBuilder()
+                    .setLanguageCode(spec.language().getCode()) // 언어 설정
+                    .setName(spec.voiceName().getName()) // 특정 음성 이름 설정
+                    .build();
+
+            // 오디오 출력 형식 설정
+            AudioConfig audioConfig = AudioConfig.newBuilder()
+                    .setAudioEncoding(spec.format().getEncoding())
+                    .build();
+
+            com.google.cloud.texttospeech.v1.SynthesizeSpeechRequest request = com.google.cloud.texttospeech.v1.SynthesizeSpeechRequest.newBuilder()
+                    .setInput(input)
+                    .setVoice(voice)
+                    .setAudioConfig(audioConfig)
+                    .build();
+
+            // TTS 요청
+            SynthesizeSpeechResponse response = await(textToSpeechClient.synthesizeSpeechCallable().futureCall(request));
+
+            return response.getAudioContent().toByteArray();
+        } catch (ApiException e) {
+            throw new IOException("Text-to-Speech API 호출 중 오류 발생: " + e.getMessage(), e);
+        }
+    }
+
+    /**
+     * 여러 문장을 하나의 SSML 요청으로 합성한 뒤 문장별 음성으로 자릅니다.
+     * <p>
+     * - 문장마다 앞에 &lt;mark&gt;를 넣고, 응답의 mark 시각(timepoint)에서 MP3 프레임 경계에 맞춰 자릅니다.
+     * - timepoint는 v1beta1 API에서만 제공되므로 v1beta1 클라이언트를 사용합니다.
+     * - MP3가 아니거나 mark 시각을 모두 받지 못한 경우 문장마다 합성합니다.
+     *
+     * @param specs 언어/음성/인코딩이 같은 문장 목록
+     * @return 입력 순서와 같은 순서의 문장별 음성
+     * @throws IOException API 호출 중 오류 발생 시
+     */
+    @Override
+    public List<byte[]> synthesizeBatch(List<TtsAudioSpec> specs) throws IOException {
+        if (specs.size() <= 1 || specs.get(0).format() != AudioFormat.MP3) {
+            return TextToSpeechProvider.super.synthesizeBatch(specs);
+        }
+
+        TtsAudioSpec first = specs.get(0);
+
+        try {
+            SynthesizeSpeechRequest request = SynthesizeSpeechRequest.newBuilder()
+                    .setInput(com.google.cloud.texttospeech.v1beta1.SynthesisInput.newBuilder()
+                            .setSsml(toMarkedSsml(specs)))
+                    .setVoice(com.google.cloud.texttospeech.v1beta1.VoiceSelectionParams.newBuilder()
+                            .setLanguageCode(first.language().getCode())
+                            .setName(first.voiceName().getName()))
+                    .setAudioConfig(com.google.cloud.texttospeech.v1beta1.AudioConfig.newBuilder()
+                            .setAudioEncoding(com.google.cloud.texttospeech.v1beta1.AudioEncoding.MP3))
+                    .addEnableTimePointing(SynthesizeSpeechRequest.TimepointType.SSML_MARK)
+                    .build();
+
+            com.google.cloud.texttospeech.v1beta1.SynthesizeSpeechResponse response =
+                    await(textToSpeechClientManager.getBetaClient().synthesizeSpeechCallable().futureCall(request));
+
+            Map<String, Double> markSeconds = new HashMap<>();
+            for (Timepoint timepoint : response.getTimepointsList()) {
+                markSeconds.put(timepoint.getMarkName(), timepoint.getTimeSeconds());
+            }
+
+            // 첫 문장은 0초에서 시작하므로 두 번째 문장부터의 시각에서 자름
+            List<Double> cutSeconds = new ArrayList<>(specs.size() - 1);
+            for (int i = 1; i < specs.size(); i++) {
+                Double seconds = markSeconds.get(MARK_PREFIX + i);
+                if (seconds == null) {
+                    log.warn("TTS 묶음 합성 응답에 mark 시각이 없어 문장별로 합성합니다. (mark: {}{})", MARK_PREFIX, i);
+                    return TextToSpeechProvider.super.synthesizeBatch(specs);
+                }
+                cutSeconds.add(seconds);
+            }
+
+            return Mp3Util.sliceAt(response.getAudioContent().toByteArray(), cutSeconds);
+        } catch (ApiException e) {
+            throw new IOException("Text-to-Speech API 호출 중 오류 발생: " + e.getMessage(), e);
+        } catch (IllegalArgumentException e) {
+            throw new IOException("TTS 묶음 합성 음성을 자르지 못했습니다: " + e.getMessage(), e);
+        }
+    }
+
+    // 응답 대기 (인터럽트되거나 대기가 끝나면 진행 중인 gRPC 호출을 취소, 이미 끝난 호출에는 영향 없음)
+    private static <T> T await(ApiFuture<T> future) throws IOException {
+        try {
+            return future.get();
+        } catch (ExecutionException e) {
+            if (e.getCause() instanceof ApiException cause) {
+                throw cause;
+            }
+            if (e.getCause() instanceof RuntimeException cause) {
+                throw cause;
+            }
+            throw new IOException("Text-to-Speech API 호출 중 오류 발생: " + e.getCause().getMessage(), e.getCause());
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IOException("Text-to-Speech API 호출이 중단되었습니다.", e);
+        } finally {
+            future.cancel(true);
+        }
+    }
+
+    private static String toMarkedSsml(List<TtsAudioSpec> specs) {
+        StringBuilder ssml = new StringBuilder("<speak>");
+        for (int i = 0; i < specs.size(); i++) {
+            ssml.append("<mark name=\"").append(MARK_PREFIX).append(i).append("\"/>")
+                    .append(escapeSsml(specs.get(i).text()))
+                    .append(SENTENCE_BREAK);
+        }
+        return ssml.append("</speak>").toString();
+    }
+
+    private static String escapeSsml(String text) {
+        return text.replace("&", "&amp;")
+                .replace("<", "&lt;")
+                .replace(">", "&gt;")
+                .replace("\"", "&quot;")
+                .replace("'", "&apos;");
+    }
+}
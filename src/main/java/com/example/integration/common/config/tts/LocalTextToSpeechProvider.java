@@ -0,0 +1,95 @@
+package com.example.integration.common.config.tts;
+
+import com.example.integration.common.util.HashUtil;
+import com.google.api.gax.grpc.GrpcStatusCode;
+import com.google.api.gax.rpc.UnavailableException;
+import io.grpc.Status;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Profile;
+import org.springframework.stereotype.Component;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.HexFormat;
+import java.util.concurrent.ThreadLocalRandom;
+
+/**
+ * 외부 API 없이 동작하는 로컬 TTS 백엔드 ('local-tts' 프로필)
+ * <p>
+ * - 텍스트 길이에 비례하는 무음 MP3 프레임(MPEG-1 Layer III, 128kbps, 44.1kHz, mono)을 생성합니다.
+ * - 같은 입력에는 항상 같은 바이트를 반환하므로 캐시/동시 요청 병합 동작을 그대로 검증할 수 있습니다.
+ * - 요청 인코딩과 관계없이 MP3 프레임을 반환하므로, 인코딩별 크기 비교에는 사용할 수 없습니다.
+ * - 응답 지연과 오류 비율을 설정하여 부하 테스트에서 실제 API와 비슷한 조건을 만들 수 있습니다.
+ *   (오류는 실제 API의 일시적 오류처럼 UNAVAILABLE로 반환되어 재시도 대상이 됩니다)
+ */
+@Slf4j
+@Profile("local-tts")
+@Component
+public class LocalTextToSpeechProvider implements TextToSpeechProvider {
+
+    // MPEG-1 Layer III, 128kbps, 44.1kHz, 패딩 없음, mono 프레임 헤더
+    private static final byte[] MP3_FRAME_HEADER = {(byte) 0xFF, (byte) 0xFB, (byte) 0x90, (byte) 0xC4};
+    private static final int MP3_FRAME_LENGTH = 417;
+
+    // 한 글자당 약 65ms (프레임 하나는 약 26ms)
+    private static final double FRAMES_PER_CHARACTER = 2.5;
+
+    private final long latencyMillis;
+    private final long latencyJitterMillis;
+    private final double errorRate;
+
+    public LocalTextToSpeechProvider(
+            @Value("${tts.local.latency-ms:150}") long latencyMillis,
+            @Value("${tts.local.latency-jitter-ms:0}") long latencyJitterMillis,
+            @Value("${tts.local.error-rate:0.0}") double errorRate
+    ) {
+        this.latencyMillis = latencyMillis;
+        this.latencyJitterMillis = latencyJitterMillis;
+        this.errorRate = errorRate;
+
+        log.info("로컬 TTS 백엔드 사용 (latency: {}ms ± {}ms, error rate: {})", latencyMillis, latencyJitterMillis, errorRate);
+    }
+
+    @Override
+    public byte[] synthesize(TtsAudioSpec spec) throws IOException {
+        simulateLatency();
+
+        if (errorRate > 0 && ThreadLocalRandom.current().nextDouble() < errorRate) {
+            String message = "로컬 TTS 백엔드 오류 (설정된 오류 비율: " + errorRate + ")";
+            throw new IOException(message, new UnavailableException(message, null, GrpcStatusCode.of(Status.Code.UNAVAILABLE), true));
+        }
+
+        return generateMp3Frames(spec);
+    }
+
+    private void simulateLatency() throws IOException {
+        long jitter = latencyJitterMillis > 0 ? ThreadLocalRandom.current().nextLong(-latencyJitterMillis, latencyJitterMillis + 1) : 0;
+        long delay = Math.max(latencyMillis + jitter, 0);
+
+        try {
+            Thread.sleep(delay);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IOException("로컬 TTS 합성이 중단되었습니다.", e);
+        }
+    }
+
+    /**
+     * 텍스트 길이만큼의 무음 MP3 프레임 생성
+     * 첫 프레임의 보조 데이터 영역에 캐시 키를 기록하여 입력마다 결과가 구분되도록 함
+     */
+    private byte[] generateMp3Frames(TtsAudioSpec spec) {
+        int frameCount = Math.max(1, (int) Math.ceil(spec.text().length() * FRAMES_PER_CHARACTER));
+        byte[] audio = new byte[frameCount * MP3_FRAME_LENGTH];
+
+        for (int frame = 0; frame < frameCount; frame++) {
+            System.arraycopy(MP3_FRAME_HEADER, 0, audio, frame * MP3_FRAME_LENGTH, MP3_FRAME_HEADER.length);
+        }
+
+        byte[] marker = HexFormat.of().parseHex(HashUtil.sha256Hex(spec.cacheKey().getBytes(StandardCharsets.UTF_8)));
+        System.arraycopy(marker, 0, audio, MP3_FRAME_LENGTH - marker.length, marker.length);
+
+        return audio;
+    }
+}
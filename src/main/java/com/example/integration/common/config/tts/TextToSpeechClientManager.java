@@ -0,0 +1,195 @@
+package com.example.integration.common.config.tts;
+
+import com.google.api.gax.core.BackgroundResource;
+import com.google.api.gax.core.FixedCredentialsProvider;
+import com.google.api.gax.grpc.ChannelPoolSettings;
+import com.google.auth.oauth2.AccessToken;
+import com.google.auth.oauth2.GoogleCredentials;
+import com.google.cloud.texttospeech.v1.TextToSpeechClient;
+import com.google.cloud.texttospeech.v1.TextToSpeechSettings;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Profile;
+import org.springframework.stereotype.Component;
+
+import java.io.FileInputStream;
+import java.io.IOException;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Google Cloud Text-to-Speech 클라이언트를 애플리케이션 전체에서 하나만 생성하여 공유합니다.
+ * <p>
+ * - 애플리케이션 시작 시 서비스 계정 키를 한 번만 읽고, gRPC 채널 풀을 설정 값 크기로 생성합니다.
+ * - 액세스 토큰은 만료되기 전에 백그라운드에서 미리 갱신하여 요청 스레드가 토큰 발급을 기다리지 않도록 합니다.
+ * - SSML mark 시각(timepoint)이 필요한 묶음 합성을 위해 v1beta1 클라이언트도 함께 생성합니다.
+ * - 애플리케이션 종료 시 채널을 정상적으로 닫습니다.
+ */
+@Slf4j
+@Profile("!local-tts")
+@Component
+public class TextToSpeechClientManager {
+
+    private final TextToSpeechMetrics textToSpeechMetrics;
+    private final int channelPoolSize;
+    private final long refreshCheckIntervalSeconds;
+    private final long refreshMarginSeconds;
+
+    private final ScheduledExecutorService credentialsRefresher = Executors.newSingleThreadScheduledExecutor(runnable -> {
+        Thread thread = new Thread(runnable, "tts-credentials-refresher");
+        thread.setDaemon(true);
+        return thread;
+    });
+
+    private volatile GoogleCredentials credentials;
+    private volatile TextToSpeechClient client;
+    private volatile com.google.cloud.texttospeech.v1beta1.TextToSpeechClient betaClient;
+
+    public TextToSpeechClientManager(
+            TextToSpeechMetrics textToSpeechMetrics,
+            @Value("${tts.client.channel-pool-size:4}") int channelPoolSize,
+            @Value("${tts.client.credentials-refresh-check-seconds:60}") long refreshCheckIntervalSeconds,
+            @Value("${tts.client.credentials-refresh-margin-seconds:600}") long refreshMarginSeconds
+    ) {
+        this.textToSpeechMetrics = textToSpeechMetrics;
+        this.channelPoolSize = channelPoolSize;
+        this.refreshCheckIntervalSeconds = refreshCheckIntervalSeconds;
+        this.refreshMarginSeconds = refreshMarginSeconds;
+    }
+
+    /**
+     * 서비스 계정 키 로드 및 클라이언트 생성
+     * 환경 변수가 없으면 애플리케이션은 그대로 기동하고, TTS 호출 시점에 오류를 반환합니다.
+     */
+    @PostConstruct
+    public void init() {
+        // 시스템 환경 변수에서 서비스 계정 키 파일 경로 가져오기
+        String credentialsPath = System.getenv("GOOGLE_APPLICATION_CREDENTIALS");
+        if (credentialsPath == null) {
+            log.warn("환경 변수 'GOOGLE_APPLICATION_CREDENTIALS'가 설정되지 않아 TTS 클라이언트를 생성하지 않습니다.");
+            return;
+        }
+
+        long initStart = textToSpeechMetrics.start();
+        try {
+            // 인증 정보 로드 (토큰을 직접 갱신하기 위해 scope 지정)
+            GoogleCredentials loaded;
+            try (FileInputStream serviceAccountStream = new FileInputStream(credentialsPath)) {
+                loaded = GoogleCredentials.fromStream(serviceAccountStream);
+            }
+            if (loaded.createScopedRequired()) {
+                loaded = loaded.createScoped(TextToSpeechSettings.getDefaultServiceScopes());
+            }
+            loaded.refreshIfExpired();
+            this.credentials = loaded;
+
+            // 채널 풀 크기를 고정한 Text-to-Speech 클라이언트 생성
+            TextToSpeechSettings settings = TextToSpeechSettings.newBuilder()
+                    .setCredentialsProvider(FixedCredentialsProvider.create(credentials))
+                    .setTransportChannelProvider(TextToSpeechSettings.defaultGrpcTransportProviderBuilder()
+                            .setChannelPoolSettings(ChannelPoolSettings.staticallySized(channelPoolSize))
+                            .build())
+                    .build();
+            this.client = TextToSpeechClient.create(settings);
+
+            // 묶음 합성용 v1beta1 클라이언트 (timepoint 지원)
+            com.google.cloud.texttospeech.v1beta1.TextToSpeechSettings betaSettings =
+                    com.google.cloud.texttospeech.v1beta1.TextToSpeechSettings.newBuilder()
+                            .setCredentialsProvider(FixedCredentialsProvider.create(credentials))
+                            .setTransportChannelProvider(com.google.cloud.texttospeech.v1beta1.TextToSpeechSettings.defaultGrpcTransportProviderBuilder()
+                                    .setChannelPoolSettings(ChannelPoolSettings.staticallySized(channelPoolSize))
+                                    .build())
+                            .build();
+            this.betaClient = com.google.cloud.texttospeech.v1beta1.TextToSpeechClient.create(betaSettings);
+
+            credentialsRefresher.scheduleWithFixedDelay(this::refreshCredentialsIfNeeded,
+                    refreshCheckIntervalSeconds, refreshCheckIntervalSeconds, TimeUnit.SECONDS);
+
+            textToSpeechMetrics.recordPhase(TextToSpeechMetrics.PHASE_CLIENT_INIT, initStart);
+            log.info("TTS 클라이언트 생성 완료 (channel pool size: {})", channelPoolSize);
+        } catch (IOException e) {
+            log.error("TTS 클라이언트 생성 실패: {}", e.getMessage(), e);
+        }
+    }
+
+    /**
+     * 공유 클라이언트 반환
+     * @return 애플리케이션 시작 시 생성된 TextToSpeechClient
+     */
+    public TextToSpeechClient getClient() {
+        TextToSpeechClient current = client;
+        if (current == null) {
+            throw new IllegalStateException("TTS 클라이언트가 초기화되지 않았습니다. 'GOOGLE_APPLICATION_CREDENTIALS'를 확인하세요.");
+        }
+        return current;
+    }
+
+    /**
+     * 묶음 합성용 v1beta1 공유 클라이언트 반환
+     * @return 애플리케이션 시작 시 생성된 v1beta1 TextToSpeechClient
+     */
+    public com.google.cloud.texttospeech.v1beta1.TextToSpeechClient getBetaClient() {
+        com.google.cloud.texttospeech.v1beta1.TextToSpeechClient current = betaClient;
+        if (current == null) {
+            throw new IllegalStateException("TTS 클라이언트가 초기화되지 않았습니다. 'GOOGLE_APPLICATION_CREDENTIALS'를 확인하세요.");
+        }
+        return current;
+    }
+
+    /**
+     * 액세스 토큰이 만료 임박(refresh margin 이내)이면 미리 갱신
+     */
+    private void refreshCredentialsIfNeeded() {
+        try {
+            AccessToken token = credentials.getAccessToken();
+            Instant refreshAt = Instant.now().plus(Duration.ofSeconds(refreshMarginSeconds));
+
+            if (token == null || token.getExpirationTime() == null
+                    || token.getExpirationTime().toInstant().isBefore(refreshAt)) {
+                credentials.refresh();
+                log.info("TTS 액세스 토큰 갱신 완료");
+            }
+        } catch (Exception e) {
+            // 다음 주기에 다시 시도, 실패하더라도 요청 경로에서 라이브러리가 자체 갱신
+            log.warn("TTS 액세스 토큰 갱신 실패: {}", e.getMessage());
+        }
+    }
+
+    /**
+     * 애플리케이션 종료 시 토큰 갱신 스레드와 gRPC 채널 정리
+     */
+    @PreDestroy
+    public void close() {
+        credentialsRefresher.shutdownNow();
+
+        shutdown(client);
+        shutdown(betaClient);
+    }
+
+    private void shutdown(BackgroundResource current) {
+        if (current == null) {
+            return;
+        }
+
+        current.shutdown();
+        try {
+            if (!current.awaitTermination(5, TimeUnit.SECONDS)) {
+                current.shutdownNow();
+            }
+        } catch (InterruptedException e) {
+            current.shutdownNow();
+            Thread.currentThread().interrupt();
+        }
+        try {
+            current.close();
+        } catch (Exception e) {
+            log.warn("TTS 클라이언트 종료 실패: {}", e.getMessage());
+        }
+        log.info("TTS 클라이언트 종료");
+    }
+}
@@ -0,0 +1,115 @@
+package com.example.integration.common.config.tts;
+
+import com.example.integration.common.response.CustomException;
+import com.google.api.gax.rpc.ApiException;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+
+/**
+ * TTS 요청 처리 지표 (Actuator의 /actuator/metrics로 노출)
+ * <p>
+ * - tts.request.phase{phase}: 단계별 처리 시간 (cache_lookup, upstream, stream, client_init)
+ * - tts.request.duration{endpoint}: 엔드포인트별 전체 처리 시간
+ * - tts.characters.synthesized{language, voice}: 외부 API로 보낸(과금되는) 글자 수
+ * - tts.audio.bytes.synthesized{format}: 합성된 음성 크기
+ * - tts.errors{status}: gRPC 상태 코드별 오류 수
+ */
+@Component
+@RequiredArgsConstructor
+public class TextToSpeechMetrics {
+
+    public static final String PHASE_CACHE_LOOKUP = "cache_lookup";
+    public static final String PHASE_UPSTREAM = "upstream";
+    public static final String PHASE_STREAM = "stream";
+    public static final String PHASE_CLIENT_INIT = "client_init";
+
+    private final MeterRegistry meterRegistry;
+
+    /**
+     * 시작 시각 (recordPhase/recordRequest에 전달)
+     * @return
+     */
+    public long start() {
+        return System.nanoTime();
+    }
+
+    /**
+     * 단계별 처리 시간 기록
+     * @param phase     단계 이름
+     * @param startNanos {@link #start()}로 얻은 시작 시각
+     */
+    public void recordPhase(String phase, long startNanos) {
+        Timer.builder("tts.request.phase")
+                .tag("phase", phase)
+                .publishPercentiles(0.5, 0.95, 0.99)
+                .publishPercentileHistogram()
+                .register(meterRegistry)
+                .record(System.nanoTime() - startNanos, TimeUnit.NANOSECONDS);
+    }
+
+    /**
+     * 엔드포인트별 전체 처리 시간 기록
+     * @param endpoint   엔드포인트 이름
+     * @param startNanos {@link #start()}로 얻은 시작 시각
+     */
+    public void recordRequest(String endpoint, long startNanos) {
+        Timer.builder("tts.request.duration")
+                .tag("endpoint", endpoint)
+                .publishPercentiles(0.5, 0.95, 0.99)
+                .publishPercentileHistogram()
+                .register(meterRegistry)
+                .record(System.nanoTime() - startNanos, TimeUnit.NANOSECONDS);
+    }
+
+    /**
+     * 외부 API로 합성한 결과 기록 (글자 수, 음성 크기)
+     * @param spec  합성한 음성 정보
+     * @param audio 합성된 음성
+     */
+    public void recordSynthesized(TtsAudioSpec spec, byte[] audio) {
+        Counter.builder("tts.characters.synthesized")
+                .tag("language", spec.language().getCode())
+                .tag("voice", spec.voiceName().getName())
+                .register(meterRegistry)
+                .increment(spec.text().length());
+
+        DistributionSummary.builder("tts.audio.bytes.synthesized")
+                .tag("format", spec.format().name())
+                .baseUnit("bytes")
+                .register(meterRegistry)
+                .record(audio.length);
+    }
+
+    /**
+     * 오류 기록 (API 오류는 gRPC 상태 코드, 그 외는 원인별로 분류)
+     * @param e
+     */
+    public void recordError(Throwable e) {
+        Counter.builder("tts.errors")
+                .tag("status", statusOf(e))
+                .register(meterRegistry)
+                .increment();
+    }
+
+    private static String statusOf(Throwable e) {
+        for (Throwable cause = e; cause != null; cause = cause.getCause()) {
+            if (cause instanceof ApiException apiException) {
+                return apiException.getStatusCode().getCode().name();
+            }
+            if (cause instanceof CustomException customException) {
+                return customException.getErrorCode().name();
+            }
+            if (cause instanceof TimeoutException) {
+                return "DEADLINE_EXCEEDED";
+            }
+        }
+        return "UNKNOWN";
+    }
+}
@@ -0,0 +1,36 @@
+package com.example.integration.common.config.tts;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * 텍스트를 음성으로 합성하는 TTS 백엔드
+ * <p>
+ * - 기본 프로필: Google Cloud Text-to-Speech ({@link GoogleTextToSpeechProvider})
+ * - 'local-tts' 프로필: 네트워크/인증 정보 없이 동작하는 로컬 합성기 ({@link LocalTextToSpeechProvider})
+ */
+public interface TextToSpeechProvider {
+
+    /**
+     * 음성 합성
+     * @param spec 텍스트, 언어, 음성, 인코딩
+     * @return 합성된 음성 바이트 배열
+     * @throws IOException 합성 API 호출 중 오류가 발생한 경우
+     */
+    byte[] synthesize(TtsAudioSpec spec) throws IOException;
+
+    /**
+     * 같은 언어/음성/인코딩의 여러 문장을 한 번에 합성 (기본 구현은 문장마다 호출)
+     * @param specs 언어/음성/인코딩이 같은 문장 목록
+     * @return 입력 순서와 같은 순서의 문장별 음성
+     * @throws IOException 합성 API 호출 중 오류가 발생한 경우
+     */
+    default List<byte[]> synthesizeBatch(List<TtsAudioSpec> specs) throws IOException {
+        List<byte[]> results = new ArrayList<>(specs.size());
+        for (TtsAudioSpec spec : specs) {
+            results.add(synthesize(spec));
+        }
+        return results;
+    }
+}
@@ -0,0 +1,358 @@
+package com.example.integration.common.config.tts;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PostConstruct;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.attribute.FileTime;
+import java.util.Comparator;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+/**
+ * 합성된 TTS 음성을 내용 기반 키({@link TtsAudioSpec#cacheKey()})로 저장하는 2단 캐시
+ * <p>
+ * - 메모리 계층: 자주 재생되는 음성을 바이트 예산 안에서 LRU로 유지합니다.
+ * - 디스크 계층: 설정된 디렉터리에 '{키}.{확장자}' 파일로 저장하고, 바이트 예산을 넘으면 오래 사용되지 않은 파일부터 삭제합니다.
+ * - 메모리 계층은 디스크 계층의 부분 집합입니다. 메모리 적중도 디스크의 사용 순서를 갱신하고, 디스크에서 제거된 음성은 메모리에서도 제거합니다.
+ *   (스트리밍은 디스크 파일을 사용하므로, 자주 재생되는 음성이 메모리에만 남아 파일을 찾지 못하는 일이 없도록)
+ * - 적중률, 보유 바이트, 제거 횟수를 Micrometer 지표로 노출합니다.
+ */
+@Slf4j
+@Component
+public class TtsAudioCache {
+
+    private static final String TEMP_SUFFIX = ".tmp";
+
+    private final Path directory;
+    private final long memoryMaxBytes;
+    private final long diskMaxBytes;
+
+    // 접근 순서(access-order) LinkedHashMap으로 LRU 구현
+    private final LinkedHashMap<String, byte[]> memoryEntries = new LinkedHashMap<>(16, 0.75f, true);
+    private final LinkedHashMap<String, DiskEntry> diskEntries = new LinkedHashMap<>(16, 0.75f, true);
+    private long memoryBytes;
+    private long diskBytes;
+
+    private final Counter memoryHits;
+    private final Counter diskHits;
+    private final Counter misses;
+    private final Counter memoryEvictions;
+    private final Counter diskEvictions;
+
+    public TtsAudioCache(
+            @Value("${tts.cache.directory:${java.io.tmpdir}/langboost-tts}") String directory,
+            @Value("${tts.cache.memory-max-bytes:67108864}") long memoryMaxBytes,
+            @Value("${tts.cache.disk-max-bytes:2147483648}") long diskMaxBytes,
+            MeterRegistry meterRegistry
+    ) {
+        this.directory = Paths.get(directory);
+        this.memoryMaxBytes = memoryMaxBytes;
+        this.diskMaxBytes = diskMaxBytes;
+
+        this.memoryHits = Counter.builder("tts.cache.hits").tag("tier", "memory").register(meterRegistry);
+        this.diskHits = Counter.builder("tts.cache.hits").tag("tier", "disk").register(meterRegistry);
+        this.misses = Counter.builder("tts.cache.misses").register(meterRegistry);
+        this.memoryEvictions = Counter.builder("tts.cache.evictions").tag("tier", "memory").register(meterRegistry);
+        this.diskEvictions = Counter.builder("tts.cache.evictions").tag("tier", "disk").register(meterRegistry);
+
+        Gauge.builder("tts.cache.bytes", this, TtsAudioCache::getMemoryBytes).tag("tier", "memory").baseUnit("bytes").register(meterRegistry);
+        Gauge.builder("tts.cache.bytes", this, TtsAudioCache::getDiskBytes).tag("tier", "disk").baseUnit("bytes").register(meterRegistry);
+        Gauge.builder("tts.cache.entries", this, TtsAudioCache::getMemoryEntryCount).tag("tier", "memory").register(meterRegistry);
+        Gauge.builder("tts.cache.entries", this, TtsAudioCache::getDiskEntryCount).tag("tier", "disk").register(meterRegistry);
+        Gauge.builder("tts.cache.hit.ratio", this, TtsAudioCache::getHitRatio).register(meterRegistry);
+    }
+
+    /**
+     * 디스크에 남아있는 캐시 파일로 인덱스 복원 (오래된 파일이 먼저 제거되도록 수정 시각 순으로 적재)
+     */
+    @PostConstruct
+    public void loadDiskIndex() {
+        try {
+            Files.createDirectories(directory);
+
+            List<Path> files;
+            try (Stream<Path> stream = Files.list(directory)) {
+                files = stream.filter(Files::isRegularFile).collect(Collectors.toList());
+            }
+
+            files.sort(Comparator.comparing(TtsAudioCache::lastModified));
+
+            synchronized (diskEntries) {
+                for (Path file : files) {
+                    String fileName = file.getFileName().toString();
+
+                    // 이전 실행에서 쓰다 만 임시 파일 정리
+                    if (fileName.endsWith(TEMP_SUFFIX)) {
+                        Files.deleteIfExists(file);
+                        continue;
+                    }
+
+                    int dot = fileName.lastIndexOf('.');
+                    if (dot <= 0) {
+                        continue;
+                    }
+
+                    long size = Files.size(file);
+                    diskEntries.put(fileName.substring(0, dot), new DiskEntry(file, size));
+                    diskBytes += size;
+                }
+                evictDiskIfNeeded();
+            }
+
+            log.info("TTS 디스크 캐시 적재 완료: {} ({}개, {} bytes)", directory, diskEntries.size(), diskBytes);
+        } catch (IOException e) {
+            log.error("TTS 디스크 캐시 디렉터리 초기화 실패: {}", directory, e);
+        }
+    }
+
+    /**
+     * 캐시된 음성 조회 (메모리 → 디스크 순), 디스크에서 찾은 음성은 메모리로 승격
+     * @param spec
+     * @return 음성 바이트 배열
+     */
+    public Optional<byte[]> get(TtsAudioSpec spec) {
+        return lookup(spec.cacheKey(), true);
+    }
+
+    /**
+     * 적중률 지표에 반영하지 않고 캐시된 음성 조회 (이미 한 번 조회한 요청의 재확인용)
+     * @param spec
+     * @return 음성 바이트 배열
+     */
+    public Optional<byte[]> peek(TtsAudioSpec spec) {
+        return lookup(spec.cacheKey(), false);
+    }
+
+    /**
+     * 캐시(메모리 또는 디스크)에 음성이 있는지 확인 (파일을 읽지 않음)
+     * @param spec
+     * @return 존재 여부
+     */
+    public boolean contains(TtsAudioSpec spec) {
+        String key = spec.cacheKey();
+
+        synchronized (memoryEntries) {
+            if (memoryEntries.containsKey(key)) {
+                return true;
+            }
+        }
+        return findDiskFile(key).isPresent();
+    }
+
+    /**
+     * 디스크 계층에 저장된 음성 파일 경로 조회
+     * 디스크 저장에 실패하여 메모리에만 있는 음성은 디스크에 다시 저장한 뒤 반환
+     * @param spec
+     * @return 캐시 파일 경로
+     */
+    public Optional<Path> getFile(TtsAudioSpec spec) {
+        String key = spec.cacheKey();
+        Optional<Path> file = findDiskFile(key);
+        if (file.isPresent()) {
+            return file;
+        }
+
+        byte[] audio;
+        synchronized (memoryEntries) {
+            audio = memoryEntries.get(key);
+        }
+        return audio == null ? Optional.empty() : writeDisk(spec, audio);
+    }
+
+    /**
+     * 음성을 메모리와 디스크 계층에 저장
+     * 디스크 저장에 실패해도 메모리 계층에는 남습니다.
+     * @param spec
+     * @param audio
+     * @return 디스크에 저장된 파일 경로
+     */
+    public Optional<Path> put(TtsAudioSpec spec, byte[] audio) {
+        putMemory(spec.cacheKey(), audio);
+
+        return writeDisk(spec, audio);
+    }
+
+    private Optional<Path> writeDisk(TtsAudioSpec spec, byte[] audio) {
+        String key = spec.cacheKey();
+        Path target = directory.resolve(key + "." + spec.format().getExtension());
+        try {
+            // 임시 파일에 쓴 뒤 원자적으로 이동하여, 동시에 같은 키를 쓰더라도 깨진 파일이 보이지 않도록 함
+            Path temp = Files.createTempFile(directory, key, TEMP_SUFFIX);
+            Files.write(temp, audio);
+            Files.move(temp, target, StandardCopyOption.ATOMIC_MOVE, StandardCopyOption.REPLACE_EXISTING);
+        } catch (IOException e) {
+            log.warn("TTS 캐시 파일 저장 실패: {}", target, e);
+            return Optional.empty();
+        }
+
+        synchronized (diskEntries) {
+            DiskEntry previous = diskEntries.put(key, new DiskEntry(target, audio.length));
+            if (previous != null) {
+                diskBytes -= previous.size();
+            }
+            diskBytes += audio.length;
+            evictDiskIfNeeded();
+        }
+
+        return Optional.of(target);
+    }
+
+    public long getMemoryBytes() {
+        synchronized (memoryEntries) {
+            return memoryBytes;
+        }
+    }
+
+    public long getDiskBytes() {
+        synchronized (diskEntries) {
+            return diskBytes;
+        }
+    }
+
+    public int getMemoryEntryCount() {
+        synchronized (memoryEntries) {
+            return memoryEntries.size();
+        }
+    }
+
+    public int getDiskEntryCount() {
+        synchronized (diskEntries) {
+            return diskEntries.size();
+        }
+    }
+
+    // 전체 조회 중 캐시(메모리 + 디스크) 적중 비율
+    public double getHitRatio() {
+        double hits = memoryHits.count() + diskHits.count();
+        double total = hits + misses.count();
+        return total == 0 ? 0.0 : hits / total;
+    }
+
+    private Optional<byte[]> lookup(String key, boolean recordStats) {
+        byte[] memoryAudio;
+        synchronized (memoryEntries) {
+            memoryAudio = memoryEntries.get(key);
+        }
+        if (memoryAudio != null) {
+            if (recordStats) {
+                memoryHits.increment();
+            }
+            // 디스크의 사용 순서도 갱신 (잠금 순서는 항상 디스크 → 메모리)
+            findDiskFile(key);
+            return Optional.of(memoryAudio);
+        }
+
+        Optional<Path> file = findDiskFile(key);
+        if (file.isPresent()) {
+            try {
+                byte[] audio = Files.readAllBytes(file.get());
+                if (recordStats) {
+                    diskHits.increment();
+                }
+                putMemory(key, audio);
+                return Optional.of(audio);
+            } catch (IOException e) {
+                // 외부에서 삭제된 경우 인덱스에서 제거
+                log.warn("TTS 캐시 파일 읽기 실패: {}", file.get());
+                removeDiskEntry(key);
+            }
+        }
+
+        if (recordStats) {
+            misses.increment();
+        }
+        return Optional.empty();
+    }
+
+    private Optional<Path> findDiskFile(String key) {
+        synchronized (diskEntries) {
+            DiskEntry entry = diskEntries.get(key);
+            return entry == null ? Optional.empty() : Optional.of(entry.path());
+        }
+    }
+
+    private void putMemory(String key, byte[] audio) {
+        // 예산보다 큰 음성은 메모리에 올리지 않음
+        if (audio.length > memoryMaxBytes) {
+            return;
+        }
+
+        synchronized (memoryEntries) {
+            byte[] previous = memoryEntries.put(key, audio);
+            if (previous != null) {
+                memoryBytes -= previous.length;
+            }
+            memoryBytes += audio.length;
+
+            Iterator<Map.Entry<String, byte[]>> iterator = memoryEntries.entrySet().iterator();
+            while (memoryBytes > memoryMaxBytes && iterator.hasNext()) {
+                Map.Entry<String, byte[]> eldest = iterator.next();
+                memoryBytes -= eldest.getValue().length;
+                iterator.remove();
+                memoryEvictions.increment();
+            }
+        }
+    }
+
+    private void removeDiskEntry(String key) {
+        synchronized (diskEntries) {
+            DiskEntry removed = diskEntries.remove(key);
+            if (removed != null) {
+                diskBytes -= removed.size();
+            }
+        }
+    }
+
+    private void removeMemory(String key) {
+        synchronized (memoryEntries) {
+            byte[] removed = memoryEntries.remove(key);
+            if (removed != null) {
+                memoryBytes -= removed.length;
+            }
+        }
+    }
+
+    // diskEntries 잠금을 잡은 상태에서 호출
+    private void evictDiskIfNeeded() {
+        Iterator<Map.Entry<String, DiskEntry>> iterator = diskEntries.entrySet().iterator();
+        while (diskBytes > diskMaxBytes && iterator.hasNext()) {
+            Map.Entry<String, DiskEntry> eldestEntry = iterator.next();
+            DiskEntry eldest = eldestEntry.getValue();
+            iterator.remove();
+            diskBytes -= eldest.size();
+            diskEvictions.increment();
+            removeMemory(eldestEntry.getKey());
+
+            try {
+                Files.deleteIfExists(eldest.path());
+            } catch (IOException e) {
+                log.warn("TTS 캐시 파일 삭제 실패: {}", eldest.path());
+            }
+        }
+    }
+
+    private static FileTime lastModified(Path file) {
+        try {
+            return Files.getLastModifiedTime(file);
+        } catch (IOException e) {
+            return FileTime.fromMillis(0);
+        }
+    }
+
+    private record DiskEntry(Path path, long size) {}
+}
@@ -0,0 +1,18 @@
+package com.example.integration.common.config.tts;
+
+import com.example.integration.common.enums.tts.AudioFormat;
+
+import java.nio.file.Path;
+
+/**
+ * 디스크 캐시에 저장된 음성 파일 정보
+ * @param path     캐시 파일 경로
+ * @param format   오디오 인코딩
+ * @param cacheKey 내용 기반 캐시 키 (ETag로 사용)
+ */
+public record TtsAudioFile(
+        Path path,
+        AudioFormat format,
+        String cacheKey
+) {
+}
@@ -0,0 +1,56 @@
+package com.example.integration.common.config.tts;
+
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import lombok.RequiredArgsConstructor;
+import org.springframework.core.MethodParameter;
+import org.springframework.http.ContentDisposition;
+import org.springframework.http.HttpHeaders;
+import org.springframework.web.context.request.NativeWebRequest;
+import org.springframework.web.method.support.HandlerMethodReturnValueHandler;
+import org.springframework.web.method.support.ModelAndViewContainer;
+
+/**
+ * 컨트롤러가 반환한 {@link TtsAudioFile}(또는 CompletableFuture&lt;TtsAudioFile&gt;의 결과)을 응답으로 스트리밍합니다.
+ * <p>
+ * - 비동기 요청은 합성이 끝난 뒤 재디스패치된 스레드에서 파일만 전송하므로, 합성하는 동안에는 Tomcat 스레드를 사용하지 않습니다.
+ * - JSON 변환기보다 먼저 처리되어야 하므로 {@link TtsWebConfig}에서 반환 값 처리기 목록의 맨 앞에 등록합니다.
+ * - 컨트롤러가 {@link #INLINE_FILENAME_ATTRIBUTE}에 파일 이름을 지정한 경우, 합성에 성공했을 때만 Content-Disposition 헤더를 추가합니다.
+ *   (합성이 실패하면 오류 JSON 응답에 파일 이름이 붙지 않도록)
+ */
+@RequiredArgsConstructor
+public class TtsAudioFileReturnValueHandler implements HandlerMethodReturnValueHandler {
+
+    // 응답 파일 이름 (확장자 제외, 확장자는 실제 인코딩으로 결정)
+    public static final String INLINE_FILENAME_ATTRIBUTE = TtsAudioFileReturnValueHandler.class.getName() + ".INLINE_FILENAME";
+
+    private final AudioFileStreamer audioFileStreamer;
+    private final TextToSpeechMetrics textToSpeechMetrics;
+
+    @Override
+    public boolean supportsReturnType(MethodParameter returnType) {
+        return TtsAudioFile.class.isAssignableFrom(returnType.getParameterType());
+    }
+
+    @Override
+    public void handleReturnValue(Object returnValue, MethodParameter returnType,
+                                  ModelAndViewContainer mavContainer, NativeWebRequest webRequest) throws Exception {
+        mavContainer.setRequestHandled(true);
+
+        HttpServletRequest request = webRequest.getNativeRequest(HttpServletRequest.class);
+        HttpServletResponse response = webRequest.getNativeResponse(HttpServletResponse.class);
+        TtsAudioFile audioFile = (TtsAudioFile) returnValue;
+
+        if (request.getAttribute(INLINE_FILENAME_ATTRIBUTE) instanceof String filename) {
+            response.setHeader(HttpHeaders.CONTENT_DISPOSITION,
+                    ContentDisposition.inline().filename(filename + "." + audioFile.format().getExtension()).build().toString());
+        }
+
+        long streamStart = textToSpeechMetrics.start();
+        try {
+            audioFileStreamer.stream(audioFile, request, response);
+        } finally {
+            textToSpeechMetrics.recordPhase(TextToSpeechMetrics.PHASE_STREAM, streamStart);
+        }
+    }
+}
@@ -0,0 +1,93 @@
+package com.example.integration.common.config.tts;
+
+import com.example.integration.common.enums.tts.AudioFormat;
+import com.example.integration.common.response.CustomException;
+import com.example.integration.common.response.ErrorCode;
+import org.springframework.http.InvalidMediaTypeException;
+import org.springframework.http.MediaType;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 요청의 format 파라미터 또는 Accept 헤더로 응답 음성 인코딩을 결정합니다.
+ * <p>
+ * - format 파라미터(mp3, ogg, opus, ogg_opus)가 있으면 그대로 사용합니다.
+ * - 없으면 Accept 헤더의 q 값 순서대로 지원하는 인코딩을 찾고, 찾지 못하면 MP3를 사용합니다.
+ * - 와일드카드(*&#47;*, audio/*)만 있는 경우에도 호환성을 위해 MP3를 사용합니다.
+ */
+@Component
+public class TtsAudioFormatNegotiator {
+
+    private static final AudioFormat DEFAULT_FORMAT = AudioFormat.MP3;
+
+    private static final Map<String, AudioFormat> FORMAT_NAMES = Map.of(
+            "mp3", AudioFormat.MP3,
+            "mpeg", AudioFormat.MP3,
+            "ogg", AudioFormat.OGG_OPUS,
+            "opus", AudioFormat.OGG_OPUS,
+            "ogg_opus", AudioFormat.OGG_OPUS
+    );
+
+    private static final Map<MediaType, AudioFormat> MEDIA_TYPES = Map.of(
+            MediaType.parseMediaType("audio/mpeg"), AudioFormat.MP3,
+            MediaType.parseMediaType("audio/mp3"), AudioFormat.MP3,
+            MediaType.parseMediaType("audio/ogg"), AudioFormat.OGG_OPUS,
+            MediaType.parseMediaType("audio/opus"), AudioFormat.OGG_OPUS
+    );
+
+    /**
+     * 응답 음성 인코딩 결정
+     * @param format       format 파라미터 (없으면 null)
+     * @param acceptHeader Accept 헤더 (없으면 null)
+     * @return 응답 음성 인코딩
+     * @throws CustomException 지원하지 않는 format 파라미터인 경우 (UNSUPPORTED_TTS_FORMAT)
+     */
+    public AudioFormat negotiate(String format, String acceptHeader) {
+        if (format != null && !format.isBlank()) {
+            AudioFormat requested = FORMAT_NAMES.get(format.trim().toLowerCase());
+            if (requested == null) {
+                throw new CustomException(ErrorCode.UNSUPPORTED_TTS_FORMAT);
+            }
+            return requested;
+        }
+
+        if (acceptHeader == null || acceptHeader.isBlank()) {
+            return DEFAULT_FORMAT;
+        }
+
+        List<MediaType> acceptedTypes;
+        try {
+            acceptedTypes = new ArrayList<>(MediaType.parseMediaTypes(acceptHeader));
+        } catch (InvalidMediaTypeException e) {
+            return DEFAULT_FORMAT;
+        }
+        // q 값이 같으면 헤더에 적힌 순서 유지 (안정 정렬)
+        acceptedTypes.sort(Comparator.comparingDouble(MediaType::getQualityValue).reversed());
+
+        for (MediaType acceptedType : acceptedTypes) {
+            // 와일드카드는 기본 인코딩으로 처리
+            if (acceptedType.isWildcardSubtype()) {
+                if (acceptedType.getQualityValue() > 0 && acceptedType.includes(MediaType.parseMediaType(DEFAULT_FORMAT.getMediaType()))) {
+                    return DEFAULT_FORMAT;
+                }
+                continue;
+            }
+
+            if (acceptedType.getQualityValue() == 0) {
+                continue;
+            }
+
+            // 'audio/ogg; codecs=opus'처럼 파라미터가 붙은 경우도 타입/서브타입으로 비교
+            AudioFormat matched = MEDIA_TYPES.get(new MediaType(acceptedType.getType(), acceptedType.getSubtype()));
+            if (matched != null) {
+                return matched;
+            }
+        }
+
+        return DEFAULT_FORMAT;
+    }
+}
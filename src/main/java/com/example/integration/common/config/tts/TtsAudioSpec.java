@@ -0,0 +1,35 @@
+package com.example.integration.common.config.tts;
+
+import com.example.integration.common.enums.tts.AudioFormat;
+import com.example.integration.common.enums.tts.VoiceLanguage;
+import com.example.integration.common.enums.tts.VoiceName;
+import com.example.integration.common.util.HashUtil;
+
+/**
+ * 합성할 음성을 식별하는 정보 (텍스트, 언어, 음성, 인코딩)
+ * 같은 정보로 합성한 음성은 항상 같은 결과이므로 해시를 캐시 키로 사용합니다.
+ */
+public record TtsAudioSpec(
+        String text,
+        VoiceLanguage language,
+        VoiceName voiceName,
+        AudioFormat format
+) {
+
+    /**
+     * 내용 기반 캐시 키 (SHA-256)
+     * @return 16진수 해시 문자열
+     */
+    public String cacheKey() {
+        return HashUtil.sha256Hex(language.getCode() + "\n" + voiceName.getName() + "\n" + format.name() + "\n" + text);
+    }
+
+    /**
+     * 같은 언어/음성/인코딩으로 텍스트만 바꾼 음성 정보 (긴 텍스트의 조각 합성용)
+     * @param text
+     * @return
+     */
+    public TtsAudioSpec withText(String text) {
+        return new TtsAudioSpec(text, language, voiceName, format);
+    }
+}
@@ -0,0 +1,202 @@
+package com.example.integration.common.config.tts;
+
+import com.example.integration.common.response.CustomException;
+import com.example.integration.common.response.ErrorCode;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * TTS 백엔드 호출 앞단의 격벽(bulkhead)과 글자 수 기반 속도 제한
+ * <p>
+ * - 동시에 백엔드를 호출하는 요청 수를 제한하고, 나머지는 최대 대기 시간까지만 대기열에서 기다립니다.
+ * - 분당 글자 수 할당량을 토큰 버킷으로 관리하여 외부 API의 할당량에 도달하기 전에 요청을 조절합니다.
+ * - 대기열이 가득 찼거나, 대기 시간 안에 처리할 수 없는 요청은 즉시 {@link ErrorCode#TTS_RATE_LIMITED}로 거절합니다.
+ * - 대기열 크기에는 글자 수 토큰 충전을 기다리는 요청도 포함됩니다.
+ */
+@Slf4j
+@Component
+public class TtsBulkhead {
+
+    private final Semaphore permits;
+    private final int maxQueueSize;
+    private final long maxWaitNanos;
+
+    // 글자 수 토큰 버킷 (분당 charactersPerMinute개 충전)
+    private final double bucketCapacity;
+    private final double refillPerNano;
+    private double availableCharacters;
+    private long lastRefillNanos;
+
+    private final AtomicInteger waiting = new AtomicInteger();
+
+    private final Timer waitTimer;
+    private final Counter rejectedByQueue;
+    private final Counter rejectedByTimeout;
+    private final Counter rejectedByQuota;
+
+    public TtsBulkhead(
+            @Value("${tts.bulkhead.max-concurrent-calls:8}") int maxConcurrentCalls,
+            @Value("${tts.bulkhead.max-queue-size:32}") int maxQueueSize,
+            @Value("${tts.bulkhead.max-wait-ms:2000}") long maxWaitMillis,
+            @Value("${tts.bulkhead.characters-per-minute:900000}") long charactersPerMinute,
+            MeterRegistry meterRegistry
+    ) {
+        this.permits = new Semaphore(maxConcurrentCalls, true);
+        this.maxQueueSize = maxQueueSize;
+        this.maxWaitNanos = TimeUnit.MILLISECONDS.toNanos(maxWaitMillis);
+
+        this.bucketCapacity = charactersPerMinute;
+        this.refillPerNano = (double) charactersPerMinute / TimeUnit.MINUTES.toNanos(1);
+        this.availableCharacters = charactersPerMinute;
+        this.lastRefillNanos = System.nanoTime();
+
+        this.waitTimer = Timer.builder("tts.bulkhead.wait").publishPercentileHistogram().register(meterRegistry);
+        this.rejectedByQueue = Counter.builder("tts.bulkhead.rejected").tag("reason", "queue-full").register(meterRegistry);
+        this.rejectedByTimeout = Counter.builder("tts.bulkhead.rejected").tag("reason", "timeout").register(meterRegistry);
+        this.rejectedByQuota = Counter.builder("tts.bulkhead.rejected").tag("reason", "quota").register(meterRegistry);
+
+        Gauge.builder("tts.bulkhead.queue.depth", waiting, AtomicInteger::get).register(meterRegistry);
+        Gauge.builder("tts.bulkhead.active", this, bulkhead -> maxConcurrentCalls - bulkhead.permits.availablePermits()).register(meterRegistry);
+        Gauge.builder("tts.bulkhead.available.characters", this, TtsBulkhead::getAvailableCharacters).register(meterRegistry);
+    }
+
+    /**
+     * 백엔드 호출 권한 획득 (호출이 끝나면 반드시 {@link #release()} 호출)
+     * 글자 수 토큰 충전을 기다리는 요청도 동시 실행 자리를 기다리는 요청과 같은 대기열 크기로 제한하고,
+     * 두 대기 시간을 합쳐 최대 대기 시간을 넘지 않도록 함
+     * @param characters 합성할 글자 수
+     * @throws CustomException 대기열 초과, 대기 시간 초과, 글자 수 할당량 초과 시 (TTS_RATE_LIMITED)
+     */
+    public void acquire(int characters) {
+        long startNanos = System.nanoTime();
+
+        // 할당량을 먼저 차감하여, 어차피 처리할 수 없는 요청이 동시 실행 자리를 기다리지 않도록 함
+        boolean queued = reserveCharacters(characters);
+
+        try {
+            if (!permits.tryAcquire()) {
+                if (!queued) {
+                    if (waiting.incrementAndGet() > maxQueueSize) {
+                        waiting.decrementAndGet();
+                        refundCharacters(characters);
+                        rejectedByQueue.increment();
+                        throw new CustomException(ErrorCode.TTS_RATE_LIMITED);
+                    }
+                    queued = true;
+                }
+
+                // 충전을 기다린 시간을 뺀 나머지만 대기
+                long remaining = maxWaitNanos - (System.nanoTime() - startNanos);
+                if (remaining <= 0 || !permits.tryAcquire(remaining, TimeUnit.NANOSECONDS)) {
+                    refundCharacters(characters);
+                    rejectedByTimeout.increment();
+                    throw new CustomException(ErrorCode.TTS_RATE_LIMITED);
+                }
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            refundCharacters(characters);
+            throw new CustomException(ErrorCode.TTS_RATE_LIMITED);
+        } finally {
+            if (queued) {
+                waiting.decrementAndGet();
+            }
+        }
+
+        waitTimer.record(System.nanoTime() - startNanos, TimeUnit.NANOSECONDS);
+    }
+
+    /**
+     * 백엔드 호출 권한 반환
+     */
+    public void release() {
+        permits.release();
+    }
+
+    /**
+     * 기다리지 않고 글자 수 토큰만 차감 (재시도/헤지 같은 추가 호출용)
+     * @param characters 합성할 글자 수
+     * @return 토큰이 충분하여 차감한 경우 true
+     */
+    public synchronized boolean tryReserveCharacters(int characters) {
+        refill();
+        double cost = Math.min(characters, bucketCapacity);
+        if (availableCharacters < cost) {
+            rejectedByQuota.increment();
+            return false;
+        }
+        availableCharacters -= cost;
+        return true;
+    }
+
+    public synchronized double getAvailableCharacters() {
+        refill();
+        return availableCharacters;
+    }
+
+    /**
+     * 글자 수 토큰 차감
+     * 토큰이 부족하면 최대 대기 시간 안에 충전되는 경우에만 기다리고, 그렇지 않으면 즉시 거절
+     * 충전을 기다리는 동안은 대기열 자리를 차지하며, 대기열이 가득 차 있으면 즉시 거절
+     * @return 충전을 기다려 대기열 자리를 차지한 경우 true (호출한 쪽에서 자리 반환)
+     */
+    private boolean reserveCharacters(int characters) {
+        // 버킷보다 긴 텍스트도 가득 찬 버킷으로는 처리될 수 있도록 제한
+        double cost = Math.min(characters, bucketCapacity);
+        long waitNanos;
+
+        synchronized (this) {
+            refill();
+            double deficit = cost - availableCharacters;
+            waitNanos = deficit <= 0 ? 0 : (long) Math.ceil(deficit / refillPerNano);
+
+            if (waitNanos > maxWaitNanos) {
+                rejectedByQuota.increment();
+                throw new CustomException(ErrorCode.TTS_RATE_LIMITED);
+            }
+
+            if (waitNanos > 0 && waiting.incrementAndGet() > maxQueueSize) {
+                waiting.decrementAndGet();
+                rejectedByQueue.increment();
+                throw new CustomException(ErrorCode.TTS_RATE_LIMITED);
+            }
+
+            // 미리 차감하여 뒤따르는 요청은 그만큼 더 기다리도록 함
+            availableCharacters -= cost;
+        }
+
+        if (waitNanos == 0) {
+            return false;
+        }
+
+        try {
+            TimeUnit.NANOSECONDS.sleep(waitNanos);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            waiting.decrementAndGet();
+            refundCharacters(characters);
+            throw new CustomException(ErrorCode.TTS_RATE_LIMITED);
+        }
+        return true;
+    }
+
+    private synchronized void refundCharacters(int characters) {
+        availableCharacters = Math.min(availableCharacters + Math.min(characters, bucketCapacity), bucketCapacity);
+    }
+
+    // 동기화된 상태에서 호출
+    private void refill() {
+        long now = System.nanoTime();
+        availableCharacters = Math.min(availableCharacters + (now - lastRefillNanos) * refillPerNano, bucketCapacity);
+        lastRefillNanos = now;
+    }
+}
@@ -0,0 +1,107 @@
+package com.example.integration.common.config.tts;
+
+import com.example.integration.dto.tts.TtsJobStatusDto;
+import com.example.integration.repository.SentenceSetRepository;
+import com.example.integration.service.TtsPreSynthesisService;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.ApplicationArguments;
+import org.springframework.boot.ApplicationRunner;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.stereotype.Component;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 애플리케이션 시작 시 많이 사용되는 공용 문장 세트의 음성을 미리 합성하여 캐시를 채웁니다. (tts.warm-up.enabled)
+ * <p>
+ * - 설정된 문장 세트 목록이 있으면 그 목록을, 없으면 최근 조회된 공용 문장 세트 상위 N개를 대상으로 합니다.
+ * - 합성은 사전 합성 작업 풀({@link TtsPreSynthesisService})에서 제한된 동시성으로 진행됩니다.
+ * - ApplicationRunner가 끝나야 readiness가 ACCEPTING_TRAFFIC이 되므로, 설정한 비율만큼 채워지거나 제한 시간이 지날 때까지 기다립니다.
+ *   남은 문장은 트래픽을 받는 동안 백그라운드에서 계속 합성됩니다.
+ */
+@Slf4j
+@Component
+public class TtsCacheWarmUpRunner implements ApplicationRunner {
+
+    private static final long POLL_INTERVAL_MILLIS = 500;
+
+    private final TtsPreSynthesisService ttsPreSynthesisService;
+    private final SentenceSetRepository sentenceSetRepository;
+
+    private final boolean enabled;
+    private final int topN;
+    private final List<Long> configuredSentenceSetIds;
+    private final double readyFraction;
+    private final long timeoutMillis;
+
+    public TtsCacheWarmUpRunner(
+            TtsPreSynthesisService ttsPreSynthesisService,
+            SentenceSetRepository sentenceSetRepository,
+            @Value("${tts.warm-up.enabled:false}") boolean enabled,
+            @Value("${tts.warm-up.top-n:20}") int topN,
+            @Value("${tts.warm-up.sentence-set-ids:}") List<Long> configuredSentenceSetIds,
+            @Value("${tts.warm-up.ready-fraction:0.8}") double readyFraction,
+            @Value("${tts.warm-up.timeout-seconds:120}") long timeoutSeconds
+    ) {
+        this.ttsPreSynthesisService = ttsPreSynthesisService;
+        this.sentenceSetRepository = sentenceSetRepository;
+        this.enabled = enabled;
+        this.topN = topN;
+        this.configuredSentenceSetIds = configuredSentenceSetIds;
+        this.readyFraction = readyFraction;
+        this.timeoutMillis = TimeUnit.SECONDS.toMillis(timeoutSeconds);
+    }
+
+    @Override
+    public void run(ApplicationArguments args) {
+        if (!enabled) {
+            return;
+        }
+
+        List<Long> sentenceSetIds = configuredSentenceSetIds.isEmpty()
+                ? sentenceSetRepository.findPublicIdsOrderByLastViewedDate(PageRequest.of(0, topN))
+                : configuredSentenceSetIds;
+
+        if (sentenceSetIds.isEmpty()) {
+            return;
+        }
+
+        log.info("TTS 캐시 예열 시작 ({}개 문장 세트)", sentenceSetIds.size());
+        sentenceSetIds.forEach(ttsPreSynthesisService::enqueueSentenceSet);
+
+        long startMillis = System.currentTimeMillis();
+        long deadline = startMillis + timeoutMillis;
+        double progress = progress(sentenceSetIds);
+
+        try {
+            while (progress < readyFraction && System.currentTimeMillis() < deadline) {
+                Thread.sleep(POLL_INTERVAL_MILLIS);
+                progress = progress(sentenceSetIds);
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+
+        if (progress >= readyFraction) {
+            log.info("TTS 캐시 예열 완료 ({}%, {}ms)", Math.round(progress * 100), System.currentTimeMillis() - startMillis);
+        } else {
+            log.warn("TTS 캐시 예열 제한 시간 초과 ({}%), 남은 문장은 백그라운드에서 계속 합성합니다.", Math.round(progress * 100));
+        }
+    }
+
+    // 예열 대상 문장 중 합성이 끝난 비율
+    private double progress(List<Long> sentenceSetIds) {
+        long total = 0;
+        long completed = 0;
+
+        for (Long sentenceSetId : sentenceSetIds) {
+            TtsJobStatusDto status = ttsPreSynthesisService.getJobStatus(sentenceSetId);
+            total += status.total();
+            completed += status.completed();
+        }
+
+        return total == 0 ? 1.0 : (double) completed / total;
+    }
+}
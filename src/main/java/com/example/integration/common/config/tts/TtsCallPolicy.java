@@ -0,0 +1,345 @@
+package com.example.integration.common.config.tts;
+
+import com.google.api.gax.rpc.ApiException;
+import com.google.api.gax.rpc.StatusCode;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.io.IOException;
+import java.net.ConnectException;
+import java.net.SocketTimeoutException;
+import java.util.Arrays;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.FutureTask;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.SynchronousQueue;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * TTS 백엔드 호출에 기한(deadline), 재시도, 헤지(hedged request)를 적용합니다.
+ * <p>
+ * - 요청마다 전체 기한 안에서만 호출하고, 기한이 지나면 호출 스레드를 인터럽트합니다.
+ *   호출은 인터럽트되면 upstream 요청을 취소해야 합니다. (blocking gRPC 호출은 인터럽트로 취소되지 않으므로
+ *   {@link GoogleTextToSpeechProvider}는 비동기로 호출한 뒤 인터럽트되면 취소)
+ * - 일시적인 오류(UNAVAILABLE, DEADLINE_EXCEEDED 등 gRPC 상태와 연결 실패/소켓 타임아웃)만 지수 백오프 + 지터(full jitter)로 재시도합니다.
+ * - 헤지를 켜면 최근 응답 시간의 p95가 지나도 응답이 없을 때 같은 요청을 한 번 더 보내고 먼저 성공한 결과를 사용합니다.
+ * - 재시도/헤지는 일반 호출 수에 비례해 쌓이는 예산과 글자 수 할당량({@link TtsBulkhead})이 남아있을 때만 보내므로 호출량이 크게 늘지 않습니다.
+ */
+@Slf4j
+@Component
+public class TtsCallPolicy {
+
+    // 재시도할 gRPC 상태 코드 (RESOURCE_EXHAUSTED는 할당량 초과이므로 재시도하지 않음)
+    private static final Set<StatusCode.Code> RETRYABLE_CODES = Set.of(
+            StatusCode.Code.UNAVAILABLE,
+            StatusCode.Code.DEADLINE_EXCEEDED,
+            StatusCode.Code.ABORTED,
+            StatusCode.Code.INTERNAL
+    );
+
+    private static final int LATENCY_WINDOW_SIZE = 256;
+    private static final int LATENCY_MIN_SAMPLES = 20;
+
+    private final TtsBulkhead ttsBulkhead;
+
+    private final long deadlineNanos;
+    private final int maxAttempts;
+    private final long baseBackoffNanos;
+    private final long maxBackoffNanos;
+    private final boolean hedgeEnabled;
+    private final long hedgeMinDelayNanos;
+    private final long hedgeInitialDelayNanos;
+
+    // 재시도/헤지 예산: 일반 호출마다 extraAttemptRatio만큼 쌓이고, 추가 호출마다 1씩 사용
+    private final double extraAttemptRatio;
+    private final double maxBudgetTokens;
+    private double budgetTokens;
+
+    // 최근 성공한 호출의 응답 시간 (p95 계산용 원형 버퍼)
+    private final long[] latencyWindow = new long[LATENCY_WINDOW_SIZE];
+    private int latencyCount;
+    private int latencyIndex;
+
+    private final ThreadPoolExecutor executor;
+
+    private final Counter attempts;
+    private final Counter retries;
+    private final Counter hedges;
+    private final Counter hedgeWins;
+    private final Counter budgetExhausted;
+    private final Counter deadlineExceeded;
+
+    public TtsCallPolicy(
+            TtsBulkhead ttsBulkhead,
+            @Value("${tts.call.deadline-ms:10000}") long deadlineMillis,
+            @Value("${tts.call.max-attempts:3}") int maxAttempts,
+            @Value("${tts.call.base-backoff-ms:100}") long baseBackoffMillis,
+            @Value("${tts.call.max-backoff-ms:2000}") long maxBackoffMillis,
+            @Value("${tts.call.hedge.enabled:false}") boolean hedgeEnabled,
+            @Value("${tts.call.hedge.min-delay-ms:50}") long hedgeMinDelayMillis,
+            @Value("${tts.call.hedge.initial-delay-ms:1000}") long hedgeInitialDelayMillis,
+            @Value("${tts.call.extra-attempt-ratio:0.1}") double extraAttemptRatio,
+            @Value("${tts.call.extra-attempt-max-tokens:10}") double maxBudgetTokens,
+            @Value("${tts.call.max-threads:32}") int maxThreads,
+            MeterRegistry meterRegistry
+    ) {
+        this.ttsBulkhead = ttsBulkhead;
+        this.deadlineNanos = TimeUnit.MILLISECONDS.toNanos(deadlineMillis);
+        this.maxAttempts = maxAttempts;
+        this.baseBackoffNanos = TimeUnit.MILLISECONDS.toNanos(baseBackoffMillis);
+        this.maxBackoffNanos = TimeUnit.MILLISECONDS.toNanos(maxBackoffMillis);
+        this.hedgeEnabled = hedgeEnabled;
+        this.hedgeMinDelayNanos = TimeUnit.MILLISECONDS.toNanos(hedgeMinDelayMillis);
+        this.hedgeInitialDelayNanos = TimeUnit.MILLISECONDS.toNanos(hedgeInitialDelayMillis);
+        this.extraAttemptRatio = extraAttemptRatio;
+        this.maxBudgetTokens = maxBudgetTokens;
+        this.budgetTokens = maxBudgetTokens;
+
+        AtomicInteger threadNumber = new AtomicInteger();
+        this.executor = new ThreadPoolExecutor(0, maxThreads, 60L, TimeUnit.SECONDS,
+                new SynchronousQueue<>(),
+                runnable -> {
+                    Thread thread = new Thread(runnable, "tts-call-" + threadNumber.incrementAndGet());
+                    thread.setDaemon(true);
+                    return thread;
+                },
+                new ThreadPoolExecutor.AbortPolicy());
+
+        this.attempts = Counter.builder("tts.call.attempts").register(meterRegistry);
+        this.retries = Counter.builder("tts.call.retries").register(meterRegistry);
+        this.hedges = Counter.builder("tts.call.hedges").register(meterRegistry);
+        this.hedgeWins = Counter.builder("tts.call.hedge.wins").register(meterRegistry);
+        this.budgetExhausted = Counter.builder("tts.call.budget.exhausted").register(meterRegistry);
+        this.deadlineExceeded = Counter.builder("tts.call.deadline.exceeded").register(meterRegistry);
+    }
+
+    /**
+     * 기한/재시도/헤지 정책을 적용하여 TTS 백엔드 호출
+     * @param characters 호출 한 번에 합성하는 글자 수 (추가 호출의 할당량 차감용)
+     * @param call       TTS 백엔드 호출
+     * @return 호출 결과
+     * @throws IOException 재시도 후에도 실패했거나 기한이 지난 경우
+     */
+    public <T> T execute(int characters, TtsCall<T> call) throws IOException {
+        long deadline = System.nanoTime() + deadlineNanos;
+        depositBudget();
+
+        for (int attempt = 1; ; attempt++) {
+            try {
+                return attempt(characters, call, deadline);
+            } catch (IOException e) {
+                if (!isRetryable(e) || attempt >= maxAttempts) {
+                    throw e;
+                }
+
+                long backoff = backoffNanos(attempt);
+                if (System.nanoTime() + backoff >= deadline) {
+                    throw e;
+                }
+
+                if (!tryExtraAttempt(characters)) {
+                    throw e;
+                }
+
+                retries.increment();
+                log.warn("TTS 호출 재시도 ({}/{}): {}", attempt + 1, maxAttempts, e.getMessage());
+                sleep(backoff);
+            }
+        }
+    }
+
+    private <T> T attempt(int characters, TtsCall<T> call, long deadline) throws IOException {
+        Attempt<T> primary = submit(call);
+        Attempt<T> hedge = null;
+
+        try {
+            CompletableFuture<T> result = primary.result;
+
+            if (hedgeEnabled) {
+                long hedgeDelay = hedgeDelayNanos();
+
+                if (System.nanoTime() + hedgeDelay < deadline) {
+                    try {
+                        return primary.result.get(hedgeDelay, TimeUnit.NANOSECONDS);
+                    } catch (TimeoutException e) {
+                        // p95가 지나도 응답이 없으면 같은 요청을 한 번 더 보냄
+                        if (tryExtraAttempt(characters)) {
+                            hedges.increment();
+                            hedge = submit(call);
+                            result = firstSuccessful(primary.result, hedge.result, hedgeWins::increment);
+                        }
+                    }
+                }
+            }
+
+            return result.get(Math.max(deadline - System.nanoTime(), 0), TimeUnit.NANOSECONDS);
+        } catch (TimeoutException e) {
+            deadlineExceeded.increment();
+            throw new IOException("TTS 호출 기한(" + TimeUnit.NANOSECONDS.toMillis(deadlineNanos) + "ms)을 초과했습니다.", e);
+        } catch (ExecutionException e) {
+            if (e.getCause() instanceof IOException cause) {
+                throw cause;
+            }
+            if (e.getCause() instanceof RuntimeException cause) {
+                throw cause;
+            }
+            throw new IOException(e.getCause());
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IOException("TTS 호출이 중단되었습니다.", e);
+        } finally {
+            // 남은 호출은 인터럽트하여 upstream 요청 취소
+            primary.task.cancel(true);
+            if (hedge != null) {
+                hedge.task.cancel(true);
+            }
+        }
+    }
+
+    private <T> Attempt<T> submit(TtsCall<T> call) throws IOException {
+        CompletableFuture<T> result = new CompletableFuture<>();
+        FutureTask<Void> task = new FutureTask<>(() -> {
+            long start = System.nanoTime();
+            try {
+                T value = call.run();
+                recordLatency(System.nanoTime() - start);
+                result.complete(value);
+            } catch (Throwable t) {
+                result.completeExceptionally(t);
+            }
+            return null;
+        });
+
+        try {
+            executor.execute(task);
+        } catch (RejectedExecutionException e) {
+            throw new IOException("TTS 호출 스레드가 부족합니다.", e);
+        }
+        attempts.increment();
+
+        return new Attempt<>(task, result);
+    }
+
+    // 둘 중 먼저 성공한 결과, 둘 다 실패하면 마지막 실패 (두 번째 요청이 이기면 onSecondWin 실행)
+    private static <T> CompletableFuture<T> firstSuccessful(CompletableFuture<T> first, CompletableFuture<T> second, Runnable onSecondWin) {
+        CompletableFuture<T> result = new CompletableFuture<>();
+        AtomicInteger failures = new AtomicInteger();
+
+        first.whenComplete((value, error) -> {
+            if (error == null) {
+                result.complete(value);
+            } else if (failures.incrementAndGet() == 2) {
+                result.completeExceptionally(error);
+            }
+        });
+        second.whenComplete((value, error) -> {
+            if (error == null) {
+                if (result.complete(value)) {
+                    onSecondWin.run();
+                }
+            } else if (failures.incrementAndGet() == 2) {
+                result.completeExceptionally(error);
+            }
+        });
+
+        return result;
+    }
+
+    private static boolean isRetryable(IOException e) {
+        for (Throwable cause = e.getCause(); cause != null; cause = cause.getCause()) {
+            if (cause instanceof ApiException apiException) {
+                return apiException.isRetryable() || RETRYABLE_CODES.contains(apiException.getStatusCode().getCode());
+            }
+            // 연결 실패/소켓 타임아웃은 일시적인 네트워크 오류
+            if (cause instanceof ConnectException || cause instanceof SocketTimeoutException) {
+                return true;
+            }
+        }
+        // 기한 초과, 중단, 호출 스레드 부족, 응답 처리 실패 등 그 밖의 오류는 다시 호출해도 해결되지 않음
+        return false;
+    }
+
+    // full jitter: 0 ~ min(최대, 기본 * 2^(attempt-1))
+    private long backoffNanos(int attempt) {
+        long ceiling = Math.min(maxBackoffNanos, baseBackoffNanos << Math.min(attempt - 1, 20));
+        return ThreadLocalRandom.current().nextLong(ceiling + 1);
+    }
+
+    private synchronized void depositBudget() {
+        budgetTokens = Math.min(budgetTokens + extraAttemptRatio, maxBudgetTokens);
+    }
+
+    private boolean tryExtraAttempt(int characters) {
+        synchronized (this) {
+            if (budgetTokens < 1) {
+                budgetExhausted.increment();
+                return false;
+            }
+            budgetTokens -= 1;
+        }
+
+        // 추가 호출도 외부 API 할당량을 사용하므로 글자 수 토큰이 남아있을 때만 허용
+        if (!ttsBulkhead.tryReserveCharacters(characters)) {
+            budgetExhausted.increment();
+            return false;
+        }
+        return true;
+    }
+
+    private void recordLatency(long nanos) {
+        synchronized (latencyWindow) {
+            latencyWindow[latencyIndex] = nanos;
+            latencyIndex = (latencyIndex + 1) % LATENCY_WINDOW_SIZE;
+            latencyCount = Math.min(latencyCount + 1, LATENCY_WINDOW_SIZE);
+        }
+    }
+
+    // 최근 응답 시간의 p95 (표본이 적으면 초기값)
+    private long hedgeDelayNanos() {
+        long[] samples;
+        synchronized (latencyWindow) {
+            if (latencyCount < LATENCY_MIN_SAMPLES) {
+                return hedgeInitialDelayNanos;
+            }
+            samples = Arrays.copyOf(latencyWindow, latencyCount);
+        }
+
+        Arrays.sort(samples);
+        long p95 = samples[(int) Math.ceil(samples.length * 0.95) - 1];
+        return Math.max(p95, hedgeMinDelayNanos);
+    }
+
+    private static void sleep(long nanos) throws IOException {
+        try {
+            TimeUnit.NANOSECONDS.sleep(nanos);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IOException("TTS 호출 재시도 대기 중 중단되었습니다.", e);
+        }
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        executor.shutdownNow();
+    }
+
+    /**
+     * 기한/재시도 정책을 적용할 TTS 백엔드 호출
+     */
+    @FunctionalInterface
+    public interface TtsCall<T> {
+        T run() throws IOException;
+    }
+
+    private record Attempt<T>(FutureTask<Void> task, CompletableFuture<T> result) {}
+}
@@ -0,0 +1,94 @@
+package com.example.integration.common.config.tts;
+
+import com.example.integration.common.enums.tts.AudioFormat;
+import com.example.integration.common.util.Mp3Util;
+import jakarta.annotation.PreDestroy;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.io.ByteArrayOutputStream;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Function;
+
+/**
+ * 긴 텍스트의 조각들을 병렬로 합성하고 순서대로 이어 붙입니다.
+ * <p>
+ * - 조각마다 별도의 작업으로 실행하므로 전체 응답 시간은 가장 느린 조각의 시간에 가까워집니다.
+ * - 작업 풀이 가득 차면 요청 스레드에서 직접 실행하여(CallerRuns) 요청이 유실되지 않습니다.
+ */
+@Component
+public class TtsChunkedSynthesizer {
+
+    private final ThreadPoolExecutor executor;
+
+    public TtsChunkedSynthesizer(
+            @Value("${tts.chunk.workers:8}") int workers,
+            @Value("${tts.chunk.queue-capacity:64}") int queueCapacity
+    ) {
+        AtomicInteger threadNumber = new AtomicInteger();
+        this.executor = new ThreadPoolExecutor(workers, workers, 60L, TimeUnit.SECONDS,
+                new ArrayBlockingQueue<>(queueCapacity),
+                runnable -> {
+                    Thread thread = new Thread(runnable, "tts-chunk-" + threadNumber.incrementAndGet());
+                    thread.setDaemon(true);
+                    return thread;
+                },
+                new ThreadPoolExecutor.CallerRunsPolicy());
+        this.executor.allowCoreThreadTimeOut(true);
+    }
+
+    /**
+     * 조각들을 병렬로 합성한 뒤 하나의 음성으로 연결
+     * @param chunkSpecs 순서대로 정렬된 조각별 음성 정보
+     * @param loader     조각 하나를 합성(또는 캐시에서 조회)하는 작업
+     * @return 연결된 음성 바이트 배열
+     */
+    public byte[] synthesize(List<TtsAudioSpec> chunkSpecs, Function<TtsAudioSpec, byte[]> loader) {
+        List<CompletableFuture<byte[]>> futures = new ArrayList<>(chunkSpecs.size());
+        for (TtsAudioSpec chunkSpec : chunkSpecs) {
+            futures.add(CompletableFuture.supplyAsync(() -> loader.apply(chunkSpec), executor));
+        }
+
+        List<byte[]> parts = new ArrayList<>(futures.size());
+        try {
+            for (CompletableFuture<byte[]> future : futures) {
+                parts.add(future.join());
+            }
+        } catch (CompletionException e) {
+            // 한 조각이라도 실패하면 나머지 작업은 취소 (이미 실행 중인 합성은 끝까지 진행되어 캐시에 남음)
+            futures.forEach(future -> future.cancel(false));
+            if (e.getCause() instanceof RuntimeException cause) {
+                throw cause;
+            }
+            throw e;
+        }
+
+        return concat(chunkSpecs.get(0).format(), parts);
+    }
+
+    /**
+     * 인코딩별 연결
+     * MP3는 ID3 태그를 제거하고 프레임을 잇고, OGG_OPUS는 완결된 Ogg 스트림을 그대로 이어 붙임(chained Ogg)
+     */
+    private static byte[] concat(AudioFormat format, List<byte[]> parts) {
+        if (format == AudioFormat.MP3) {
+            return Mp3Util.concat(parts);
+        }
+
+        ByteArrayOutputStream out = new ByteArrayOutputStream(parts.stream().mapToInt(part -> part.length).sum());
+        parts.forEach(out::writeBytes);
+        return out.toByteArray();
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        executor.shutdownNow();
+    }
+}
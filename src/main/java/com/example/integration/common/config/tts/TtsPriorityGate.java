@@ -0,0 +1,45 @@
+package com.example.integration.common.config.tts;
+
+import org.springframework.stereotype.Component;
+
+/**
+ * 사용자 요청(interactive)과 백그라운드 사전 합성 간의 TTS API 호출 우선순위 조정
+ * <p>
+ * 사용자 요청이 API를 호출하는 동안 백그라운드 작업은 호출을 시작하지 않고 대기합니다.
+ */
+@Component
+public class TtsPriorityGate {
+
+    private int interactiveInFlight;
+
+    /**
+     * 사용자 요청의 API 호출 시작
+     */
+    public synchronized void enterInteractive() {
+        interactiveInFlight++;
+    }
+
+    /**
+     * 사용자 요청의 API 호출 종료, 진행 중인 사용자 요청이 없으면 대기 중인 백그라운드 작업을 깨움
+     */
+    public synchronized void exitInteractive() {
+        interactiveInFlight--;
+        if (interactiveInFlight == 0) {
+            notifyAll();
+        }
+    }
+
+    /**
+     * 진행 중인 사용자 요청이 없을 때까지 대기 (백그라운드 작업용)
+     * @throws InterruptedException
+     */
+    public synchronized void awaitBackgroundTurn() throws InterruptedException {
+        while (interactiveInFlight > 0) {
+            wait();
+        }
+    }
+
+    public synchronized int getInteractiveInFlight() {
+        return interactiveInFlight;
+    }
+}
@@ -0,0 +1,69 @@
+package com.example.integration.common.config.tts;
+
+import com.example.integration.common.response.CustomException;
+import com.example.integration.common.response.ErrorCode;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PreDestroy;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Supplier;
+
+/**
+ * TTS API 요청 전용 작업 풀
+ * <p>
+ * - 컨트롤러는 합성 작업을 이 풀에 맡기고 CompletableFuture를 반환하므로, 합성하는 동안 Tomcat 스레드가 반환됩니다.
+ * - TTS 요청이 몰려도 다른 API(문장 세트 조회 등)는 Tomcat 스레드를 그대로 사용할 수 있습니다.
+ * - 풀과 대기열이 모두 가득 차면 {@link ErrorCode#TTS_RATE_LIMITED}로 즉시 거절합니다.
+ */
+@Component
+public class TtsRequestExecutor {
+
+    private final ThreadPoolExecutor executor;
+
+    public TtsRequestExecutor(
+            @Value("${tts.request.workers:32}") int workers,
+            @Value("${tts.request.queue-capacity:200}") int queueCapacity,
+            MeterRegistry meterRegistry
+    ) {
+        AtomicInteger threadNumber = new AtomicInteger();
+        this.executor = new ThreadPoolExecutor(workers, workers, 60L, TimeUnit.SECONDS,
+                new ArrayBlockingQueue<>(queueCapacity),
+                runnable -> {
+                    Thread thread = new Thread(runnable, "tts-request-" + threadNumber.incrementAndGet());
+                    thread.setDaemon(true);
+                    return thread;
+                },
+                new ThreadPoolExecutor.AbortPolicy());
+        this.executor.allowCoreThreadTimeOut(true);
+
+        Gauge.builder("tts.request.executor.active", executor, ThreadPoolExecutor::getActiveCount).register(meterRegistry);
+        Gauge.builder("tts.request.executor.queued", executor, pool -> pool.getQueue().size()).register(meterRegistry);
+    }
+
+    /**
+     * 작업을 TTS 요청 풀에서 실행
+     * @param task 실행할 작업
+     * @return 작업 결과
+     * @throws CustomException 풀과 대기열이 가득 찬 경우 (TTS_RATE_LIMITED)
+     */
+    public <T> CompletableFuture<T> submit(Supplier<T> task) {
+        try {
+            return CompletableFuture.supplyAsync(task, executor);
+        } catch (RejectedExecutionException e) {
+            throw new CustomException(ErrorCode.TTS_RATE_LIMITED);
+        }
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        executor.shutdownNow();
+    }
+}
@@ -0,0 +1,77 @@
+package com.example.integration.common.config.tts;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.stereotype.Component;
+
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Supplier;
+
+/**
+ * 같은 키의 TTS 합성 요청이 동시에 들어오면 한 번만 실행하고 결과를 공유합니다. (single-flight)
+ * <p>
+ * - 먼저 들어온 요청(leader)만 실제 합성을 수행하고, 이후 요청은 leader의 결과를 기다립니다.
+ * - leader가 실패하면 (Error 포함) 기다리던 요청도 같은 예외를 받고, 진행 중 표시는 항상 제거됩니다.
+ */
+@Component
+public class TtsSingleFlight {
+
+    private final Map<String, CompletableFuture<byte[]>> inFlight = new ConcurrentHashMap<>();
+
+    private final Counter leaders;
+    private final Counter coalesced;
+
+    public TtsSingleFlight(MeterRegistry meterRegistry) {
+        this.leaders = Counter.builder("tts.singleflight.leaders").register(meterRegistry);
+        this.coalesced = Counter.builder("tts.singleflight.coalesced").register(meterRegistry);
+        Gauge.builder("tts.singleflight.in-flight", inFlight, Map::size).register(meterRegistry);
+    }
+
+    /**
+     * 키가 같은 진행 중인 요청이 있으면 그 결과를 기다리고, 없으면 loader를 실행
+     * @param key    캐시 키
+     * @param loader 실제 합성 작업
+     * @return 음성 바이트 배열
+     */
+    public byte[] execute(String key, Supplier<byte[]> loader) {
+        CompletableFuture<byte[]> created = new CompletableFuture<>();
+        CompletableFuture<byte[]> existing = inFlight.putIfAbsent(key, created);
+
+        // 이미 진행 중인 요청이 있으면 결과 공유
+        if (existing != null) {
+            coalesced.increment();
+            return await(existing);
+        }
+
+        leaders.increment();
+        try {
+            byte[] result = loader.get();
+            created.complete(result);
+            return result;
+        } catch (Throwable e) {
+            // Error(OOM 등)도 전달해야 기다리는 요청이 영원히 대기하지 않음
+            created.completeExceptionally(e);
+            throw e;
+        } finally {
+            inFlight.remove(key, created);
+        }
+    }
+
+    private static byte[] await(CompletableFuture<byte[]> future) {
+        try {
+            return future.join();
+        } catch (CompletionException e) {
+            if (e.getCause() instanceof RuntimeException cause) {
+                throw cause;
+            }
+            if (e.getCause() instanceof Error cause) {
+                throw cause;
+            }
+            throw e;
+        }
+    }
+}
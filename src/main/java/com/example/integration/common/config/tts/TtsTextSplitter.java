@@ -0,0 +1,188 @@
+package com.example.integration.common.config.tts;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.nio.charset.StandardCharsets;
+import java.text.BreakIterator;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+
+/**
+ * 긴 텍스트를 TTS API 입력 제한보다 작은 조각으로 나눕니다.
+ * <p>
+ * - 문장 경계에서 나누고, 한 조각에 여러 문장을 최대 크기까지 이어 붙입니다.
+ * - 한 문장이 최대 크기보다 길면 단어 경계에서, 그래도 길면 글자 단위로 나눕니다.
+ * - 크기는 API 제한과 같이 UTF-8 바이트 수로 계산합니다.
+ * - 반대로 짧은 문장 여러 개는 묶음 합성 요청 하나에 들어갈 만큼씩 묶습니다.
+ */
+@Component
+public class TtsTextSplitter {
+
+    private final int maxChunkBytes;
+    private final int maxBatchBytes;
+    private final int maxBatchSentences;
+
+    public TtsTextSplitter(
+            @Value("${tts.chunk.max-bytes:4500}") int maxChunkBytes,
+            // SSML mark/break 태그가 문장마다 붙으므로 API 제한(5000 bytes)보다 여유를 둠
+            @Value("${tts.batch.max-bytes:3000}") int maxBatchBytes,
+            @Value("${tts.batch.max-sentences:40}") int maxBatchSentences
+    ) {
+        this.maxChunkBytes = maxChunkBytes;
+        this.maxBatchBytes = maxBatchBytes;
+        this.maxBatchSentences = maxBatchSentences;
+    }
+
+    /**
+     * 짧은 문장들을 묶음 합성 요청 단위로 묶음 (순서 유지)
+     * 묶음 크기를 넘는 문장은 단독으로 한 묶음이 됩니다.
+     * @param specs 언어/음성/인코딩이 같은 문장 목록
+     * @return 묶음 목록
+     */
+    public List<List<TtsAudioSpec>> packBatches(List<TtsAudioSpec> specs) {
+        List<List<TtsAudioSpec>> batches = new ArrayList<>();
+        List<TtsAudioSpec> current = new ArrayList<>();
+        int currentBytes = 0;
+
+        for (TtsAudioSpec spec : specs) {
+            int specBytes = utf8Length(spec.text());
+
+            if (!current.isEmpty() && (currentBytes + specBytes > maxBatchBytes || current.size() >= maxBatchSentences)) {
+                batches.add(current);
+                current = new ArrayList<>();
+                currentBytes = 0;
+            }
+
+            current.add(spec);
+            currentBytes += specBytes;
+        }
+        if (!current.isEmpty()) {
+            batches.add(current);
+        }
+
+        return batches;
+    }
+
+    /**
+     * 나눌 필요가 있는 텍스트인지 확인
+     * @param text
+     * @return 최대 크기를 넘는 경우 true
+     */
+    public boolean needsSplit(String text) {
+        return utf8Length(text) > maxChunkBytes;
+    }
+
+    /**
+     * 텍스트를 문장 경계 기준으로 분할
+     * @param text   분할할 텍스트
+     * @param locale 문장 경계 규칙에 사용할 언어
+     * @return 순서가 유지된 조각 목록
+     */
+    public List<String> split(String text, Locale locale) {
+        List<String> chunks = new ArrayList<>();
+        StringBuilder current = new StringBuilder();
+        int currentBytes = 0;
+
+        for (String sentence : segments(text, BreakIterator.getSentenceInstance(locale))) {
+            int sentenceBytes = utf8Length(sentence);
+
+            if (currentBytes + sentenceBytes > maxChunkBytes) {
+                flush(chunks, current);
+                currentBytes = 0;
+            }
+
+            if (sentenceBytes > maxChunkBytes) {
+                // 한 문장이 한 조각보다 긴 경우
+                chunks.addAll(splitLongSentence(sentence, locale));
+                continue;
+            }
+
+            current.append(sentence);
+            currentBytes += sentenceBytes;
+        }
+        flush(chunks, current);
+
+        return chunks;
+    }
+
+    private List<String> splitLongSentence(String sentence, Locale locale) {
+        List<String> chunks = new ArrayList<>();
+        StringBuilder current = new StringBuilder();
+        int currentBytes = 0;
+
+        for (String word : segments(sentence, BreakIterator.getWordInstance(locale))) {
+            int wordBytes = utf8Length(word);
+
+            if (currentBytes + wordBytes > maxChunkBytes) {
+                flush(chunks, current);
+                currentBytes = 0;
+            }
+
+            if (wordBytes > maxChunkBytes) {
+                // 공백 없이 매우 긴 토큰은 글자(code point) 단위로 자름
+                for (String piece : splitByCodePoints(word)) {
+                    chunks.add(piece);
+                }
+                continue;
+            }
+
+            current.append(word);
+            currentBytes += wordBytes;
+        }
+        flush(chunks, current);
+
+        return chunks;
+    }
+
+    private List<String> splitByCodePoints(String word) {
+        List<String> pieces = new ArrayList<>();
+        StringBuilder current = new StringBuilder();
+        int currentBytes = 0;
+
+        for (int i = 0; i < word.length(); ) {
+            int codePoint = word.codePointAt(i);
+            String character = new String(Character.toChars(codePoint));
+            int characterBytes = utf8Length(character);
+
+            if (currentBytes + characterBytes > maxChunkBytes) {
+                pieces.add(current.toString());
+                current.setLength(0);
+                currentBytes = 0;
+            }
+            current.append(character);
+            currentBytes += characterBytes;
+            i += Character.charCount(codePoint);
+        }
+        if (!current.isEmpty()) {
+            pieces.add(current.toString());
+        }
+
+        return pieces;
+    }
+
+    private static List<String> segments(String text, BreakIterator iterator) {
+        List<String> segments = new ArrayList<>();
+        iterator.setText(text);
+
+        int start = iterator.first();
+        for (int end = iterator.next(); end != BreakIterator.DONE; start = end, end = iterator.next()) {
+            segments.add(text.substring(start, end));
+        }
+
+        return segments;
+    }
+
+    // 공백만 남은 조각은 API가 거부하므로 제외
+    private static void flush(List<String> chunks, StringBuilder current) {
+        if (!current.toString().isBlank()) {
+            chunks.add(current.toString().strip());
+        }
+        current.setLength(0);
+    }
+
+    private static int utf8Length(String text) {
+        return text.getBytes(StandardCharsets.UTF_8).length;
+    }
+}
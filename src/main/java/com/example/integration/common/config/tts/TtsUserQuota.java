@@ -0,0 +1,230 @@
+package com.example.integration.common.config.tts;
+
+import com.example.integration.common.response.CustomException;
+import com.example.integration.common.response.ErrorCode;
+import com.example.integration.common.util.RedisUtil;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.time.LocalDate;
+import java.time.YearMonth;
+import java.time.ZoneId;
+import java.time.format.DateTimeFormatter;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * 사용자별 TTS 글자 수 할당량 (일/월)
+ * <p>
+ * - 요청 경로에서는 메모리의 카운터만 확인/증가하며, Redis를 호출하지 않습니다.
+ * - 쌓인 사용량은 flush-interval-ms마다 파이프라인 한 번으로 Redis에 더하고(INCRBY), 다른 노드의 사용량이 반영된 합계를 받아옵니다.
+ * - 따라서 노드 간 할당량은 최대 flush 주기만큼 늦게 반영되며, 초과 허용량도 그 주기 동안의 사용량으로 제한됩니다.
+ * - 실제로 TTS API를 호출하지 않은 요청(캐시 적중, 합성 실패)의 사용량은 {@link #refund}로 돌려줍니다.
+ */
+@Slf4j
+@Component
+public class TtsUserQuota {
+
+    private static final String DAILY_KEY_PREFIX = "tts_quota:daily:";
+    private static final String MONTHLY_KEY_PREFIX = "tts_quota:monthly:";
+    private static final DateTimeFormatter DAY_FORMAT = DateTimeFormatter.BASIC_ISO_DATE;
+    private static final DateTimeFormatter MONTH_FORMAT = DateTimeFormatter.ofPattern("yyyyMM");
+
+    // 기간이 끝난 뒤에도 조회할 수 있도록 여유를 두고 만료
+    private static final long DAILY_TTL_SECONDS = TimeUnit.DAYS.toSeconds(2);
+    private static final long MONTHLY_TTL_SECONDS = TimeUnit.DAYS.toSeconds(32);
+
+    private final RedisUtil redisUtil;
+    private final long dailyCharacters;
+    private final long monthlyCharacters;
+    private final ZoneId zoneId;
+
+    // 아직 Redis에 반영하지 않은 사용량 (LongAdder는 내부적으로 셀을 나누어 경합을 줄임)
+    private final ConcurrentHashMap<String, LongAdder> pendingUsage = new ConcurrentHashMap<>();
+    // 마지막 flush 시점의 Redis 합계 (모든 노드의 사용량)
+    private final ConcurrentHashMap<String, Long> flushedUsage = new ConcurrentHashMap<>();
+
+    private final ScheduledExecutorService flusher;
+
+    private final Counter rejected;
+    private final Counter flushFailures;
+    private final Timer flushTimer;
+
+    public TtsUserQuota(
+            RedisUtil redisUtil,
+            @Value("${tts.quota.daily-characters:50000}") long dailyCharacters,
+            @Value("${tts.quota.monthly-characters:1000000}") long monthlyCharacters,
+            @Value("${tts.quota.flush-interval-ms:1000}") long flushIntervalMillis,
+            @Value("${tts.quota.zone:Asia/Seoul}") String zone,
+            MeterRegistry meterRegistry
+    ) {
+        this.redisUtil = redisUtil;
+        this.dailyCharacters = dailyCharacters;
+        this.monthlyCharacters = monthlyCharacters;
+        this.zoneId = ZoneId.of(zone);
+
+        this.rejected = Counter.builder("tts.quota.rejected").register(meterRegistry);
+        this.flushFailures = Counter.builder("tts.quota.flush.failures").register(meterRegistry);
+        this.flushTimer = Timer.builder("tts.quota.flush").register(meterRegistry);
+        Gauge.builder("tts.quota.tracked.keys", flushedUsage, Map::size).register(meterRegistry);
+
+        this.flusher = Executors.newSingleThreadScheduledExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "tts-quota-flush");
+            thread.setDaemon(true);
+            return thread;
+        });
+        this.flusher.scheduleWithFixedDelay(this::flush, flushIntervalMillis, flushIntervalMillis, TimeUnit.MILLISECONDS);
+    }
+
+    /**
+     * 할당량 확인 후 사용량 기록
+     * @param userKey    사용자 식별자
+     * @param characters 요청한 글자 수
+     * @throws CustomException 일/월 할당량을 초과하는 경우 (TTS_QUOTA_EXCEEDED)
+     */
+    public void consume(String userKey, int characters) {
+        LocalDate today = LocalDate.now(zoneId);
+        String dailyKey = dailyKey(userKey, today);
+        String monthlyKey = monthlyKey(userKey, today);
+
+        if (usageOf(dailyKey) + characters > dailyCharacters
+                || usageOf(monthlyKey) + characters > monthlyCharacters) {
+            rejected.increment();
+            throw new CustomException(ErrorCode.TTS_QUOTA_EXCEEDED);
+        }
+
+        pendingUsage.computeIfAbsent(dailyKey, key -> new LongAdder()).add(characters);
+        pendingUsage.computeIfAbsent(monthlyKey, key -> new LongAdder()).add(characters);
+    }
+
+    /**
+     * 차감한 사용량 반환 (합성에 실패한 경우 등)
+     * @param userKey    사용자 식별자
+     * @param characters {@link #consume}에서 차감한 글자 수
+     */
+    public void refund(String userKey, int characters) {
+        LocalDate today = LocalDate.now(zoneId);
+
+        pendingUsage.computeIfAbsent(dailyKey(userKey, today), key -> new LongAdder()).add(-characters);
+        pendingUsage.computeIfAbsent(monthlyKey(userKey, today), key -> new LongAdder()).add(-characters);
+    }
+
+    private long usageOf(String key) {
+        LongAdder pending = pendingUsage.get(key);
+        return flushedUsage.getOrDefault(key, 0L) + (pending == null ? 0 : pending.sum());
+    }
+
+    /**
+     * 쌓인 사용량을 Redis에 반영하고, 추적 중인 키의 전체 합계를 갱신
+     */
+    void flush() {
+        long startNanos = System.nanoTime();
+        Map<String, Long> dailyIncrements = new HashMap<>();
+        Map<String, Long> monthlyIncrements = new HashMap<>();
+
+        // 대기 중인 사용량을 flushedUsage로 먼저 옮긴 뒤 pendingUsage에서 뺌
+        // (빼기 전까지 잠시 두 번 집계되지만, 어느 쪽에도 없어 할당량을 넘길 수 있는 순간은 없음)
+        pendingUsage.forEach((key, adder) -> {
+            long delta = adder.sum();
+            if (delta != 0) {
+                flushedUsage.merge(key, delta, Long::sum);
+                adder.add(-delta);
+                (key.startsWith(DAILY_KEY_PREFIX) ? dailyIncrements : monthlyIncrements).put(key, delta);
+            }
+        });
+
+        try {
+            if (!dailyIncrements.isEmpty()) {
+                flushedUsage.putAll(redisUtil.incrementAllWithExpire(dailyIncrements, DAILY_TTL_SECONDS));
+            }
+            if (!monthlyIncrements.isEmpty()) {
+                flushedUsage.putAll(redisUtil.incrementAllWithExpire(monthlyIncrements, MONTHLY_TTL_SECONDS));
+            }
+        } catch (Exception e) {
+            // 반영하지 못한 사용량은 다음 flush에서 다시 시도
+            dailyIncrements.forEach(this::restorePending);
+            monthlyIncrements.forEach(this::restorePending);
+            flushFailures.increment();
+            log.warn("TTS 할당량 사용량 반영 실패: {}", e.getMessage());
+            return;
+        }
+
+        refreshIdleKeys(dailyIncrements, monthlyIncrements);
+        evictExpiredKeys();
+        flushTimer.record(System.nanoTime() - startNanos, TimeUnit.NANOSECONDS);
+    }
+
+    // 이번 주기에 이 노드에서 사용량이 없던 키는 다른 노드의 사용량만 받아옴 (MGET)
+    private void refreshIdleKeys(Map<String, Long> dailyIncrements, Map<String, Long> monthlyIncrements) {
+        List<String> idleKeys = new ArrayList<>();
+        for (String key : pendingUsage.keySet()) {
+            if (!dailyIncrements.containsKey(key) && !monthlyIncrements.containsKey(key)) {
+                idleKeys.add(key);
+            }
+        }
+        if (idleKeys.isEmpty()) {
+            return;
+        }
+
+        try {
+            List<String> totals = redisUtil.getMultiData(idleKeys);
+            for (int i = 0; i < idleKeys.size() && i < totals.size(); i++) {
+                String total = totals.get(i);
+                if (total != null) {
+                    flushedUsage.put(idleKeys.get(i), Long.parseLong(total));
+                }
+            }
+        } catch (Exception e) {
+            flushFailures.increment();
+            log.warn("TTS 할당량 합계 조회 실패: {}", e.getMessage());
+        }
+    }
+
+    // 지난 기간의 키는 더 이상 확인하지 않으므로 메모리에서 제거 (남은 사용량은 다음 flush에서 반영)
+    private void evictExpiredKeys() {
+        LocalDate today = LocalDate.now(zoneId);
+        String daySuffix = ":" + today.format(DAY_FORMAT);
+        String monthSuffix = ":" + YearMonth.from(today).format(MONTH_FORMAT);
+
+        pendingUsage.entrySet().removeIf(entry -> {
+            String key = entry.getKey();
+            boolean current = key.endsWith(key.startsWith(DAILY_KEY_PREFIX) ? daySuffix : monthSuffix);
+            return !current && entry.getValue().sum() == 0;
+        });
+        flushedUsage.keySet().removeIf(key -> !pendingUsage.containsKey(key));
+    }
+
+    // pendingUsage로 되돌린 뒤 flushedUsage에서 뺌 (이 순서여야 사용량이 누락되는 순간이 없음)
+    private void restorePending(String key, Long delta) {
+        pendingUsage.computeIfAbsent(key, k -> new LongAdder()).add(delta);
+        flushedUsage.merge(key, -delta, Long::sum);
+    }
+
+    private String dailyKey(String userKey, LocalDate date) {
+        return DAILY_KEY_PREFIX + userKey + ":" + date.format(DAY_FORMAT);
+    }
+
+    private String monthlyKey(String userKey, LocalDate date) {
+        return MONTHLY_KEY_PREFIX + userKey + ":" + YearMonth.from(date).format(MONTH_FORMAT);
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        flusher.shutdownNow();
+        // 종료 전 남은 사용량 반영
+        flush();
+    }
+}
@@ -0,0 +1,37 @@
+package com.example.integration.common.config.tts;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.InitializingBean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.web.method.support.HandlerMethodReturnValueHandler;
+import org.springframework.web.servlet.mvc.method.annotation.RequestMappingHandlerAdapter;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * TtsAudioFile 반환 값 처리기 등록
+ * WebMvcConfigurer로 추가한 처리기는 기본 처리기 뒤에 등록되어 @RestController의 JSON 변환이 먼저 적용되므로,
+ * 어댑터의 처리기 목록 맨 앞에 직접 추가합니다.
+ */
+@Configuration
+@RequiredArgsConstructor
+public class TtsWebConfig implements InitializingBean {
+
+    private final RequestMappingHandlerAdapter requestMappingHandlerAdapter;
+    private final AudioFileStreamer audioFileStreamer;
+    private final TextToSpeechMetrics textToSpeechMetrics;
+
+    @Override
+    public void afterPropertiesSet() {
+        List<HandlerMethodReturnValueHandler> handlers = new ArrayList<>();
+        handlers.add(new TtsAudioFileReturnValueHandler(audioFileStreamer, textToSpeechMetrics));
+
+        List<HandlerMethodReturnValueHandler> defaultHandlers = requestMappingHandlerAdapter.getReturnValueHandlers();
+        if (defaultHandlers != null) {
+            handlers.addAll(defaultHandlers);
+        }
+
+        requestMappingHandlerAdapter.setReturnValueHandlers(handlers);
+    }
+}
@@ -0,0 +1,16 @@
+package com.example.integration.common.enums.tts;
+
+import com.google.cloud.texttospeech.v1.AudioEncoding;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+@Getter
+@AllArgsConstructor
+public enum AudioFormat {
+    MP3(AudioEncoding.MP3, "audio/mpeg", "mp3"),
+    OGG_OPUS(AudioEncoding.OGG_OPUS, "audio/ogg", "ogg");
+
+    private final AudioEncoding encoding;
+    private final String mediaType;
+    private final String extension;
+}
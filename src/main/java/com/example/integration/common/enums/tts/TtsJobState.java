@@ -0,0 +1,15 @@
+package com.example.integration.common.enums.tts;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+@Getter
+@AllArgsConstructor
+public enum TtsJobState {
+    IDLE("예약된 작업 없음"),
+    RUNNING("합성 중"),
+    COMPLETED("합성 완료"),
+    COMPLETED_WITH_ERRORS("일부 합성 실패");
+
+    private final String description;
+}
@@ -15,6 +15,9 @@ public enum ErrorCode {
     INVALID_VERIFY_CODE(40001, HttpStatus.BAD_REQUEST, "유효하지 않은 인증 코드입니다."),
     EMAIL_ALREADY_EXISTS(40002, HttpStatus.BAD_REQUEST, "이미 사용중인 이메일입니다."),
     PRIVATE_SENTENCE_SET(40003, HttpStatus.BAD_REQUEST, "허용되지 않은 문장 세트입니다."),
+    UNSUPPORTED_TTS_LANGUAGE(40004, HttpStatus.BAD_REQUEST, "지원하지 않는 TTS 언어입니다."),
+    UNSUPPORTED_TTS_FORMAT(40005, HttpStatus.BAD_REQUEST, "지원하지 않는 TTS 음성 형식입니다."),
+    INVALID_CURSOR(40006, HttpStatus.BAD_REQUEST, "유효하지 않은 페이지 커서입니다."),
 
     // 401 Unauthorized - 잘못된 토큰
     INVALID_TOKEN(40101, HttpStatus.UNAUTHORIZED, "유효하지 않은 토큰입니다."),
@@ -23,6 +26,7 @@ public enum ErrorCode {
     NOT_MATCHED_REFRESH_TOKEN(40104, HttpStatus.UNAUTHORIZED, "리프레시 토큰이 일치하지 않습니다"),
     INVALID_PASSWORD(40105, HttpStatus.UNAUTHORIZED, "비밀번호 에러"),
     LOGIN_ERROR(40106, HttpStatus.UNAUTHORIZED, "로그인 에러"),
+    REUSED_REFRESH_TOKEN(40107, HttpStatus.UNAUTHORIZED, "이미 사용된 리프레시 토큰입니다. 다시 로그인해주세요."),
 
 
     // 403 Forbidden
@@ -37,6 +41,12 @@ public enum ErrorCode {
 
     // 409 Conflict
     REFERENCE_ALREADY_EXISTS(40901, HttpStatus.CONFLICT, "참조는 문장당 1개만 존재"),
+    REFRESH_TOKEN_ALREADY_ROTATED(40902, HttpStatus.CONFLICT, "이미 재발급된 리프레시 토큰입니다. 최근에 발급된 토큰으로 다시 시도해주세요."),
+
+    // 429 Too Many Requests
+    TTS_RATE_LIMITED(42901, HttpStatus.TOO_MANY_REQUESTS, "TTS 요청이 많아 처리할 수 없습니다. 잠시 후 다시 시도해주세요."),
+    TTS_QUOTA_EXCEEDED(42902, HttpStatus.TOO_MANY_REQUESTS, "TTS 사용 한도를 초과했습니다."),
+    PASSWORD_HASHING_BUSY(42903, HttpStatus.TOO_MANY_REQUESTS, "요청이 많아 처리할 수 없습니다. 잠시 후 다시 시도해주세요."),
 
     // 500 Internal Server Error
     INTERNAL_SERVER_ERROR(50000, HttpStatus.INTERNAL_SERVER_ERROR, "서버 내부 오류입니다."),
@@ -0,0 +1,190 @@
+package com.example.integration.common.util;
+
+import java.io.ByteArrayOutputStream;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+public class Mp3Util {
+
+    private static final int ID3V2_HEADER_LENGTH = 10;
+    private static final int ID3V1_TAG_LENGTH = 128;
+    private static final int FRAME_HEADER_LENGTH = 4;
+    // VBRI 헤더는 프레임 헤더 뒤 32바이트 위치에 고정
+    private static final int VBRI_OFFSET = FRAME_HEADER_LENGTH + 32;
+
+    // Layer III 비트레이트(kbps), [0]: MPEG-1, [1]: MPEG-2/2.5
+    private static final int[][] BITRATES = {
+            {0, 32, 40, 48, 56, 64, 80, 96, 112, 128, 160, 192, 224, 256, 320},
+            {0, 8, 16, 24, 32, 40, 48, 56, 64, 80, 96, 112, 128, 144, 160}
+    };
+
+    // 샘플링 레이트(Hz), [0]: MPEG-1, [1]: MPEG-2, [2]: MPEG-2.5
+    private static final int[][] SAMPLE_RATES = {
+            {44100, 48000, 32000},
+            {22050, 24000, 16000},
+            {11025, 12000, 8000}
+    };
+
+    private Mp3Util(){}
+
+    // 여러 MP3 조각을 순서대로 이어 붙임 (두 번째 조각부터는 ID3 태그를 제거하여 프레임만 연결)
+    // Xing/Info/VBRI 프레임은 조각 하나의 프레임 수와 재생 시간만 담고 있어, 남기면 플레이어가 전체 길이와 탐색 위치를 잘못 계산하므로 모든 조각에서 제거
+    public static byte[] concat(List<byte[]> parts) {
+        ByteArrayOutputStream out = new ByteArrayOutputStream(parts.stream().mapToInt(part -> part.length).sum());
+
+        for (int i = 0; i < parts.size(); i++) {
+            byte[] part = parts.get(i);
+            int id3Length = id3v2Length(part);
+            byte[] frames = stripId3(part);
+
+            // 첫 조각의 ID3v2 태그는 유지
+            if (i == 0) {
+                out.write(part, 0, id3Length);
+            }
+            out.writeBytes(stripVbrHeaderFrame(frames));
+        }
+
+        return out.toByteArray();
+    }
+
+    // 첫 프레임이 Xing/Info(LAME) 또는 VBRI(Fraunhofer) 헤더 프레임이면 제거 (오디오 데이터가 없는 프레임)
+    static byte[] stripVbrHeaderFrame(byte[] frames) {
+        if (frames.length < FRAME_HEADER_LENGTH) {
+            return frames;
+        }
+
+        Frame frame;
+        try {
+            frame = readFrame(frames, 0);
+        } catch (IllegalArgumentException e) {
+            // 프레임으로 시작하지 않으면 그대로 사용
+            return frames;
+        }
+
+        int xingOffset = FRAME_HEADER_LENGTH + frame.sideInfoLength();
+        boolean vbrHeader = hasTag(frames, xingOffset, "Xing") || hasTag(frames, xingOffset, "Info")
+                || hasTag(frames, VBRI_OFFSET, "VBRI");
+
+        if (!vbrHeader || frame.length() > frames.length) {
+            return frames;
+        }
+        return Arrays.copyOfRange(frames, frame.length(), frames.length);
+    }
+
+    private static boolean hasTag(byte[] audio, int offset, String tag) {
+        if (offset + tag.length() > audio.length) {
+            return false;
+        }
+        for (int i = 0; i < tag.length(); i++) {
+            if (audio[offset + i] != tag.charAt(i)) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    // 앞쪽 ID3v2 태그와 끝의 ID3v1 태그를 제거
+    public static byte[] stripId3(byte[] audio) {
+        int start = id3v2Length(audio);
+        byte[] withoutHeader = start == 0 ? audio : Arrays.copyOfRange(audio, start, audio.length);
+        return stripId3v1(withoutHeader);
+    }
+
+    // ID3v2 태그 길이 (없으면 0), 크기 필드는 synchsafe 정수(바이트당 7비트)
+    public static int id3v2Length(byte[] audio) {
+        if (audio.length < ID3V2_HEADER_LENGTH || audio[0] != 'I' || audio[1] != 'D' || audio[2] != '3') {
+            return 0;
+        }
+
+        int size = ((audio[6] & 0x7F) << 21) | ((audio[7] & 0x7F) << 14) | ((audio[8] & 0x7F) << 7) | (audio[9] & 0x7F);
+        boolean hasFooter = (audio[5] & 0x10) != 0;
+        int length = ID3V2_HEADER_LENGTH + size + (hasFooter ? ID3V2_HEADER_LENGTH : 0);
+
+        return Math.min(length, audio.length);
+    }
+
+    private static byte[] stripId3v1(byte[] audio) {
+        int tagStart = audio.length - ID3V1_TAG_LENGTH;
+        if (tagStart >= 0 && audio[tagStart] == 'T' && audio[tagStart + 1] == 'A' && audio[tagStart + 2] == 'G') {
+            return Arrays.copyOf(audio, tagStart);
+        }
+        return audio;
+    }
+
+    /**
+     * MP3를 지정한 시각에서 프레임 경계에 맞춰 자름
+     * 각 시각 이후 처음 시작하는 프레임에서 자르므로, 결과는 cutSeconds.size() + 1개의 조각
+     * @param audio      MP3 바이트 배열 (MPEG Layer III)
+     * @param cutSeconds 오름차순으로 정렬된 자를 시각(초)
+     * @return 순서대로 잘린 MP3 조각 목록
+     * @throws IllegalArgumentException 프레임 헤더를 해석할 수 없는 경우
+     */
+    public static List<byte[]> sliceAt(byte[] audio, List<Double> cutSeconds) {
+        // VBR 헤더 프레임은 오디오가 없으므로 재생 시간 계산에서 제외
+        byte[] frames = stripVbrHeaderFrame(stripId3(audio));
+        List<byte[]> slices = new ArrayList<>(cutSeconds.size() + 1);
+
+        int offset = 0;
+        int sliceStart = 0;
+        int cutIndex = 0;
+        double elapsedSeconds = 0;
+
+        while (offset + FRAME_HEADER_LENGTH <= frames.length && cutIndex < cutSeconds.size()) {
+            Frame frame = readFrame(frames, offset);
+
+            // 이 프레임이 자를 시각 이후에 시작하면 여기서 자름
+            while (cutIndex < cutSeconds.size() && elapsedSeconds >= cutSeconds.get(cutIndex)) {
+                slices.add(Arrays.copyOfRange(frames, sliceStart, offset));
+                sliceStart = offset;
+                cutIndex++;
+            }
+
+            elapsedSeconds += frame.durationSeconds();
+            offset += frame.length();
+        }
+
+        // 오디오보다 뒤에 있는 시각은 빈 조각 대신 마지막 위치에서 자름
+        while (cutIndex < cutSeconds.size()) {
+            int end = Math.min(offset, frames.length);
+            slices.add(Arrays.copyOfRange(frames, sliceStart, end));
+            sliceStart = end;
+            cutIndex++;
+        }
+        slices.add(Arrays.copyOfRange(frames, sliceStart, frames.length));
+
+        return slices;
+    }
+
+    private static Frame readFrame(byte[] audio, int offset) {
+        int header = ((audio[offset] & 0xFF) << 24) | ((audio[offset + 1] & 0xFF) << 16)
+                | ((audio[offset + 2] & 0xFF) << 8) | (audio[offset + 3] & 0xFF);
+
+        if ((header >>> 21) != 0x7FF) {
+            throw new IllegalArgumentException("MP3 프레임 동기화 비트를 찾을 수 없습니다. (offset: " + offset + ")");
+        }
+
+        int version = (header >>> 19) & 0x3;   // 3: MPEG-1, 2: MPEG-2, 0: MPEG-2.5
+        int layer = (header >>> 17) & 0x3;     // 1: Layer III
+        int bitrateIndex = (header >>> 12) & 0xF;
+        int sampleRateIndex = (header >>> 10) & 0x3;
+        int padding = (header >>> 9) & 0x1;
+        boolean mono = ((header >>> 6) & 0x3) == 3;
+
+        if (version == 1 || layer != 1 || bitrateIndex == 0 || bitrateIndex == 0xF || sampleRateIndex == 3) {
+            throw new IllegalArgumentException("지원하지 않는 MP3 프레임입니다. (offset: " + offset + ")");
+        }
+
+        boolean mpeg1 = version == 3;
+        int bitrate = BITRATES[mpeg1 ? 0 : 1][bitrateIndex] * 1000;
+        int sampleRate = SAMPLE_RATES[mpeg1 ? 0 : (version == 2 ? 1 : 2)][sampleRateIndex];
+        int samplesPerFrame = mpeg1 ? 1152 : 576;
+
+        int length = (samplesPerFrame / 8) * bitrate / sampleRate + padding;
+        // Layer III side information 길이 (Xing/Info 헤더는 그 바로 뒤에 위치)
+        int sideInfoLength = mpeg1 ? (mono ? 17 : 32) : (mono ? 9 : 17);
+        return new Frame(length, (double) samplesPerFrame / sampleRate, sideInfoLength);
+    }
+
+    private record Frame(int length, double durationSeconds, int sideInfoLength) {}
+}
@@ -0,0 +1,79 @@
+package com.example.integration.common.util;
+
+import com.example.integration.common.response.CustomException;
+import com.example.integration.common.response.ErrorCode;
+
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDate;
+import java.time.format.DateTimeParseException;
+import java.util.Base64;
+import java.util.List;
+import java.util.function.Function;
+
+/**
+ * 커서(keyset) 페이징의 위치 (마지막으로 받은 행의 생성일과 id)
+ * 클라이언트에는 내용을 알 수 없는 문자열(base64url)로 전달
+ *
+ * @param createdDate 마지막 행의 생성일
+ * @param id          마지막 행의 id (같은 생성일 안에서의 순서)
+ */
+public record PageCursor(LocalDate createdDate, Long id) {
+
+    private static final Base64.Encoder ENCODER = Base64.getUrlEncoder().withoutPadding();
+    private static final Base64.Decoder DECODER = Base64.getUrlDecoder();
+
+    /**
+     * 커서 문자열 해석
+     * @param cursor 이전 응답의 nextCursor (비어 있으면 첫 페이지)
+     * @return 첫 페이지인 경우 null
+     * @throws CustomException 형식이 잘못된 경우 (INVALID_CURSOR)
+     */
+    public static PageCursor decode(String cursor) {
+        if (cursor == null || cursor.isBlank()) {
+            return null;
+        }
+
+        try {
+            String[] parts = new String(DECODER.decode(cursor), StandardCharsets.UTF_8).split(":");
+            if (parts.length != 2) {
+                throw new CustomException(ErrorCode.INVALID_CURSOR);
+            }
+            return new PageCursor(LocalDate.parse(parts[0]), Long.parseLong(parts[1]));
+        } catch (IllegalArgumentException | DateTimeParseException e) {
+            throw new CustomException(ErrorCode.INVALID_CURSOR);
+        }
+    }
+
+    /**
+     * 커서 문자열 생성
+     * @return
+     */
+    public String encode() {
+        return ENCODER.encodeToString((createdDate + ":" + id).getBytes(StandardCharsets.UTF_8));
+    }
+
+    /**
+     * 다음 페이지 커서 생성
+     * 한 개 더 조회한 결과(limit + 1)로 다음 페이지 존재 여부를 판단
+     * @param rows     limit + 1개까지 조회한 결과
+     * @param limit    페이지 크기
+     * @param cursorOf 행의 커서
+     * @return 다음 페이지가 없으면 null
+     */
+    public static <T> String next(List<T> rows, int limit, Function<T, PageCursor> cursorOf) {
+        if (rows.size() <= limit) {
+            return null;
+        }
+        return cursorOf.apply(rows.get(limit - 1)).encode();
+    }
+
+    /**
+     * 한 개 더 조회한 결과에서 페이지 크기만큼만 반환
+     * @param rows
+     * @param limit
+     * @return
+     */
+    public static <T> List<T> page(List<T> rows, int limit) {
+        return rows.size() > limit ? rows.subList(0, limit) : rows;
+    }
+}
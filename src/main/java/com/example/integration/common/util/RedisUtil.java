@@ -1,17 +1,59 @@
 package com.example.integration.common.util;
 
 import lombok.RequiredArgsConstructor;
+import org.springframework.data.redis.connection.StringRedisConnection;
+import org.springframework.data.redis.core.RedisCallback;
 import org.springframework.data.redis.core.StringRedisTemplate;
 import org.springframework.data.redis.core.ValueOperations;
+import org.springframework.data.redis.core.script.DefaultRedisScript;
+import org.springframework.data.redis.core.script.RedisScript;
 import org.springframework.stereotype.Service;
 
 import java.time.Duration;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
 
 @RequiredArgsConstructor
 @Service
 public class RedisUtil {
     private final StringRedisTemplate template;
 
+    // 값 교체 결과
+    public static final long ROTATED = 1;
+    public static final long NOT_MATCHED = 0;
+    public static final long REUSED = -1;
+    public static final long REPLAYED = 2;
+
+    /*
+     * KEYS[1]: 현재 값, KEYS[2]: 교체된 이전 값들의 Set, KEYS[3]: 직전에 교체된 값 (유예 기간 동안 유지)
+     * ARGV[1]: 기대하는 현재 값, ARGV[2]: 새 값, ARGV[3]: 만료 기한 (초), ARGV[4]: 유예 기간 (초)
+     * 현재 값이 일치하면 교체하고 이전 값을 Set에 기록
+     * 직전에 교체된 값이 유예 기간 안에 다시 사용되면 아무것도 바꾸지 않음 (클라이언트 재시도, 동시 재발급)
+     * 그 밖에 이미 교체된 값이 사용되면 모든 키를 삭제
+     */
+    private static final RedisScript<Long> ROTATE_SCRIPT = new DefaultRedisScript<>("""
+            local current = redis.call('GET', KEYS[1])
+            if current == ARGV[1] then
+                redis.call('SET', KEYS[1], ARGV[2], 'EX', ARGV[3])
+                redis.call('SADD', KEYS[2], ARGV[1])
+                redis.call('EXPIRE', KEYS[2], ARGV[3])
+                if tonumber(ARGV[4]) > 0 then
+                    redis.call('SET', KEYS[3], ARGV[1], 'EX', ARGV[4])
+                end
+                return 1
+            end
+            if redis.call('GET', KEYS[3]) == ARGV[1] then
+                return 2
+            end
+            if redis.call('SISMEMBER', KEYS[2], ARGV[1]) == 1 then
+                redis.call('DEL', KEYS[1], KEYS[2], KEYS[3])
+                return -1
+            end
+            return 0
+            """, Long.class);
+
     /**
      * 저장된 데이터 조회
      * @param key
@@ -52,4 +94,62 @@ public class RedisUtil {
     public void deleteData(String key) {
         template.delete(key);
     }
+
+    /**
+     * 여러 데이터 조회 (MGET)
+     * @param keys
+     * @return 키 순서와 같은 순서의 값 목록 (없는 키는 null)
+     */
+    public List<String> getMultiData(List<String> keys) {
+        List<String> values = template.opsForValue().multiGet(keys);
+
+        return values == null ? new ArrayList<>() : values;
+    }
+
+    /**
+     * 여러 카운터를 한 번의 파이프라인으로 증가시키고 만료 기한 설정
+     * @param increments 키별 증가량
+     * @param duration   만료 기한 (초)
+     * @return 키별 증가 후 값
+     */
+    public Map<String, Long> incrementAllWithExpire(Map<String, Long> increments, long duration) {
+        List<String> keys = new ArrayList<>(increments.keySet());
+
+        List<Object> results = template.executePipelined((RedisCallback<Object>) connection -> {
+            StringRedisConnection stringConnection = (StringRedisConnection) connection;
+            for (String key : keys) {
+                stringConnection.incrBy(key, increments.get(key));
+                stringConnection.expire(key, duration);
+            }
+            return null;
+        });
+
+        // 결과는 키마다 (INCRBY 결과, EXPIRE 결과) 순서
+        Map<String, Long> totals = new LinkedHashMap<>();
+        for (int i = 0; i < keys.size(); i++) {
+            totals.put(keys.get(i), (Long) results.get(i * 2));
+        }
+
+        return totals;
+    }
+
+    /**
+     * 값 교체 (compare-and-swap, 서버에서 한 번에 실행)
+     * @param key           현재 값을 저장하는 키
+     * @param rotatedKey    교체된 이전 값들을 저장하는 키
+     * @param lastRotateKey 직전에 교체된 값을 저장하는 키
+     * @param expected      기대하는 현재 값
+     * @param newValue      새 값
+     * @param duration      만료 기한 (초)
+     * @param graceSeconds  유예 기간 (초, 0이면 유예 없음)
+     * @return {@link #ROTATED}: 교체 성공, {@link #REPLAYED}: 직전에 교체된 값의 유예 기간 안 재사용 (변경 없음),
+     *         {@link #NOT_MATCHED}: 현재 값 불일치, {@link #REUSED}: 이미 교체된 값이 다시 사용되어 모든 키를 삭제
+     */
+    public long rotateData(String key, String rotatedKey, String lastRotateKey, String expected, String newValue,
+                           long duration, long graceSeconds) {
+        Long result = template.execute(ROTATE_SCRIPT, List.of(key, rotatedKey, lastRotateKey),
+                expected, newValue, String.valueOf(duration), String.valueOf(graceSeconds));
+
+        return result == null ? NOT_MATCHED : result;
+    }
 }
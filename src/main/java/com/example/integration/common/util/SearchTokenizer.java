@@ -0,0 +1,52 @@
+package com.example.integration.common.util;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+
+public class SearchTokenizer {
+
+    private SearchTokenizer(){}
+
+    /**
+     * 텍스트를 검색용 n-gram 목록으로 변환 (같은 n-gram이 여러 번 나오면 그 횟수만큼 포함)
+     * - 소문자로 바꾼 뒤 글자/숫자가 아닌 문자로 단어를 나눕니다.
+     * - 두 글자 이상인 단어는 2-gram으로, 한 글자 단어는 그 글자 그대로 사용합니다.
+     *   (형태소 분석 없이도 한국어 조사가 붙은 단어나 영어 단어의 일부로 검색할 수 있음)
+     * @param text
+     * @return
+     */
+    public static List<String> tokenize(String text) {
+        List<String> grams = new ArrayList<>();
+        if (text == null) {
+            return grams;
+        }
+
+        String normalized = text.toLowerCase(Locale.ROOT);
+        int wordStart = -1;
+
+        for (int i = 0; i <= normalized.length(); i++) {
+            boolean letter = i < normalized.length() && Character.isLetterOrDigit(normalized.charAt(i));
+
+            if (letter && wordStart < 0) {
+                wordStart = i;
+            } else if (!letter && wordStart >= 0) {
+                addGrams(normalized, wordStart, i, grams);
+                wordStart = -1;
+            }
+        }
+
+        return grams;
+    }
+
+    private static void addGrams(String text, int start, int end, List<String> grams) {
+        if (end - start == 1) {
+            grams.add(text.substring(start, end));
+            return;
+        }
+
+        for (int i = start; i + 2 <= end; i++) {
+            grams.add(text.substring(i, i + 2));
+        }
+    }
+}
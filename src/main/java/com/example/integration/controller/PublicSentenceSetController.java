@@ -3,9 +3,12 @@ package com.example.integration.controller;
 import com.example.integration.dto.sentenceSet.ListSentenceSetResponseDto;
 import com.example.integration.dto.sentenceSet.PublicSentenceSetAndSentenceListResponseDto;
 import com.example.integration.dto.sentenceSet.PublicSentenceSetResponseDto;
+import com.example.integration.dto.sentenceSet.SearchSentenceSetResponseDto;
 import com.example.integration.dto.sentenceSet.SentenceSetRequestDto;
 import com.example.integration.common.response.ApiResponse;
 import com.example.integration.service.PublicSentenceSetService;
+import com.example.integration.service.SentenceCountRepairService;
+import com.example.integration.service.SentenceSetSearchService;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.web.bind.annotation.*;
@@ -17,51 +20,58 @@ import org.springframework.web.bind.annotation.*;
 public class PublicSentenceSetController {
 
     private final PublicSentenceSetService publicSentenceSetService;
+    private final SentenceCountRepairService sentenceCountRepairService;
+    private final SentenceSetSearchService sentenceSetSearchService;
 
     /**
      * 공용 문장 세트 목록 조회 API
+     * cursor 파라미터를 보내면 커서 페이징 (첫 페이지는 빈 값, 다음 페이지는 응답의 nextCursor)
      * @param offset
      * @param limit
+     * @param cursor
      * @return
      */
     @GetMapping("/public/sentence-set")
     public ApiResponse<ListSentenceSetResponseDto> getPublicSentenceSetList(@RequestParam(defaultValue = "0") int offset,
-                                                                            @RequestParam(defaultValue = "10") int limit) {
-        ListSentenceSetResponseDto listSentenceSetResponseDto = publicSentenceSetService.getPublicSentenceSetList(offset, limit);
+                                                                            @RequestParam(defaultValue = "10") int limit,
+                                                                            @RequestParam(required = false) String cursor) {
+        ListSentenceSetResponseDto listSentenceSetResponseDto = publicSentenceSetService.getPublicSentenceSetList(offset, limit, cursor);
         log.info("offset: {}", offset);
         return ApiResponse.ok(listSentenceSetResponseDto);
     }
 
     /**
-     * 키워드로 문장 세트 목록 검색 API
-     * 현재는 공용 모든 문장 세트에 대해서 검색
-     * (추후 공용 여부에 따라 쿼리 수정)
+     * 키워드로 공용 문장 세트 검색 API
+     * 제목과 문장(content/meaning)을 검색하여 관련도(BM25) 순으로 반환하며, 일치한 문장 일부를 snippet으로 함께 반환
      * @param keyword
      * @param offset
      * @param limit
      * @return
      */
     @GetMapping("/public/sentence-set/search")
-    public ApiResponse<ListSentenceSetResponseDto> searchPublicSentenceSetList(@RequestParam(name = "keyword", defaultValue = "") String keyword,
-                                                                               @RequestParam(defaultValue = "0") int offset,
-                                                                               @RequestParam(defaultValue = "10") int limit) {
-        ListSentenceSetResponseDto listSentenceSetResponseDto = publicSentenceSetService.searchPublicSentenceSetList(keyword, offset, limit);
+    public ApiResponse<SearchSentenceSetResponseDto> searchPublicSentenceSetList(@RequestParam(name = "keyword", defaultValue = "") String keyword,
+                                                                                 @RequestParam(defaultValue = "0") int offset,
+                                                                                 @RequestParam(defaultValue = "10") int limit) {
+        SearchSentenceSetResponseDto searchSentenceSetResponseDto = sentenceSetSearchService.search(keyword, offset, limit);
 
-        return ApiResponse.ok(listSentenceSetResponseDto);
+        return ApiResponse.ok(searchSentenceSetResponseDto);
     }
 
     /**
      * 특정 공용 문장 세트와 포함된 문장 목록 조회 API
+     * cursor 파라미터를 보내면 커서 페이징 (첫 페이지는 빈 값, 다음 페이지는 응답의 nextCursor)
      * @param sentenceSetId
      * @param offset
      * @param limit
+     * @param cursor
      * @return
      */
     @GetMapping("/public/sentence-set/{sentenceSetId}")
     public ApiResponse<PublicSentenceSetAndSentenceListResponseDto> getPublicSentenceSetWithSentences(@PathVariable Long sentenceSetId,
                                                                                                       @RequestParam(defaultValue = "0") int offset,
-                                                                                                      @RequestParam(defaultValue = "10") int limit) {
-        PublicSentenceSetAndSentenceListResponseDto sentenceSetWithSentences = publicSentenceSetService.getPublicSentenceSetWithSentences(sentenceSetId, offset, limit);
+                                                                                                      @RequestParam(defaultValue = "10") int limit,
+                                                                                                      @RequestParam(required = false) String cursor) {
+        PublicSentenceSetAndSentenceListResponseDto sentenceSetWithSentences = publicSentenceSetService.getPublicSentenceSetWithSentences(sentenceSetId, offset, limit, cursor);
 
         return ApiResponse.ok(sentenceSetWithSentences);
     }
@@ -104,4 +114,13 @@ public class PublicSentenceSetController {
         return ApiResponse.ok("문장 세트 삭제 완료");
     }
 
+    /**
+     * 문장 세트의 문장 개수 재계산 API (관리자)
+     * @return 재계산한 문장 세트 개수
+     */
+    @PostMapping("/admin/sentence-set/counts/repair")
+    public ApiResponse<Integer> repairSentenceCounts() {
+        return ApiResponse.ok(sentenceCountRepairService.repairAll());
+    }
+
 }
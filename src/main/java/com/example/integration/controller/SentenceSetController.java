@@ -17,30 +17,36 @@ public class SentenceSetController {
 
     /**
      * 개인 문장 세트 목록 조회 API
+     * cursor 파라미터를 보내면 커서 페이징 (첫 페이지는 빈 값, 다음 페이지는 응답의 nextCursor)
      * @param offset
      * @param limit
+     * @param cursor
      * @return
      */
     @GetMapping("/sentence-set")
     public ApiResponse<UserSentenceSetResponseDto> getSentenceSetById(@RequestParam(defaultValue = "0") int offset,
-                                                                      @RequestParam(defaultValue = "10") int limit) {
-        UserSentenceSetResponseDto userSentenceSetResponseDto = sentenceSetService.getSentenceSetByUser(offset, limit);
+                                                                      @RequestParam(defaultValue = "10") int limit,
+                                                                      @RequestParam(required = false) String cursor) {
+        UserSentenceSetResponseDto userSentenceSetResponseDto = sentenceSetService.getSentenceSetByUser(offset, limit, cursor);
 
         return ApiResponse.ok(userSentenceSetResponseDto);
     }
 
     /**
      * 특정 개인 문장 세트와 포함된 문장 목록 조회 API
+     * cursor 파라미터를 보내면 커서 페이징 (첫 페이지는 빈 값, 다음 페이지는 응답의 nextCursor)
      * @param sentenceSetId
      * @param offset
      * @param limit
+     * @param cursor
      * @return
      */
     @GetMapping("/sentence-set/{sentenceSetId}")
     public ApiResponse<SentenceSetAndSentenceListResponseDto> getSentenceSetWithSentences(@PathVariable Long sentenceSetId,
                                                                                                                                          @RequestParam(defaultValue = "0") int offset,
-                                                                                                                                         @RequestParam(defaultValue = "10") int limit) {
-        SentenceSetAndSentenceListResponseDto sentenceSetWithSentences = sentenceSetService.getSentenceSetWithSentences(sentenceSetId, offset, limit);
+                                                                                                                                         @RequestParam(defaultValue = "10") int limit,
+                                                                                                                                         @RequestParam(required = false) String cursor) {
+        SentenceSetAndSentenceListResponseDto sentenceSetWithSentences = sentenceSetService.getSentenceSetWithSentences(sentenceSetId, offset, limit, cursor);
 
         return ApiResponse.ok(sentenceSetWithSentences);
     }
@@ -1,15 +1,24 @@
 package com.example.integration.controller;
 
+import com.example.integration.common.config.tts.TextToSpeechMetrics;
+import com.example.integration.common.config.tts.TtsAudioFile;
+import com.example.integration.common.config.tts.TtsAudioFileReturnValueHandler;
+import com.example.integration.common.config.tts.TtsAudioFormatNegotiator;
+import com.example.integration.common.config.tts.TtsRequestExecutor;
+import com.example.integration.common.config.tts.TtsUserQuota;
+import com.example.integration.common.enums.tts.AudioFormat;
 import com.example.integration.dto.tts.SingleTtsRequestDto;
+import com.example.integration.dto.tts.TtsJobStatusDto;
 import com.example.integration.common.response.ApiResponse;
 import com.example.integration.common.response.ErrorCode;
+import com.example.integration.common.util.SecurityUtil;
+import com.example.integration.service.SentenceSetService;
 import com.example.integration.service.TextToSpeechService;
+import com.example.integration.service.TtsPreSynthesisService;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
-import org.springframework.http.ContentDisposition;
-import org.springframework.http.HttpStatus;
-import org.springframework.http.MediaType;
-import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
 import org.springframework.http.HttpHeaders;
 import org.springframework.web.bind.annotation.GetMapping;
@@ -17,6 +26,7 @@ import org.springframework.web.bind.annotation.RequestBody;
 import org.springframework.web.bind.annotation.RestController;
 
 import java.io.IOException;
+import java.util.concurrent.CompletableFuture;
 
 @Slf4j
 @RestController
@@ -25,6 +35,12 @@ import java.io.IOException;
 public class TextToSpeechController {
 
     private final TextToSpeechService textToSpeechService;
+    private final TtsPreSynthesisService ttsPreSynthesisService;
+    private final SentenceSetService sentenceSetService;
+    private final TtsRequestExecutor ttsRequestExecutor;
+    private final TtsAudioFormatNegotiator ttsAudioFormatNegotiator;
+    private final TextToSpeechMetrics textToSpeechMetrics;
+    private final TtsUserQuota ttsUserQuota;
 
 
     /**
@@ -53,30 +69,108 @@ public class TextToSpeechController {
 
     /**
      * 텍스트와 언어 정보를 포함한 요청을 받아 음성 데이터를 생성하고,
-     * 생성된 음성(MP3)을 바이트 배열 형태로 클라이언트에게 반환하는 엔드포인트입니다.
+     * 생성된 음성(MP3)을 클라이언트에게 반환하는 엔드포인트입니다.
      * <p>
      * - 요청 본문에 포함된 텍스트와 언어 정보를 기반으로 TTS 변환이 수행됩니다.
-     * - 반환된 음성은 'tts_output.mp3' 파일 이름으로 브라우저에서 바로 재생 또는 다운로드할 수 있습니다.
+     * - 반환된 음성은 'tts_output.{확장자}' 파일 이름으로 브라우저에서 바로 재생 또는 다운로드할 수 있습니다.
+     * - GET 요청 본문은 일부 클라이언트/프록시에서 제거되므로, 새 클라이언트는 {@code GET /api/v1/tts/audio}를 사용합니다.
+     * - 음성 인코딩은 format 파라미터 또는 Accept 헤더로 선택합니다. (기본값 MP3)
+     * - 합성은 TTS 전용 작업 풀에서 실행되며, 그동안 Tomcat 스레드는 반환됩니다.
+     * - 캐시에 없어 새로 합성하는 경우에만 글자 수를 사용자별 일/월 할당량에서 차감하며, 합성에 실패하면 돌려줍니다.
      *
      * @param singleTtsRequestDto 변환할 텍스트와 언어 정보를 담은 요청 객체
-     * @return 음성 데이터가 담긴 ResponseEntity (HTTP 200 또는 오류 시 500)
+     * @param format              음성 인코딩 (mp3, ogg_opus)
+     * @param request
+     * @param response
+     * @return 합성이 끝나면 스트리밍할 음성 파일 ({@link com.example.integration.common.config.tts.TtsAudioFileReturnValueHandler})
      */
     @GetMapping("/generate")
-    public ResponseEntity<byte[]> generateSpeechToClient(
-            @RequestBody SingleTtsRequestDto singleTtsRequestDto
+    public CompletableFuture<TtsAudioFile> generateSpeechToClient(
+            @RequestBody SingleTtsRequestDto singleTtsRequestDto,
+            @RequestParam(name = "format", required = false) String format,
+            HttpServletRequest request,
+            HttpServletResponse response
             ) {
-        byte[] audioBytes = textToSpeechService.generateSpeechAudio(singleTtsRequestDto);
+        AudioFormat audioFormat = negotiateFormat(format, request, response);
 
-        if (audioBytes == null) {
-            return ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR).build();
+        // 파일 이름은 합성에 성공한 경우에만 응답 헤더에 추가 (TtsAudioFileReturnValueHandler)
+        request.setAttribute(TtsAudioFileReturnValueHandler.INLINE_FILENAME_ATTRIBUTE, "tts_output");
+
+        return prepareAudioFileAsync("generate", singleTtsRequestDto, audioFormat);
+    }
+
+    /**
+     * 쿼리 파라미터로 전달된 텍스트와 언어 정보로 음성을 생성하여 스트리밍하는 엔드포인트입니다.
+     * <p>
+     * - 캐시된 음성 파일을 힙에 복사하지 않고 그대로 전송합니다.
+     * - Range 요청을 지원하여 모바일 플레이어가 다시 받지 않고 탐색할 수 있습니다.
+     * - ETag와 Cache-Control 헤더로 같은 음성은 클라이언트 캐시를 재사용합니다.
+     * - 음성 인코딩은 format 파라미터 또는 Accept 헤더로 선택합니다. (모바일은 용량이 작은 OGG_OPUS 권장)
+     * - 합성은 TTS 전용 작업 풀에서 실행되며, 그동안 Tomcat 스레드는 반환됩니다.
+     * - 요청한 글자 수는 사용자별 일/월 할당량에서 차감됩니다.
+     *
+     * @param language 음성 언어 (ENGLISH, KOREAN)
+     * @param text     변환할 텍스트
+     * @param format   음성 인코딩 (mp3, ogg_opus)
+     * @param request
+     * @param response
+     * @return 합성이 끝나면 스트리밍할 음성 파일
+     */
+    @GetMapping("/audio")
+    public CompletableFuture<TtsAudioFile> streamSpeechAudio(@RequestParam(name = "language") String language,
+                                                             @RequestParam(name = "text") String text,
+                                                             @RequestParam(name = "format", required = false) String format,
+                                                             HttpServletRequest request,
+                                                             HttpServletResponse response) {
+        AudioFormat audioFormat = negotiateFormat(format, request, response);
+
+        return prepareAudioFileAsync("audio", new SingleTtsRequestDto(language, text), audioFormat);
+    }
+
+    // TTS 작업 풀에서 음성 파일 준비 (요청/응답 객체와 인증 정보는 서블릿 스레드에서만 사용)
+    private CompletableFuture<TtsAudioFile> prepareAudioFileAsync(String endpoint, SingleTtsRequestDto singleTtsRequestDto, AudioFormat audioFormat) {
+        long requestStart = textToSpeechMetrics.start();
+        String userKey = SecurityUtil.getCurrentMember();
+
+        // 작업 풀이 거절한 요청은 할당량을 차감하기 전에 실패
+        return ttsRequestExecutor.submit(() -> textToSpeechService.findCachedAudioFile(singleTtsRequestDto, audioFormat)
+                        .orElseGet(() -> synthesizeWithinQuota(userKey, singleTtsRequestDto, audioFormat)))
+                .whenComplete((audioFile, error) -> textToSpeechMetrics.recordRequest(endpoint, requestStart));
+    }
+
+    // 새로 합성하는 글자 수만 할당량에서 차감 (합성에 실패하면 반환)
+    private TtsAudioFile synthesizeWithinQuota(String userKey, SingleTtsRequestDto singleTtsRequestDto, AudioFormat audioFormat) {
+        int characters = singleTtsRequestDto.text().length();
+        ttsUserQuota.consume(userKey, characters);
+
+        try {
+            return textToSpeechService.prepareSpeechAudioFile(singleTtsRequestDto, audioFormat);
+        } catch (RuntimeException e) {
+            ttsUserQuota.refund(userKey, characters);
+            throw e;
         }
+    }
 
-        HttpHeaders headers = new HttpHeaders();
-        headers.setContentType(MediaType.APPLICATION_OCTET_STREAM);
-        headers.setContentLength(audioBytes.length);
-        headers.setContentDisposition(ContentDisposition.inline().filename("tts_output.mp3").build());
+    /**
+     * format 파라미터 또는 Accept 헤더로 응답 인코딩 결정
+     * 같은 URL이라도 Accept 헤더에 따라 응답이 달라지므로 Vary 헤더를 추가
+     */
+    private AudioFormat negotiateFormat(String format, HttpServletRequest request, HttpServletResponse response) {
+        response.addHeader(HttpHeaders.VARY, HttpHeaders.ACCEPT);
+        return ttsAudioFormatNegotiator.negotiate(format, request.getHeader(HttpHeaders.ACCEPT));
+    }
+
+    /**
+     * 문장 세트의 음성 사전 합성 작업 상태 조회 API
+     * 문장 세트 조회와 같은 권한 확인 (공용 문장 세트이거나 본인의 개인 문장 세트)
+     * @param sentenceSetId
+     * @return 예약/완료/실패 문장 개수와 작업 상태
+     */
+    @GetMapping("/jobs/sentence-set/{sentenceSetId}")
+    public ApiResponse<TtsJobStatusDto> getPreSynthesisJobStatus(@PathVariable Long sentenceSetId) {
+        sentenceSetService.checkReadable(sentenceSetId);
 
-        return new ResponseEntity<>(audioBytes, headers, HttpStatus.OK);
+        return ApiResponse.ok(ttsPreSynthesisService.getJobStatus(sentenceSetId));
     }
 
 }
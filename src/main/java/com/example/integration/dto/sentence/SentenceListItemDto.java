@@ -0,0 +1,30 @@
+package com.example.integration.dto.sentence;
+
+import com.example.integration.common.util.PageCursor;
+import com.example.integration.entity.LearningStatus;
+
+import java.time.LocalDate;
+
+/**
+ * 문장 목록 조회용 projection (필요한 컬럼만 조회하고, 응답 DTO로 변환)
+ */
+public record SentenceListItemDto(
+        Long id,
+        String content,
+        String meaning,
+        String description,
+        LearningStatus learningStatus,
+        LocalDate createdDate
+) {
+    public SentenceResponseDto toResponse() {
+        return new SentenceResponseDto(id, content, meaning, description, learningStatus.getDescription());
+    }
+
+    public PublicSentenceResponseDto toPublicResponse() {
+        return new PublicSentenceResponseDto(id, content, meaning, description, learningStatus.getDescription());
+    }
+
+    public PageCursor cursor() {
+        return new PageCursor(createdDate, id);
+    }
+}
@@ -0,0 +1,12 @@
+package com.example.integration.dto.sentence;
+
+/**
+ * 검색 색인용 projection (문장 세트 id와 색인할 컬럼만 조회)
+ */
+public record SentenceSearchItemDto(
+        Long sentenceSetId,
+        Long id,
+        String content,
+        String meaning
+) {
+}
@@ -1,23 +1,26 @@
 package com.example.integration.dto.sentenceSet;
 
-import com.example.integration.entity.SentenceSet;
 import lombok.Getter;
 import lombok.NoArgsConstructor;
 
 import java.util.List;
-import java.util.stream.Collectors;
 
 @Getter
 @NoArgsConstructor
 public class ListSentenceSetResponseDto {
     private int sentenceSetCount;
     private List<PublicSentenceSetResponseDto> sentenceSetList;
+    // 다음 페이지 커서 (커서 페이징에서 다음 페이지가 있는 경우에만 존재)
+    private String nextCursor;
 
-    public ListSentenceSetResponseDto(List<SentenceSet> sentenceSetList) {
+    public ListSentenceSetResponseDto(List<PublicSentenceSetResponseDto> sentenceSetList) {
+        this(sentenceSetList, null);
+    }
+
+    public ListSentenceSetResponseDto(List<PublicSentenceSetResponseDto> sentenceSetList, String nextCursor) {
         this.sentenceSetCount = sentenceSetList.size();
-        this.sentenceSetList = sentenceSetList.stream()
-                .map(PublicSentenceSetResponseDto::new) // 메서드 참조 사용
-                .collect(Collectors.toList());
+        this.sentenceSetList = sentenceSetList;
+        this.nextCursor = nextCursor;
         }
 }
 
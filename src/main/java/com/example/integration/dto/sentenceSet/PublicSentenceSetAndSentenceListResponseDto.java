@@ -1,7 +1,7 @@
 package com.example.integration.dto.sentenceSet;
 
 import com.example.integration.dto.sentence.PublicSentenceResponseDto;
-import com.example.integration.entity.Sentence;
+import com.example.integration.dto.sentence.SentenceListItemDto;
 import com.example.integration.entity.SentenceSet;
 import lombok.Getter;
 import lombok.NoArgsConstructor;
@@ -14,11 +14,18 @@ import java.util.stream.Collectors;
 public class PublicSentenceSetAndSentenceListResponseDto {
     private PublicSentenceSetResponseDto sentenceSet;
     private List<PublicSentenceResponseDto> sentenceList;
+    // 다음 페이지 커서 (커서 페이징에서 다음 페이지가 있는 경우에만 존재)
+    private String nextCursor;
 
-    public PublicSentenceSetAndSentenceListResponseDto(SentenceSet sentenceSet, List<Sentence> sentenceList) {
+    public PublicSentenceSetAndSentenceListResponseDto(SentenceSet sentenceSet, List<SentenceListItemDto> sentenceList) {
+        this(sentenceSet, sentenceList, null);
+    }
+
+    public PublicSentenceSetAndSentenceListResponseDto(SentenceSet sentenceSet, List<SentenceListItemDto> sentenceList, String nextCursor) {
         this.sentenceSet = new PublicSentenceSetResponseDto(sentenceSet);
         this.sentenceList = sentenceList.stream()
-                .map(sentence -> new PublicSentenceResponseDto(sentence))
+                .map(SentenceListItemDto::toPublicResponse)
                 .collect(Collectors.toList());
+        this.nextCursor = nextCursor;
     }
 }
\ No newline at end of file
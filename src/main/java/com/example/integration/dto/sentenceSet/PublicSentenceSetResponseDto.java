@@ -14,7 +14,7 @@ public record PublicSentenceSetResponseDto (
         this(
                 sentenceSet.getId(),
                 sentenceSet.getTitle(),
-                sentenceSet.getSentenceList().size(),
+                sentenceSet.getSentenceCount(),
                 sentenceSet.getCreatedDate()
         );
     }
@@ -0,0 +1,12 @@
+package com.example.integration.dto.sentenceSet;
+
+import java.util.List;
+
+public record SearchSentenceSetResponseDto(
+        int sentenceSetCount,   // 이번 페이지의 문장 세트 개수
+        List<SentenceSetSearchResultDto> sentenceSetList
+) {
+    public SearchSentenceSetResponseDto(List<SentenceSetSearchResultDto> sentenceSetList) {
+        this(sentenceSetList.size(), sentenceSetList);
+    }
+}
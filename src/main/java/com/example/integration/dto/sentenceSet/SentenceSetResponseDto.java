@@ -1,7 +1,5 @@
 package com.example.integration.dto.sentenceSet;
 
-import com.example.integration.entity.LearningStatus;
-import com.example.integration.entity.Sentence;
 import com.example.integration.entity.SentenceSet;
 
 import java.time.LocalDate;
@@ -19,28 +17,11 @@ public record SentenceSetResponseDto (
         this(
                 sentenceSet.getId(),
                 sentenceSet.getTitle(),
-                sentenceSet.getSentenceList().size(),
-                getSentenceCounts(sentenceSet).inProgressCount,
-                getSentenceCounts(sentenceSet).completedCount,
+                sentenceSet.getSentenceCount(),
+                sentenceSet.getInProgressCount(),
+                sentenceSet.getCompletedCount(),
                 sentenceSet.getCreatedDate(),
                 sentenceSet.getLastViewedDate()
         );
     }
-
-    private static SentenceCounts getSentenceCounts(SentenceSet sentenceSet) {
-        int inProgressCount = 0;
-        int completedCount = 0;
-
-        for (Sentence sentence : sentenceSet.getSentenceList()) {
-            if (LearningStatus.IN_PROGRESS.equals(sentence.getLearningStatus())) {
-                inProgressCount++;
-            } else {
-                completedCount++;
-            }
-        }
-
-        return new SentenceCounts(inProgressCount, completedCount);
-    }
-
-    public record SentenceCounts(int inProgressCount, int completedCount) {}
 }
@@ -0,0 +1,23 @@
+package com.example.integration.dto.sentenceSet;
+
+import java.time.LocalDate;
+
+public record SentenceSetSearchResultDto(
+        Long id,
+        String title,
+        int sentenceCount,
+        LocalDate createdAt,
+        double score,       // BM25 점수 (색인 준비 전 DB 검색 결과는 0)
+        String snippet      // 검색어가 가장 많이 포함된 문장 일부 (문장에서 일치하지 않으면 null)
+) {
+    public SentenceSetSearchResultDto(PublicSentenceSetResponseDto sentenceSet) {
+        this(
+                sentenceSet.id(),
+                sentenceSet.title(),
+                sentenceSet.sentenceCount(),
+                sentenceSet.createdAt(),
+                0,
+                null
+        );
+    }
+}
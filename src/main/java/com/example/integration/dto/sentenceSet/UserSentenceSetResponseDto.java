@@ -1,22 +1,14 @@
 package com.example.integration.dto.sentenceSet;
 
-import com.example.integration.entity.SentenceSet;
-import com.example.integration.entity.User;
-
 import java.util.List;
-import java.util.stream.Collectors;
 
 public record UserSentenceSetResponseDto(
-        int sentenceSetCount,
-        List<SentenceSetResponseDto> sentenceSetList
+        long sentenceSetCount,  // 사용자의 전체 문장 세트 개수
+        List<SentenceSetResponseDto> sentenceSetList,
+        String nextCursor       // 다음 페이지 커서 (커서 페이징에서 다음 페이지가 있는 경우에만 존재)
 ) {
-    public UserSentenceSetResponseDto(User user, List<SentenceSet> sentenceSetList) {
-        this(
-                user.getSentenceSetList().size(),
-                sentenceSetList.stream()
-                        .map(sentenceSet -> new SentenceSetResponseDto(sentenceSet))
-                        .collect(Collectors.toList())
-        );
+    public UserSentenceSetResponseDto(long sentenceSetCount, List<SentenceSetResponseDto> sentenceSetList) {
+        this(sentenceSetCount, sentenceSetList, null);
     }
 
-}
\ No newline at end of file
+}
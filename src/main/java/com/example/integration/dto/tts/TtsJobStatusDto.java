@@ -0,0 +1,13 @@
+package com.example.integration.dto.tts;
+
+import com.example.integration.common.enums.tts.TtsJobState;
+
+public record TtsJobStatusDto(
+        Long sentenceSetId,
+        TtsJobState state,
+        int total,
+        int completed,
+        int failed,
+        int pending
+) {
+}
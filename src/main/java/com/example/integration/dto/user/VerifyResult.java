@@ -1,6 +1,14 @@
 package com.example.integration.dto.user;
 
+import com.example.integration.common.config.jwt.JwtPrincipal;
 import com.example.integration.common.config.jwt.TokenStatus;
 
-public record VerifyResult(TokenStatus status, String username) {
+/**
+ * @param principal 토큰에 사용자 ID/권한 클레임이 있는 경우에만 존재 (없으면 null)
+ */
+public record VerifyResult(TokenStatus status, String username, JwtPrincipal principal) {
+
+    public VerifyResult(TokenStatus status, String username) {
+        this(status, username, null);
+    }
 }
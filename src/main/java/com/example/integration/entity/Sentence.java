@@ -6,7 +6,10 @@ import lombok.*;
 
 @Getter
 @NoArgsConstructor(access = AccessLevel.PROTECTED)
-@Table(name = "sentence")
+@Table(name = "sentence", indexes = {
+        // 문장 세트별 문장 목록 커서 페이징
+        @Index(name = "idx_sentence_set_created_id", columnList = "sentence_set_id, created_date, id")
+})
 @Entity
 public class Sentence extends BaseEntity {
 
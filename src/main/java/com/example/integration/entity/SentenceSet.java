@@ -14,7 +14,11 @@ import java.util.List;
 
 @Getter
 @NoArgsConstructor(access = AccessLevel.PROTECTED)
-@Table(name = "sentence_set")
+@Table(name = "sentence_set", indexes = {
+        // 공용/개인 문장 세트 목록 커서 페이징
+        @Index(name = "idx_sentence_set_public_created_id", columnList = "is_public, created_date, id"),
+        @Index(name = "idx_sentence_set_user_created_id", columnList = "user_id, created_date, id")
+})
 @Entity
 public class SentenceSet extends BaseEntity {
     @Id @GeneratedValue(strategy = GenerationType.IDENTITY)
@@ -29,6 +33,19 @@ public class SentenceSet extends BaseEntity {
     // 마지막으로 조회한 날짜
     private LocalDate lastViewedDate;
 
+    // 문장 개수 (문장 생성/삭제/학습 상태 변경 시 SQL로 증감, 목록 조회에서 문장 테이블을 읽지 않도록)
+    // 개수 컬럼은 SQL로만 변경하므로, 엔티티 저장 시 읽어 둔 이전 값으로 덮어쓰지 않도록 UPDATE에서 제외
+    @Column(nullable = false, updatable = false)
+    private int sentenceCount;
+
+    // 학습 중인 문장 개수
+    @Column(nullable = false, updatable = false)
+    private int inProgressCount;
+
+    // 학습 완료한 문장 개수
+    @Column(nullable = false, updatable = false)
+    private int completedCount;
+
     @ManyToOne(fetch = FetchType.LAZY)
     @JoinColumn(name = "user_id")
     private User user;
@@ -1,15 +1,93 @@
 package com.example.integration.repository;
 
+import com.example.integration.common.util.PageCursor;
+import com.example.integration.dto.sentence.SentenceListItemDto;
+import com.example.integration.dto.sentence.SentenceSearchItemDto;
+import com.example.integration.entity.LearningStatus;
 import com.example.integration.entity.Sentence;
+import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.repository.query.Param;
 import org.springframework.data.jpa.repository.Query;
+import org.springframework.transaction.annotation.Transactional;
 
+import java.time.LocalDate;
 import java.util.List;
+import java.util.Optional;
 
 public interface SentenceRepository extends JpaRepository<Sentence, Long> {
-    List<Sentence> findAllBySentenceSetId(Long sentenceSetId, Pageable pageable);
+    // 목록 조회는 응답에 필요한 컬럼만 DTO로 바로 조회 (엔티티/영속성 컨텍스트를 거치지 않음)
+    String LIST_ITEM = "SELECT new com.example.integration.dto.sentence.SentenceListItemDto(s.id, s.content, s.meaning, s.description, s.learningStatus, s.createdDate) ";
+    // 검색 색인은 색인할 컬럼만 조회
+    String SEARCH_ITEM = "SELECT new com.example.integration.dto.sentence.SentenceSearchItemDto(s.sentenceSet.id, s.id, s.content, s.meaning) ";
+
+    // 페이지 내용이 요청마다 달라지지 않도록 (createdDate, id) 순서로 정렬
+    @Query(LIST_ITEM +
+            "FROM Sentence s " +
+            "WHERE s.sentenceSet.id = :sentenceSetId " +
+            "ORDER BY s.createdDate asc, s.id asc")
+    List<SentenceListItemDto> findListBySentenceSetId(@Param("sentenceSetId") Long sentenceSetId, Pageable pageable);
+
+    // 커서 페이징: (createdDate, id)가 커서보다 뒤인 문장부터 조회
+    @Query(LIST_ITEM +
+            "FROM Sentence s " +
+            "WHERE s.sentenceSet.id = :sentenceSetId " +
+            "AND (s.createdDate > :createdDate OR (s.createdDate = :createdDate AND s.id > :id)) " +
+            "ORDER BY s.createdDate asc, s.id asc")
+    List<SentenceListItemDto> findListBySentenceSetIdAfter(@Param("sentenceSetId") Long sentenceSetId,
+                                                          @Param("createdDate") LocalDate createdDate,
+                                                          @Param("id") Long id,
+                                                          Pageable pageable);
+
+    /**
+     * 커서 다음의 문장 목록 조회
+     * @param sentenceSetId
+     * @param after 이전 페이지의 마지막 문장 위치 (null이면 첫 페이지)
+     * @param size  조회할 개수
+     * @return
+     */
+    default List<SentenceListItemDto> findListBySentenceSetIdAfter(Long sentenceSetId, PageCursor after, int size) {
+        Pageable pageable = PageRequest.of(0, size);
+        if (after == null) {
+            return findListBySentenceSetId(sentenceSetId, pageable);
+        }
+        return findListBySentenceSetIdAfter(sentenceSetId, after.createdDate(), after.id(), pageable);
+    }
+
+    @Query(SEARCH_ITEM +
+            "FROM Sentence s " +
+            "WHERE s.sentenceSet.id IN :sentenceSetIds")
+    List<SentenceSearchItemDto> findSearchItemsBySentenceSetIdIn(@Param("sentenceSetIds") List<Long> sentenceSetIds);
+
+    @Query(SEARCH_ITEM +
+            "FROM Sentence s " +
+            "WHERE s.id = :sentenceId")
+    Optional<SentenceSearchItemDto> findSearchItemById(@Param("sentenceId") Long sentenceId);
+
+    // 학습 상태가 previousStatus인 경우에만 변경 (변경된 행 수로 누가 상태를 바꿨는지 판단하여 개수를 한 번만 증감)
+    @Transactional
+    @Modifying
+    @Query("UPDATE Sentence s " +
+            "SET s.learningStatus = :newStatus " +
+            "WHERE s.id = :sentenceId " +
+            "AND s.learningStatus = :previousStatus")
+    int updateLearningStatusIfCurrent(@Param("sentenceId") Long sentenceId,
+                                      @Param("previousStatus") LearningStatus previousStatus,
+                                      @Param("newStatus") LearningStatus newStatus);
+
+    // 학습 상태가 learningStatus인 경우에만 삭제 (삭제된 행 수로 개수를 한 번만 감소)
+    @Transactional
+    @Modifying
+    @Query("DELETE FROM Sentence s " +
+            "WHERE s.id = :sentenceId " +
+            "AND s.learningStatus = :learningStatus")
+    int deleteIfLearningStatus(@Param("sentenceId") Long sentenceId, @Param("learningStatus") LearningStatus learningStatus);
+
+    // 특정 문장 세트에 포함된 모든 문장의 id 목록 반환
+    @Query("SELECT s.id FROM Sentence s WHERE s.sentenceSet.id = :sentenceSetId")
+    List<Long> findIdsBySentenceSetId(@Param("sentenceSetId") Long sentenceSetId);
 
     // 특정 사용자가 소유한 모든 문장의 개수를 반환
     @Query("SELECT COUNT(s) FROM Sentence s WHERE s.sentenceSet.user.id = :userId")
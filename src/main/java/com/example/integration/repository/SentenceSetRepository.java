@@ -1,35 +1,132 @@
 package com.example.integration.repository;
 
+import com.example.integration.common.util.PageCursor;
+import com.example.integration.dto.sentenceSet.PublicSentenceSetResponseDto;
+import com.example.integration.dto.sentenceSet.SentenceSetResponseDto;
 import com.example.integration.entity.SentenceSet;
+import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
+import org.springframework.transaction.annotation.Transactional;
 
+import java.time.LocalDate;
 import java.util.List;
+import java.util.Optional;
 
 public interface SentenceSetRepository extends JpaRepository<SentenceSet, Long> {
-    // List<SentenceSet> 에서 sentenceSet.getSentenceList()를 조회할 경우 n+1 문제가 발생하므로 fetch join 사용
-    @Query("SELECT ss " +
+    // 목록 조회는 응답에 필요한 컬럼만 DTO로 바로 조회 (엔티티/영속성 컨텍스트를 거치지 않음)
+    String PUBLIC_LIST_ITEM = "SELECT new com.example.integration.dto.sentenceSet.PublicSentenceSetResponseDto(ss.id, ss.title, ss.sentenceCount, ss.createdDate) ";
+    String USER_LIST_ITEM = "SELECT new com.example.integration.dto.sentenceSet.SentenceSetResponseDto(ss.id, ss.title, ss.sentenceCount, ss.inProgressCount, ss.completedCount, ss.createdDate, ss.lastViewedDate) ";
+
+    @Query(PUBLIC_LIST_ITEM +
             "FROM SentenceSet ss " +
-            "LEFT JOIN FETCH ss.sentenceList " +
             "WHERE ss.isPublic = true " +
-            "ORDER BY ss.createdDate desc")
-    List<SentenceSet> findAllWhichPublic(Pageable pageable);
+            "ORDER BY ss.createdDate desc, ss.id desc")
+    List<PublicSentenceSetResponseDto> findPublicList(Pageable pageable);
 
-    @Query("SELECT ss " +
+    @Query(PUBLIC_LIST_ITEM +
             "FROM SentenceSet ss " +
-            "LEFT JOIN FETCH ss.sentenceList " +
             "WHERE ss.title like %:keyword% " +
             "AND ss.isPublic = true " +
-            "ORDER BY ss.createdDate desc, ss.title asc")
-    List<SentenceSet> findAllWithKeywordWhichPublic(String keyword, Pageable pageable);
+            "ORDER BY ss.createdDate desc, ss.title asc, ss.id desc")
+    List<PublicSentenceSetResponseDto> findPublicListWithKeyword(String keyword, Pageable pageable);
 
-    @Query("SELECT ss " +
+    @Query(USER_LIST_ITEM +
             "FROM SentenceSet ss " +
-            "LEFT JOIN FETCH ss.sentenceList " +
             "WHERE ss.user.id = :userId " +
-            "ORDER BY ss.createdDate desc")
-    List<SentenceSet> findAllByUserId(Long userId, Pageable pageable);
+            "ORDER BY ss.createdDate desc, ss.id desc")
+    List<SentenceSetResponseDto> findListByUserId(Long userId, Pageable pageable);
+
+    // 커서 페이징: (createdDate, id)가 커서보다 뒤인 행부터 조회하므로 앞쪽 행을 건너뛰며 읽지 않음
+    @Query(PUBLIC_LIST_ITEM +
+            "FROM SentenceSet ss " +
+            "WHERE ss.isPublic = true " +
+            "AND (ss.createdDate < :createdDate OR (ss.createdDate = :createdDate AND ss.id < :id)) " +
+            "ORDER BY ss.createdDate desc, ss.id desc")
+    List<PublicSentenceSetResponseDto> findPublicListAfter(LocalDate createdDate, Long id, Pageable pageable);
+
+    @Query(USER_LIST_ITEM +
+            "FROM SentenceSet ss " +
+            "WHERE ss.user.id = :userId " +
+            "AND (ss.createdDate < :createdDate OR (ss.createdDate = :createdDate AND ss.id < :id)) " +
+            "ORDER BY ss.createdDate desc, ss.id desc")
+    List<SentenceSetResponseDto> findListByUserIdAfter(Long userId, LocalDate createdDate, Long id, Pageable pageable);
+
+    /**
+     * 커서 다음의 공용 문장 세트 목록 조회
+     * @param after 이전 페이지의 마지막 문장 세트 위치 (null이면 첫 페이지)
+     * @param size  조회할 개수
+     * @return
+     */
+    default List<PublicSentenceSetResponseDto> findPublicListAfter(PageCursor after, int size) {
+        Pageable pageable = PageRequest.of(0, size);
+        if (after == null) {
+            return findPublicList(pageable);
+        }
+        return findPublicListAfter(after.createdDate(), after.id(), pageable);
+    }
+
+    /**
+     * 커서 다음의 개인 문장 세트 목록 조회
+     * @param userId
+     * @param after 이전 페이지의 마지막 문장 세트 위치 (null이면 첫 페이지)
+     * @param size  조회할 개수
+     * @return
+     */
+    default List<SentenceSetResponseDto> findListByUserIdAfter(Long userId, PageCursor after, int size) {
+        Pageable pageable = PageRequest.of(0, size);
+        if (after == null) {
+            return findListByUserId(userId, pageable);
+        }
+        return findListByUserIdAfter(userId, after.createdDate(), after.id(), pageable);
+    }
+
+    // 검색 색인 생성: id 순서로 나누어 공용 문장 세트 조회
+    @Query(PUBLIC_LIST_ITEM +
+            "FROM SentenceSet ss " +
+            "WHERE ss.isPublic = true " +
+            "AND ss.id > :afterId " +
+            "ORDER BY ss.id asc")
+    List<PublicSentenceSetResponseDto> findPublicListByIdAfter(Long afterId, Pageable pageable);
+
+    @Query(PUBLIC_LIST_ITEM +
+            "FROM SentenceSet ss " +
+            "WHERE ss.id = :sentenceSetId " +
+            "AND ss.isPublic = true")
+    Optional<PublicSentenceSetResponseDto> findPublicListItem(Long sentenceSetId);
+
+    // 문장 개수 증감 (동시에 변경되어도 값이 유실되지 않도록 SQL에서 계산)
+    @Transactional
+    @Modifying
+    @Query("UPDATE SentenceSet ss " +
+            "SET ss.sentenceCount = ss.sentenceCount + :sentenceDelta, " +
+            "ss.inProgressCount = ss.inProgressCount + :inProgressDelta, " +
+            "ss.completedCount = ss.completedCount + :completedDelta " +
+            "WHERE ss.id = :sentenceSetId")
+    int updateSentenceCounts(Long sentenceSetId, int sentenceDelta, int inProgressDelta, int completedDelta);
+
+    // 최근 조회 날짜만 변경 (엔티티를 읽고 저장하지 않으므로 다른 컬럼을 덮어쓰지 않음)
+    @Transactional
+    @Modifying
+    @Query("UPDATE SentenceSet ss " +
+            "SET ss.lastViewedDate = :lastViewedDate " +
+            "WHERE ss.id = :sentenceSetId")
+    int updateLastViewedDate(Long sentenceSetId, LocalDate lastViewedDate);
+
+    // 문장 개수 재계산 (id 범위 단위로 실행)
+    @Transactional
+    @Modifying
+    @Query("UPDATE SentenceSet ss " +
+            "SET ss.sentenceCount = (SELECT COUNT(s) FROM Sentence s WHERE s.sentenceSet.id = ss.id), " +
+            "ss.inProgressCount = (SELECT COUNT(s) FROM Sentence s WHERE s.sentenceSet.id = ss.id AND s.learningStatus = 'IN_PROGRESS'), " +
+            "ss.completedCount = (SELECT COUNT(s) FROM Sentence s WHERE s.sentenceSet.id = ss.id AND s.learningStatus = 'COMPLETED') " +
+            "WHERE ss.id BETWEEN :fromId AND :toId")
+    int recalculateSentenceCounts(Long fromId, Long toId);
+
+    @Query("SELECT COALESCE(MAX(ss.id), 0) FROM SentenceSet ss")
+    long findMaxId();
 
     @Query("SELECT COUNT(ss) > 0 " +
             "FROM SentenceSet ss " +
@@ -37,6 +134,13 @@ public interface SentenceSetRepository extends JpaRepository<SentenceSet, Long>
             "AND ss.user.id = :userId")
     boolean existsByUserIdAndSentenceSetId(Long userId, Long sentenceSetId);
 
+    // 최근에 조회된 공용 문장 세트 id (음성 캐시 예열용)
+    @Query("SELECT ss.id " +
+            "FROM SentenceSet ss " +
+            "WHERE ss.isPublic = true " +
+            "ORDER BY ss.lastViewedDate desc, ss.id desc")
+    List<Long> findPublicIdsOrderByLastViewedDate(Pageable pageable);
+
     // 사용자 문장 세트 개수 반환
     @Query("SELECT COUNT(ss) FROM SentenceSet ss WHERE ss.user.id = :userId")
     long countByUser(Long userId);
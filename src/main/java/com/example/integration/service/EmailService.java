@@ -1,5 +1,6 @@
 package com.example.integration.service;
 
+import com.example.integration.common.config.jwt.RoleChangeRegistry;
 import com.example.integration.common.response.CustomException;
 import com.example.integration.common.response.ErrorCode;
 import com.example.integration.common.util.RedisUtil;
@@ -27,6 +28,7 @@ public class EmailService {
     private final RedisUtil redisUtil;
     private final UserRepository userRepository;
     private final TemplateEngine templateEngine;
+    private final RoleChangeRegistry roleChangeRegistry;
 
     private static final String senderEmail = "jj@naver.com";
 
@@ -144,6 +146,9 @@ public class EmailService {
             throw new CustomException(ErrorCode.INTERNAL_SERVER_ERROR); // 내부 서버 오류
         }
 
+        // 무상태 인증 모드에서 이전 Access Token의 role 클레임 대신 바뀐 권한이 적용되도록 기록
+        roleChangeRegistry.markChanged(email);
+
         // 성공적으로 활성화 처리된 경우
         return true;
     }
@@ -1,6 +1,5 @@
 package com.example.integration.service;
 
-import com.example.integration.entity.User;
 import com.example.integration.dto.mypage.SentenceLearningStatusesDto;
 import com.example.integration.repository.SentenceRepository;
 import com.example.integration.repository.SentenceSetRepository;
@@ -35,8 +34,7 @@ public class MypageService {
      */
     @Transactional(readOnly = true)
     public long getUserSentenceSetCount() {
-        User user = userService.currentUser();
-        return sentenceSetRepository.countByUser(user.getId());
+        return sentenceSetRepository.countByUser(userService.currentUserId());
     }
 
     /**
@@ -45,11 +43,11 @@ public class MypageService {
      */
     @Transactional(readOnly = true)
     public SentenceLearningStatusesDto getUserSentenceStatistics() {
-        User user = userService.currentUser();
+        Long userId = userService.currentUserId();
 
-        long totalSentences = sentenceRepository.countByUserId(user.getId());
-        long learningStatusInProgress = sentenceRepository.countByUserIdAndLearningStatusInProgress(user.getId());
-        long learningStatusCompleted = sentenceRepository.countByUserIdAndLearningStatusCompleted(user.getId());
+        long totalSentences = sentenceRepository.countByUserId(userId);
+        long learningStatusInProgress = sentenceRepository.countByUserIdAndLearningStatusInProgress(userId);
+        long learningStatusCompleted = sentenceRepository.countByUserIdAndLearningStatusCompleted(userId);
 
         return new SentenceLearningStatusesDto(totalSentences, learningStatusInProgress, learningStatusCompleted);
     }
@@ -1,20 +1,23 @@
 package com.example.integration.service;
 
-import com.example.integration.common.util.SecurityUtil;
+import com.example.integration.common.config.CurrentUserHolder;
+import com.example.integration.common.config.event.SentenceSetChangedEvent;
+import com.example.integration.common.config.event.SentenceSetDeletedEvent;
+import com.example.integration.common.util.PageCursor;
+import com.example.integration.dto.sentence.SentenceListItemDto;
 import com.example.integration.dto.sentenceSet.ListSentenceSetResponseDto;
 import com.example.integration.dto.sentenceSet.PublicSentenceSetAndSentenceListResponseDto;
 import com.example.integration.dto.sentenceSet.PublicSentenceSetResponseDto;
 import com.example.integration.dto.sentenceSet.SentenceSetRequestDto;
 import com.example.integration.entity.RoleType;
-import com.example.integration.entity.Sentence;
 import com.example.integration.entity.SentenceSet;
 import com.example.integration.entity.User;
 import com.example.integration.repository.SentenceRepository;
 import com.example.integration.repository.SentenceSetRepository;
-import com.example.integration.repository.UserRepository;
 import com.example.integration.common.response.CustomException;
 import com.example.integration.common.response.ErrorCode;
 import lombok.RequiredArgsConstructor;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
 import org.springframework.stereotype.Service;
@@ -28,16 +31,15 @@ public class PublicSentenceSetService {
 
     private final SentenceSetRepository sentenceSetRepository;
     private final SentenceRepository sentenceRepository;
-    private final UserRepository userRepository;
+    private final CurrentUserHolder currentUserHolder;
+    private final ApplicationEventPublisher eventPublisher;
 
     /**
      * 현재 사용자 조회
      * @return
      */
     private User currentUser() {
-        return userRepository.findByEmail(SecurityUtil.getCurrentMember()).orElseThrow(
-                () -> new CustomException(ErrorCode.NOT_FOUND_USER)
-        );
+        return currentUserHolder.get();
     }
 
     /**
@@ -62,42 +64,38 @@ public class PublicSentenceSetService {
 
     /**
      * 공용 문장 세트 목록 조회
+     * cursor가 있으면 커서 페이징 (빈 값이면 첫 페이지), 없으면 offset 페이징
      * @param offset
      * @param limit
+     * @param cursor 이전 응답의 nextCursor
      * @return
      */
     @Transactional(readOnly = true)
-    public ListSentenceSetResponseDto getPublicSentenceSetList(int offset, int limit) {
-        Pageable pageable = PageRequest.of(offset / limit, limit);
-        List<SentenceSet> sentenceSetList = sentenceSetRepository.findAllWhichPublic(pageable);
+    public ListSentenceSetResponseDto getPublicSentenceSetList(int offset, int limit, String cursor) {
+        if (cursor != null) {
+            List<PublicSentenceSetResponseDto> sentenceSetList = sentenceSetRepository.findPublicListAfter(PageCursor.decode(cursor), limit + 1);
+            String nextCursor = PageCursor.next(sentenceSetList, limit, sentenceSet -> new PageCursor(sentenceSet.createdAt(), sentenceSet.id()));
 
-        return new ListSentenceSetResponseDto(sentenceSetList);
-    }
+            return new ListSentenceSetResponseDto(PageCursor.page(sentenceSetList, limit), nextCursor);
+        }
 
-    /**
-     * 키워드(title)를 바탕으로 공용 문장 세트 목록 조회
-     * @param keyword
-     * @param offset
-     * @param limit
-     * @return
-     */
-    @Transactional(readOnly = true)
-    public ListSentenceSetResponseDto searchPublicSentenceSetList(String keyword, int offset, int limit) {
         Pageable pageable = PageRequest.of(offset / limit, limit);
-        List<SentenceSet> sentenceSetList = sentenceSetRepository.findAllWithKeywordWhichPublic(keyword, pageable);
+        List<PublicSentenceSetResponseDto> sentenceSetList = sentenceSetRepository.findPublicList(pageable);
 
         return new ListSentenceSetResponseDto(sentenceSetList);
     }
 
     /**
      * 특정 공용 문장 세트와 포함된 문장 목록 조회
+     * cursor가 있으면 커서 페이징 (빈 값이면 첫 페이지), 없으면 offset 페이징
      * @param sentenceSetId
      * @param offset
      * @param limit
+     * @param cursor 이전 응답의 nextCursor
      * @return
      */
     @Transactional(readOnly = true)
-    public PublicSentenceSetAndSentenceListResponseDto getPublicSentenceSetWithSentences(Long sentenceSetId, int offset, int limit) {
+    public PublicSentenceSetAndSentenceListResponseDto getPublicSentenceSetWithSentences(Long sentenceSetId, int offset, int limit, String cursor) {
         SentenceSet sentenceSet = findSentenceSetWithId(sentenceSetId);
 
         // 개인 문장 세트 조회일 때
@@ -105,10 +103,18 @@ public class PublicSentenceSetService {
             throw new CustomException(ErrorCode.PRIVATE_SENTENCE_SET);
         }
 
+        // 커서 페이징 (마지막으로 받은 문장 다음부터 조회)
+        if (cursor != null) {
+            List<SentenceListItemDto> sentenceList = sentenceRepository.findListBySentenceSetIdAfter(sentenceSetId, PageCursor.decode(cursor), limit + 1);
+            String nextCursor = PageCursor.next(sentenceList, limit, SentenceListItemDto::cursor);
+
+            return new PublicSentenceSetAndSentenceListResponseDto(sentenceSet, PageCursor.page(sentenceList, limit), nextCursor);
+        }
+
         // 10개 페이징
         Pageable pageable = PageRequest.of(offset / limit, limit);
 
-        List<Sentence> sentenceList = sentenceRepository.findAllBySentenceSetId(sentenceSetId, pageable);
+        List<SentenceListItemDto> sentenceList = sentenceRepository.findListBySentenceSetId(sentenceSetId, pageable);
 
         return new PublicSentenceSetAndSentenceListResponseDto(sentenceSet, sentenceList);
     }
@@ -132,6 +138,9 @@ public class PublicSentenceSetService {
 
         SentenceSet savedSentenceSet = sentenceSetRepository.save(sentenceSet);
 
+        // 커밋 후 음성 사전 합성 예약
+        eventPublisher.publishEvent(new SentenceSetChangedEvent(savedSentenceSet.getId()));
+
         return new PublicSentenceSetResponseDto(savedSentenceSet);
     }
 
@@ -157,6 +166,9 @@ public class PublicSentenceSetService {
 
         SentenceSet updatedSentenceSet = sentenceSetRepository.save(sentenceSet);
 
+        // 커밋 후 음성 사전 합성 예약
+        eventPublisher.publishEvent(new SentenceSetChangedEvent(updatedSentenceSet.getId()));
+
         return new PublicSentenceSetResponseDto(updatedSentenceSet);
     }
 
@@ -177,5 +189,8 @@ public class PublicSentenceSetService {
         }
 
         sentenceSetRepository.delete(sentenceSet);
+
+        // 커밋 후 검색 색인에서 제거
+        eventPublisher.publishEvent(new SentenceSetDeletedEvent(sentenceSetId));
     }
 }
@@ -0,0 +1,48 @@
+package com.example.integration.service;
+
+import com.example.integration.repository.SentenceSetRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+
+/**
+ * 문장 세트의 문장 개수 컬럼 재계산
+ * 문장 생성/삭제/학습 상태 변경 시 증감되는 값이 실제 문장과 어긋난 경우(직접 수정한 데이터, 컬럼 추가 이전 데이터 등)를 바로잡음
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class SentenceCountRepairService {
+
+    private final SentenceSetRepository sentenceSetRepository;
+
+    // 한 번에 재계산할 문장 세트 id 범위 (범위마다 별도 트랜잭션으로 실행하여 잠금 시간을 제한)
+    @Value("${sentence-count.repair.batch-size:1000}")
+    private long batchSize;
+
+    /**
+     * 정해진 시각에 전체 재계산 (기본 매일 04:00)
+     */
+    @Scheduled(cron = "${sentence-count.repair.cron:0 0 4 * * *}")
+    public void scheduledRepair() {
+        int updated = repairAll();
+        log.info("문장 개수 재계산 완료: {}개 문장 세트", updated);
+    }
+
+    /**
+     * 전체 문장 세트의 문장 개수 재계산
+     * @return 재계산한 문장 세트 개수
+     */
+    public int repairAll() {
+        long maxId = sentenceSetRepository.findMaxId();
+        int updated = 0;
+
+        for (long fromId = 1; fromId <= maxId; fromId += batchSize) {
+            updated += sentenceSetRepository.recalculateSentenceCounts(fromId, fromId + batchSize - 1);
+        }
+
+        return updated;
+    }
+}
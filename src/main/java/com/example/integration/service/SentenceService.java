@@ -1,7 +1,8 @@
 package com.example.integration.service;
 
-import com.example.integration.common.util.SecurityUtil;
-import com.example.integration.entity.User;
+import com.example.integration.common.config.CurrentUserHolder;
+import com.example.integration.common.config.event.SentenceChangedEvent;
+import com.example.integration.common.config.event.SentenceDeletedEvent;
 import com.example.integration.common.response.CustomException;
 import com.example.integration.common.response.ErrorCode;
 import com.example.integration.entity.LearningStatus;
@@ -12,28 +13,23 @@ import com.example.integration.dto.sentence.SentenceRequestDto;
 import com.example.integration.dto.sentence.SentenceResponseDto;
 import com.example.integration.repository.SentenceRepository;
 import com.example.integration.repository.SentenceSetRepository;
-import com.example.integration.repository.UserRepository;
 import lombok.RequiredArgsConstructor;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
 @RequiredArgsConstructor
 @Service
 public class SentenceService {
 
     private final SentenceRepository sentenceRepository;
     private final SentenceSetRepository sentenceSetRepository;
-    private final UserRepository userRepository;
-
-    /**
-     * 현재 사용자 조회
-     * @return
-     */
-    private User currentUser() {
-        return userRepository.findByEmail(SecurityUtil.getCurrentMember()).orElseThrow(
-                () -> new CustomException(ErrorCode.NOT_FOUND_USER)
-        );
-    }
+    private final CurrentUserHolder currentUserHolder;
+    private final ApplicationEventPublisher eventPublisher;
 
     /**
      * id를 통해 특정 문장 세트 조회
@@ -50,7 +46,7 @@ public class SentenceService {
      * @param sentenceSetId
      */
     private void checkWriter(Long sentenceSetId) {
-        if (!sentenceSetRepository.existsByUserIdAndSentenceSetId(currentUser().getId(), sentenceSetId)) {
+        if (!sentenceSetRepository.existsByUserIdAndSentenceSetId(currentUserHolder.getId(), sentenceSetId)) {
             throw new CustomException(ErrorCode.FORBIDDEN);
         }
     }
@@ -77,6 +73,12 @@ public class SentenceService {
 
         Sentence savedSentence = sentenceRepository.save(sentence);
 
+        // 문장 개수 증가 (새 문장은 학습 중)
+        sentenceSetRepository.updateSentenceCounts(sentenceSetId, 1, 1, 0);
+
+        // 커밋 후 음성 사전 합성 예약
+        eventPublisher.publishEvent(new SentenceChangedEvent(sentenceSetId, savedSentence.getId()));
+
         return new SentenceResponseDto(savedSentence);
     }
 
@@ -97,11 +99,16 @@ public class SentenceService {
 
         Sentence updatedSentence = sentenceRepository.save(sentence);
 
+        // 커밋 후 음성 사전 합성 예약
+        eventPublisher.publishEvent(new SentenceChangedEvent(updatedSentence.getSentenceSet().getId(), updatedSentence.getId()));
+
         return new SentenceResponseDto(updatedSentence);
     }
 
     /**
      * 특정 문장의 학습 상태 수정
+     * 학습 상태는 이전 상태를 조건으로 SQL에서 변경하고, 실제로 바꾼 요청만 문장 개수를 옮김
+     * (같은 문장의 상태를 동시에 바꾸어도 개수가 두 번 옮겨지지 않도록)
      * @param sentenceId
      * @param learningStatusRequestDto
      * @return
@@ -113,15 +120,30 @@ public class SentenceService {
 
         checkWriter(sentence.getSentenceSet().getId());
 
-        sentence.updateLearningStatus(learningStatusRequestDto.learningStatus());
-
-        Sentence updatedSentence = sentenceRepository.save(sentence);
+        LearningStatus newStatus = learningStatusRequestDto.learningStatus();
+
+        // 읽은 상태부터 시도하고, 그 사이 다른 요청이 바꿨다면 나머지 상태로 시도 (UPDATE는 최신 행을 기준으로 판단)
+        for (LearningStatus previousStatus : statusesStartingWith(sentence.getLearningStatus())) {
+            if (previousStatus == newStatus) {
+                continue;
+            }
+            if (sentenceRepository.updateLearningStatusIfCurrent(sentenceId, previousStatus, newStatus) == 1) {
+                // 학습 상태별 문장 개수 이동
+                sentenceSetRepository.updateSentenceCounts(sentence.getSentenceSet().getId(), 0,
+                        countOf(newStatus, LearningStatus.IN_PROGRESS) - countOf(previousStatus, LearningStatus.IN_PROGRESS),
+                        countOf(newStatus, LearningStatus.COMPLETED) - countOf(previousStatus, LearningStatus.COMPLETED));
+                break;
+            }
+        }
 
-        return new SentenceResponseDto(updatedSentence);
+        // 이미 newStatus이거나 다른 요청이 먼저 같은 상태로 바꾼 경우 개수는 그대로
+        return new SentenceResponseDto(sentence.getId(), sentence.getContent(), sentence.getMeaning(),
+                sentence.getDescription(), newStatus.getDescription());
     }
 
     /**
      * 문장 세트에서 특정 문장 삭제
+     * 실제로 행을 삭제한 요청만 문장 개수를 감소 (같은 문장을 동시에 삭제해도 한 번만 감소)
      * @param sentenceId
      */
     @Transactional
@@ -131,7 +153,32 @@ public class SentenceService {
 
         checkWriter(sentence.getSentenceSet().getId());
 
-        sentenceRepository.delete(sentence);
+        // 삭제 시점의 학습 상태를 조건으로 삭제하여, 그 상태의 개수를 감소
+        for (LearningStatus learningStatus : statusesStartingWith(sentence.getLearningStatus())) {
+            if (sentenceRepository.deleteIfLearningStatus(sentenceId, learningStatus) == 1) {
+                sentenceSetRepository.updateSentenceCounts(sentence.getSentenceSet().getId(), -1,
+                        -countOf(learningStatus, LearningStatus.IN_PROGRESS),
+                        -countOf(learningStatus, LearningStatus.COMPLETED));
+                break;
+            }
+        }
+
+        // 커밋 후 검색 색인에서 제거
+        eventPublisher.publishEvent(new SentenceDeletedEvent(sentence.getSentenceSet().getId(), sentenceId));
+    }
+
+    // 학습 상태가 target이면 1, 아니면 0
+    private static int countOf(LearningStatus status, LearningStatus target) {
+        return target.equals(status) ? 1 : 0;
+    }
+
+    // 읽어 둔 상태를 먼저, 나머지 상태를 그 뒤에 (조건부 UPDATE/DELETE 시도 순서)
+    private static List<LearningStatus> statusesStartingWith(LearningStatus first) {
+        List<LearningStatus> statuses = new ArrayList<>(Arrays.asList(LearningStatus.values()));
+        if (statuses.remove(first)) {
+            statuses.add(0, first);
+        }
+        return statuses;
     }
 
 }
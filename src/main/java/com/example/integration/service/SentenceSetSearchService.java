@@ -0,0 +1,206 @@
+package com.example.integration.service;
+
+import com.example.integration.common.config.search.SentenceSetSearchIndex;
+import com.example.integration.dto.sentence.SentenceSearchItemDto;
+import com.example.integration.dto.sentenceSet.PublicSentenceSetResponseDto;
+import com.example.integration.dto.sentenceSet.SearchSentenceSetResponseDto;
+import com.example.integration.dto.sentenceSet.SentenceSetSearchResultDto;
+import com.example.integration.repository.SentenceRepository;
+import com.example.integration.repository.SentenceSetRepository;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.stream.Collectors;
+
+/**
+ * 공용 문장 세트 검색 서비스
+ * <p>
+ * - 검색은 메모리의 역색인({@link SentenceSetSearchIndex})에서 BM25 점수 순으로 수행하며, DB를 조회하지 않습니다.
+ * - 색인은 시작 시 전체를 만들고, 이후 공용 문장 세트/문장의 변경이 커밋될 때마다 해당 세트/문장만 반영합니다.
+ * - 색인 변경은 전용 스레드 하나에서 순서대로 실행되므로, 같은 문장의 수정과 삭제가 뒤바뀌어 반영되지 않습니다.
+ * - 변경 이벤트는 이벤트가 발생한 노드의 색인에만 반영되므로, 주기적으로 전체를 다시 만들어 다른 노드의 변경을 반영합니다.
+ * - 시작 시 색인이 준비되기 전과 검색어가 비어 있는 경우에는 기존처럼 DB의 제목 검색을 사용합니다.
+ */
+@Slf4j
+@Service
+public class SentenceSetSearchService {
+
+    private final SentenceSetRepository sentenceSetRepository;
+    private final SentenceRepository sentenceRepository;
+    private final int batchSize;
+    private final double minMatchRatio;
+
+    // 색인 변경 전용 스레드 (변경 순서 보장)
+    private final ExecutorService indexer;
+    private final Timer searchTimer;
+
+    private volatile SentenceSetSearchIndex index = new SentenceSetSearchIndex();
+    private volatile boolean ready;
+
+    public SentenceSetSearchService(
+            SentenceSetRepository sentenceSetRepository,
+            SentenceRepository sentenceRepository,
+            @Value("${search.index.batch-size:500}") int batchSize,
+            @Value("${search.min-match-ratio:0.5}") double minMatchRatio,
+            MeterRegistry meterRegistry
+    ) {
+        this.sentenceSetRepository = sentenceSetRepository;
+        this.sentenceRepository = sentenceRepository;
+        this.batchSize = batchSize;
+        this.minMatchRatio = minMatchRatio;
+
+        this.indexer = Executors.newSingleThreadExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "search-indexer");
+            thread.setDaemon(true);
+            return thread;
+        });
+
+        this.searchTimer = Timer.builder("search.query").register(meterRegistry);
+        Gauge.builder("search.index.documents", this, service -> service.index.size()).register(meterRegistry);
+    }
+
+    /**
+     * 키워드로 공용 문장 세트 검색 (제목, 문장 content/meaning 대상)
+     * @param keyword
+     * @param offset
+     * @param limit
+     * @return
+     */
+    public SearchSentenceSetResponseDto search(String keyword, int offset, int limit) {
+        Pageable pageable = PageRequest.of(offset / limit, limit);
+
+        if (keyword.isBlank() || !ready) {
+            List<SentenceSetSearchResultDto> sentenceSetList = sentenceSetRepository.findPublicListWithKeyword(keyword, pageable).stream()
+                    .map(SentenceSetSearchResultDto::new)
+                    .toList();
+
+            return new SearchSentenceSetResponseDto(sentenceSetList);
+        }
+
+        List<SentenceSetSearchResultDto> sentenceSetList = searchTimer.record(
+                () -> index.search(keyword, (int) pageable.getOffset(), limit, minMatchRatio));
+
+        return new SearchSentenceSetResponseDto(sentenceSetList);
+    }
+
+    /**
+     * 공용 문장 세트 생성/수정 반영 (세트와 포함된 문장 전체를 다시 색인)
+     * @param sentenceSetId
+     */
+    public void indexSentenceSet(Long sentenceSetId) {
+        submit(() -> sentenceSetRepository.findPublicListItem(sentenceSetId).ifPresentOrElse(
+                sentenceSet -> index.putSentenceSet(sentenceSet.id(), sentenceSet.title(), sentenceSet.createdAt(),
+                        sentenceRepository.findSearchItemsBySentenceSetIdIn(List.of(sentenceSetId))),
+                () -> index.removeSentenceSet(sentenceSetId)));
+    }
+
+    /**
+     * 문장 세트 삭제 반영
+     * @param sentenceSetId
+     */
+    public void removeSentenceSet(Long sentenceSetId) {
+        submit(() -> index.removeSentenceSet(sentenceSetId));
+    }
+
+    /**
+     * 문장 생성/수정 반영 (공용 문장 세트의 문장만 색인)
+     * @param sentenceSetId
+     * @param sentenceId
+     */
+    public void indexSentence(Long sentenceSetId, Long sentenceId) {
+        submit(() -> {
+            // 개인 문장 세트의 문장은 색인에 없으므로 DB를 조회하지 않음
+            if (!index.contains(sentenceSetId)) {
+                return;
+            }
+            sentenceRepository.findSearchItemById(sentenceId).ifPresentOrElse(
+                    index::putSentence,
+                    () -> index.removeSentence(sentenceSetId, sentenceId));
+        });
+    }
+
+    /**
+     * 문장 삭제 반영
+     * @param sentenceSetId
+     * @param sentenceId
+     */
+    public void removeSentence(Long sentenceSetId, Long sentenceId) {
+        submit(() -> index.removeSentence(sentenceSetId, sentenceId));
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void buildOnStartup() {
+        submit(this::rebuild);
+    }
+
+    // 다른 노드에서 발생한 변경을 반영하기 위해 주기적으로 전체 색인을 다시 만듦
+    @Scheduled(cron = "${search.index.rebuild-cron:0 */30 * * * *}")
+    public void scheduleRebuild() {
+        submit(this::rebuild);
+    }
+
+    /**
+     * 공용 문장 세트 전체를 새 색인에 만든 뒤 교체 (만드는 동안에는 기존 색인으로 검색)
+     */
+    void rebuild() {
+        long startMillis = System.currentTimeMillis();
+        SentenceSetSearchIndex rebuilt = new SentenceSetSearchIndex();
+        long afterId = 0;
+        List<PublicSentenceSetResponseDto> sentenceSets;
+
+        do {
+            sentenceSets = sentenceSetRepository.findPublicListByIdAfter(afterId, PageRequest.of(0, batchSize));
+            if (sentenceSets.isEmpty()) {
+                break;
+            }
+
+            List<Long> sentenceSetIds = sentenceSets.stream().map(PublicSentenceSetResponseDto::id).toList();
+            Map<Long, List<SentenceSearchItemDto>> sentencesBySet = sentenceRepository.findSearchItemsBySentenceSetIdIn(sentenceSetIds).stream()
+                    .collect(Collectors.groupingBy(SentenceSearchItemDto::sentenceSetId));
+
+            sentenceSets.forEach(sentenceSet -> rebuilt.putSentenceSet(sentenceSet.id(), sentenceSet.title(), sentenceSet.createdAt(),
+                    sentencesBySet.getOrDefault(sentenceSet.id(), List.of())));
+
+            afterId = sentenceSetIds.get(sentenceSetIds.size() - 1);
+        } while (sentenceSets.size() == batchSize);
+
+        index = rebuilt;
+        ready = true;
+        log.info("검색 색인 생성 완료 ({}개 문장 세트, {}ms)", rebuilt.size(), System.currentTimeMillis() - startMillis);
+    }
+
+    private void submit(Runnable task) {
+        try {
+            indexer.execute(() -> {
+                try {
+                    task.run();
+                } catch (Exception e) {
+                    // 반영하지 못한 변경은 다음 전체 색인에서 반영
+                    log.warn("검색 색인 반영 실패: {}", e.getMessage());
+                }
+            });
+        } catch (RejectedExecutionException e) {
+            // 종료 중
+        }
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        indexer.shutdownNow();
+    }
+}
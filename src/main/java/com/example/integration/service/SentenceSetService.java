@@ -1,16 +1,17 @@
 package com.example.integration.service;
 
+import com.example.integration.common.config.CurrentUserHolder;
+import com.example.integration.common.config.event.SentenceSetDeletedEvent;
 import com.example.integration.common.config.event.SentenceSetViewedEvent;
 import com.example.integration.common.response.CustomException;
 import com.example.integration.common.response.ErrorCode;
-import com.example.integration.common.util.SecurityUtil;
+import com.example.integration.common.util.PageCursor;
+import com.example.integration.dto.sentence.SentenceListItemDto;
 import com.example.integration.dto.sentenceSet.*;
-import com.example.integration.entity.Sentence;
 import com.example.integration.entity.SentenceSet;
 import com.example.integration.entity.User;
 import com.example.integration.repository.SentenceRepository;
 import com.example.integration.repository.SentenceSetRepository;
-import com.example.integration.repository.UserRepository;
 import lombok.RequiredArgsConstructor;
 import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.data.domain.PageRequest;
@@ -19,6 +20,7 @@ import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
 import java.util.List;
+import java.util.Objects;
 
 @RequiredArgsConstructor
 @Service
@@ -26,7 +28,7 @@ public class SentenceSetService {
 
     private final SentenceSetRepository sentenceSetRepository;
     private final SentenceRepository sentenceRepository;
-    private final UserRepository userRepository;
+    private final CurrentUserHolder currentUserHolder;
     private final ApplicationEventPublisher eventPublisher;
 
     /**
@@ -34,9 +36,7 @@ public class SentenceSetService {
      * @return
      */
     private User currentUser() {
-        return userRepository.findByEmail(SecurityUtil.getCurrentMember()).orElseThrow(
-                () -> new CustomException(ErrorCode.NOT_FOUND_USER)
-        );
+        return currentUserHolder.get();
     }
 
     /**
@@ -49,48 +49,83 @@ public class SentenceSetService {
                 .orElseThrow(() -> new CustomException(ErrorCode.SENTENCE_SET_NOT_FOUND));
     }
 
+    /**
+     * 문장 세트 조회 권한 확인 (공용 문장 세트이거나 현재 사용자의 개인 문장 세트)
+     * @param sentenceSet
+     */
+    private void checkReadable(SentenceSet sentenceSet) {
+        if (!sentenceSet.isPublic() && !Objects.equals(currentUserHolder.getId(), sentenceSet.getUser().getId())) {
+            throw new CustomException(ErrorCode.PRIVATE_SENTENCE_SET);
+        }
+    }
+
+    /**
+     * 문장 세트 조회 권한 확인 (문장 세트 관련 부가 정보 조회 API용)
+     * @param sentenceSetId
+     */
+    @Transactional(readOnly = true)
+    public void checkReadable(Long sentenceSetId) {
+        checkReadable(findSentenceSetWithId(sentenceSetId));
+    }
+
     /**
      * 개인 문장 세트 조회
+     * cursor가 있으면 커서 페이징 (빈 값이면 첫 페이지), 없으면 offset 페이징
      * @param offset
      * @param limit
+     * @param cursor 이전 응답의 nextCursor
      * @return
      */
     @Transactional(readOnly = true)
-    public UserSentenceSetResponseDto getSentenceSetByUser(int offset, int limit) {
-        User user = currentUser();
+    public UserSentenceSetResponseDto getSentenceSetByUser(int offset, int limit, String cursor) {
+        Long userId = currentUserHolder.getId();
+        long sentenceSetCount = sentenceSetRepository.countByUser(userId);
+
+        if (cursor != null) {
+            List<SentenceSetResponseDto> sentenceSetList = sentenceSetRepository.findListByUserIdAfter(userId, PageCursor.decode(cursor), limit + 1);
+            String nextCursor = PageCursor.next(sentenceSetList, limit, sentenceSet -> new PageCursor(sentenceSet.createdAt(), sentenceSet.id()));
+
+            return new UserSentenceSetResponseDto(sentenceSetCount, PageCursor.page(sentenceSetList, limit), nextCursor);
+        }
+
         Pageable pageable = PageRequest.of(offset / limit, limit);
-        List<SentenceSet> sentenceSetList = sentenceSetRepository.findAllByUserId(user.getId(), pageable);
+        List<SentenceSetResponseDto> sentenceSetList = sentenceSetRepository.findListByUserId(userId, pageable);
 
-        return new UserSentenceSetResponseDto(user, sentenceSetList);
+        return new UserSentenceSetResponseDto(sentenceSetCount, sentenceSetList);
     }
 
     /**
      * 특정 개인 문장 세트와 포함된 문장 목록 조회
+     * cursor가 있으면 커서 페이징 (빈 값이면 첫 페이지), 없으면 offset 페이징
      * @param sentenceSetId
      * @param offset
      * @param limit
+     * @param cursor 이전 응답의 nextCursor
      * @return
      */
     @Transactional(readOnly = true)
-    public SentenceSetAndSentenceListResponseDto getSentenceSetWithSentences(Long sentenceSetId, int offset, int limit) {
+    public SentenceSetAndSentenceListResponseDto getSentenceSetWithSentences(Long sentenceSetId, int offset, int limit, String cursor) {
         SentenceSet sentenceSet = findSentenceSetWithId(sentenceSetId);
 
-        // 개인 문장 세트 조회일 때
+        checkReadable(sentenceSet);
+
+        // 개인 문장 세트 조회일 때 최근 조회 이벤트 발생
         if (!sentenceSet.isPublic()) {
-            User user = currentUser();
-
-            if (user.getId() == sentenceSet.getUser().getId()) {
-                // 문장 조회 후 최근 조회 이벤트 발생
-                eventPublisher.publishEvent(new SentenceSetViewedEvent(sentenceSetId));
-            } else {
-                throw new CustomException(ErrorCode.PRIVATE_SENTENCE_SET);
-            }
+            eventPublisher.publishEvent(new SentenceSetViewedEvent(sentenceSetId));
+        }
+
+        // 커서 페이징 (마지막으로 받은 문장 다음부터 조회)
+        if (cursor != null) {
+            List<SentenceListItemDto> sentenceList = sentenceRepository.findListBySentenceSetIdAfter(sentenceSetId, PageCursor.decode(cursor), limit + 1);
+            String nextCursor = PageCursor.next(sentenceList, limit, SentenceListItemDto::cursor);
+
+            return new SentenceSetAndSentenceListResponseDto(sentenceSet, PageCursor.page(sentenceList, limit), nextCursor);
         }
 
         // 10개 페이징
         Pageable pageable = PageRequest.of(offset / limit, limit);
 
-        List<Sentence> sentenceList = sentenceRepository.findAllBySentenceSetId(sentenceSetId, pageable);
+        List<SentenceListItemDto> sentenceList = sentenceRepository.findListBySentenceSetId(sentenceSetId, pageable);
 
         return new SentenceSetAndSentenceListResponseDto(sentenceSet, sentenceList);
     }
@@ -141,6 +176,9 @@ public class SentenceSetService {
         SentenceSet sentenceSet = findSentenceSetWithId(sentenceSetId);
 
         sentenceSetRepository.delete(sentenceSet);
+
+        // 커밋 후 검색 색인에서 제거
+        eventPublisher.publishEvent(new SentenceSetDeletedEvent(sentenceSetId));
     }
 
 }
@@ -5,182 +5,343 @@ import com.example.integration.common.enums.tts.VoiceName;
 import com.example.integration.dto.tts.SingleTtsRequestDto;
 import com.example.integration.common.response.CustomException;
 import com.example.integration.common.response.ErrorCode;
-import com.google.api.gax.core.FixedCredentialsProvider;
-import com.google.api.gax.rpc.ApiException;
-import com.google.auth.oauth2.GoogleCredentials;
-import com.google.cloud.texttospeech.v1.*;
-import com.google.protobuf.ByteString;
+import com.example.integration.common.config.tts.TextToSpeechMetrics;
+import com.example.integration.common.config.tts.TextToSpeechProvider;
+import com.example.integration.common.config.tts.TtsAudioCache;
+import com.example.integration.common.config.tts.TtsBulkhead;
+import com.example.integration.common.config.tts.TtsCallPolicy;
+import com.example.integration.common.config.tts.TtsChunkedSynthesizer;
+import com.example.integration.common.config.tts.TtsAudioFile;
+import com.example.integration.common.config.tts.TtsAudioSpec;
+import com.example.integration.common.config.tts.TtsPriorityGate;
+import com.example.integration.common.config.tts.TtsSingleFlight;
+import com.example.integration.common.config.tts.TtsTextSplitter;
+import com.example.integration.common.enums.tts.AudioFormat;
+import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.stereotype.Service;
 
-import java.io.File;
-import java.io.FileInputStream;
-import java.io.FileOutputStream;
 import java.io.IOException;
-import java.time.LocalDateTime;
-import java.time.format.DateTimeFormatter;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Optional;
 
 @Service
 @Slf4j
+@RequiredArgsConstructor
 public class TextToSpeechService {
 
+    private final TextToSpeechProvider textToSpeechProvider;
+    private final TtsAudioCache ttsAudioCache;
+    private final TtsSingleFlight ttsSingleFlight;
+    private final TtsPriorityGate ttsPriorityGate;
+    private final TtsBulkhead ttsBulkhead;
+    private final TtsCallPolicy ttsCallPolicy;
+    private final TtsTextSplitter ttsTextSplitter;
+    private final TtsChunkedSynthesizer ttsChunkedSynthesizer;
+    private final TextToSpeechMetrics textToSpeechMetrics;
 
     /**
-     * Google Cloud Text-to-Speech API를 사용하여 텍스트를 음성(MP3)으로 변환하는 메서드입니다.
+     * 입력된 텍스트를 TTS 백엔드({@link TextToSpeechProvider})를 통해 음성(MP3)으로 변환하고,
+     * 디스크 캐시에 저장한 뒤 파일 경로를 반환하는 메서드입니다.
      * <p>
-     * - 환경 변수 'GOOGLE_APPLICATION_CREDENTIALS'에 지정된 경로에서 서비스 계정 키 파일을 로드합니다.
-     * - 지정된 언어와 음성 설정을 기반으로 TTS 요청을 수행합니다.
-     * - 결과로 음성 데이터(ByteString)를 반환합니다.
+     * - 기본 음성 설정은 미국 영어(ENGLISH_US)의 EN_US_NEURAL2_A 음성을 사용합니다.
+     * - 이미 캐시된 음성이면 API를 호출하지 않고 기존 파일 경로를 반환합니다.
      *
-     * @param text      변환할 텍스트
-     * @param language  사용할 언어 설정
-     * @param voiceName 사용할 음성 이름 설정
-     * @return 변환된 음성 데이터 (MP3 형식)
-     * @throws IOException 인증 실패 또는 API 호출 중 오류 발생 시
+     * @param text 변환할 텍스트
+     * @return 생성된 오디오 파일의 경로 (String)
+     * @throws IOException TTS 처리 또는 파일 저장 중 오류 발생 시
      */
-    public ByteString convertTextToSpeechFromGoogleCloud(String text, VoiceLanguage language, VoiceName voiceName) throws IOException {
-        // 시스템 환경 변수에서 서비스 계정 키 파일 경로 가져오기
-        String credentialsPath = System.getenv("GOOGLE_APPLICATION_CREDENTIALS");
-        if (credentialsPath == null) {
-            throw new IllegalStateException("환경 변수 'GOOGLE_APPLICATION_CREDENTIALS'가 설정되지 않았습니다.");
+    public String synthesizeSpeechToLocalFile(String text) throws IOException {
+        TtsAudioSpec spec = new TtsAudioSpec(text, VoiceLanguage.ENGLISH_US, VoiceName.EN_US_NEURAL2_A, AudioFormat.MP3);
+
+        Optional<Path> cachedFile = ttsAudioCache.getFile(spec);
+        if (cachedFile.isPresent()) {
+            return cachedFile.get().toString();
         }
 
-        // 인증 정보 로드
-        GoogleCredentials credentials;
-        try (FileInputStream serviceAccountStream = new FileInputStream(credentialsPath)) {
-            credentials = GoogleCredentials.fromStream(serviceAccountStream);
+        // Text-to-Speech 요청을 설정된 TTS 백엔드로 처리하고 캐시에 저장
+        synthesizeAndCache(spec);
+
+        return ttsAudioCache.getFile(spec)
+                .orElseThrow(() -> new IOException("TTS 캐시 파일 저장에 실패했습니다."))
+                .toString();
+    }
+
+    /**
+     * 전달받은 텍스트와 언어 정보를 기반으로 음성 데이터를 생성합니다.
+     * <p>
+     * - 요청 언어가 ENGLISH인 경우 미국 영어 음성, KOREAN인 경우 한국어 음성으로 변환됩니다.
+     * - 캐시에 있는 음성은 TTS 백엔드를 호출하지 않고 반환합니다.
+     * - 같은 음성에 대한 동시 요청은 한 번의 API 호출 결과를 공유합니다.
+     * - API 입력 제한보다 긴 텍스트는 문장 단위 조각으로 나누어 병렬로 합성한 뒤 이어 붙입니다.
+     * - 변환된 음성은 MP3 포맷의 바이트 배열로 반환됩니다.
+     *
+     * @param singleTtsRequestDto 변환할 텍스트와 언어 정보를 담은 DTO
+     * @return 생성된 음성의 바이트 배열
+     * @throws CustomException TTS 생성 중 오류가 발생한 경우
+     */
+    public byte[] generateSpeechAudio(SingleTtsRequestDto singleTtsRequestDto) {
+        return generateSpeechAudio(toAudioSpec(singleTtsRequestDto, AudioFormat.MP3));
+    }
+
+    private byte[] generateSpeechAudio(TtsAudioSpec spec) {
+        long lookupStart = textToSpeechMetrics.start();
+        Optional<byte[]> cached = ttsAudioCache.get(spec);
+        textToSpeechMetrics.recordPhase(TextToSpeechMetrics.PHASE_CACHE_LOOKUP, lookupStart);
+        if (cached.isPresent()) {
+            return cached.get();
         }
 
-        // Text-to-Speech 클라이언트 생성
-        TextToSpeechSettings settings = TextToSpeechSettings.newBuilder()
-                .setCredentialsProvider(FixedCredentialsProvider.create(credentials))
-                .build();
-
-        try (TextToSpeechClient textToSpeechClient = TextToSpeechClient.create(settings)) {
-            // 요청 내용 구성
-            SynthesisInput input = SynthesisInput.newBuilder()
-                    .setText(text)
-                    .build();
-
-            // 음성 설정 (언어 코드, 음성 유형)
-            VoiceSelectionParams voice = VoiceSelectionParams.newBuilder()
-                    .setLanguageCode(language.getCode()) // 언어 설정
-                    .setName(voiceName.getName()) // 특정 음성 이름 설정
-                    .build();
-
-            // 오디오 출력 형식 설정
-            AudioConfig audioConfig = AudioConfig.newBuilder()
-                    .setAudioEncoding(AudioEncoding.MP3) // MP3 형식
-                    .build();
-
-            // TTS 요청
-            SynthesizeSpeechResponse response = textToSpeechClient.synthesizeSpeech(input, voice, audioConfig);
-
-            return response.getAudioContent();
-        } catch (ApiException e) {
-            throw new IOException("Text-to-Speech API 호출 중 오류 발생: " + e.getMessage(), e);
+        // 백그라운드 사전 합성보다 우선 처리
+        ttsPriorityGate.enterInteractive();
+        try {
+            return ttsSingleFlight.execute(spec.cacheKey(), () -> synthesizeAndCache(spec));
+        } finally {
+            ttsPriorityGate.exitInteractive();
         }
     }
 
-
     /**
-     * 입력된 텍스트를 Google Cloud Text-to-Speech API를 통해 음성(MP3)으로 변환하고,
-     * 로컬 파일로 저장한 뒤 파일 경로를 반환하는 메서드입니다.
+     * 음성을 합성(또는 캐시에서 조회)하여 디스크 캐시 파일 정보를 반환합니다.
      * <p>
-     * - 기본 음성 설정은 미국 영어(ENGLISH_US)의 EN_US_NEURAL2_A 음성을 사용합니다.
-     * - 필요에 따라 한국어 음성 설정으로 변경할 수 있습니다.
+     * - 컨트롤러는 반환된 파일을 힙에 올리지 않고 그대로 스트리밍합니다.
      *
-     * @param text 변환할 텍스트
-     * @return 생성된 오디오 파일의 경로 (String)
-     * @throws IOException TTS 처리 또는 파일 저장 중 오류 발생 시
+     * - 인코딩마다 별도의 캐시 항목으로 저장되므로 같은 문장의 MP3와 OGG_OPUS를 함께 보관합니다.
+     *
+     * @param singleTtsRequestDto 변환할 텍스트와 언어 정보를 담은 DTO
+     * @param format              응답 음성 인코딩
+     * @return 디스크 캐시 파일 정보
+     * @throws CustomException TTS 생성 또는 캐시 저장 중 오류가 발생한 경우
      */
-    public String synthesizeSpeechToLocalFile(String text) throws IOException {
-        VoiceLanguage language = VoiceLanguage.ENGLISH_US;
-//    VoiceLanguage language = VoiceLanguage.KOREAN;
+    public TtsAudioFile prepareSpeechAudioFile(SingleTtsRequestDto singleTtsRequestDto, AudioFormat format) {
+        TtsAudioSpec spec = toAudioSpec(singleTtsRequestDto, format);
 
-        VoiceName voiceName = VoiceName.EN_US_NEURAL2_A;
-//    VoiceName voiceName = VoiceName.KO_KR_STANDARD_A;
+        long lookupStart = textToSpeechMetrics.start();
+        Optional<Path> cachedFile = ttsAudioCache.getFile(spec);
+        textToSpeechMetrics.recordPhase(TextToSpeechMetrics.PHASE_CACHE_LOOKUP, lookupStart);
+        if (cachedFile.isEmpty()) {
+            generateSpeechAudio(spec);
+            cachedFile = ttsAudioCache.getFile(spec);
+        }
 
-        // Text-to-Speech 요청을 Google Cloud API를 사용해 처리
-        ByteString audioContents = convertTextToSpeechFromGoogleCloud(text, language, voiceName);
+        Path path = cachedFile.orElseThrow(() -> new CustomException(ErrorCode.TTS_GENERATION_FAILED));
 
-        // ByteString을 byte[]로 변환
-        byte[] audioByteArray = audioContents.toByteArray();
+        return new TtsAudioFile(path, spec.format(), spec.cacheKey());
+    }
 
-        // 파일 이름 반환
-        return saveAudioToLocalFile(audioByteArray);
+    /**
+     * 캐시에 이미 있는 음성 파일 조회 (TTS 백엔드를 호출하지 않음)
+     * @param singleTtsRequestDto 변환할 텍스트와 언어 정보를 담은 DTO
+     * @param format              응답 음성 인코딩
+     * @return 캐시된 음성 파일 정보, 없으면 빈 값
+     * @throws CustomException 지원하지 않는 언어인 경우
+     */
+    public Optional<TtsAudioFile> findCachedAudioFile(SingleTtsRequestDto singleTtsRequestDto, AudioFormat format) {
+        TtsAudioSpec spec = toAudioSpec(singleTtsRequestDto, format);
+
+        long lookupStart = textToSpeechMetrics.start();
+        Optional<Path> cachedFile = ttsAudioCache.getFile(spec);
+        textToSpeechMetrics.recordPhase(TextToSpeechMetrics.PHASE_CACHE_LOOKUP, lookupStart);
+
+        return cachedFile.map(path -> new TtsAudioFile(path, spec.format(), spec.cacheKey()));
     }
 
     /**
-     * 주어진 오디오 데이터를 사용자의 바탕화면의 'tts' 폴더에 MP3 파일로 저장합니다.
-     *
-     * - 파일 이름은 현재 날짜와 시간을 포함하여 고유하게 생성됩니다.
-     * - 바탕화면에 'tts' 폴더가 없으면 자동으로 생성됩니다.
+     * 백그라운드에서 음성을 미리 합성하여 캐시에 저장합니다.
+     * <p>
+     * - 이미 캐시된 음성은 건너뜁니다.
+     * - 사용자 요청이 API를 호출 중이면 끝날 때까지 기다린 뒤 호출합니다.
      *
-     * @param audioContents 저장할 오디오 데이터 (byte 배열)
-     * @return 저장된 MP3 파일의 전체 경로
-     * @throws IOException 파일 저장 중 오류가 발생한 경우
+     * @param singleTtsRequestDto 변환할 텍스트와 언어 정보를 담은 DTO
+     * @throws InterruptedException 대기 중 작업이 중단된 경우
+     * @throws CustomException TTS 생성 중 오류가 발생한 경우
      */
-    public String saveAudioToLocalFile(byte[] audioContents) throws IOException {
-        // 사용자 바탕화면 경로를 얻고, tts 폴더를 설정
-        String userHome = System.getProperty("user.home");
-        String desktopPath = userHome + "/Desktop"; // 바탕화면 경로
-        String ttsFolderPath = desktopPath + "/tts"; // tts 폴더 경로
-
-        // tts 폴더가 없으면 생성
-        File ttsFolder = new File(ttsFolderPath);
-        if (!ttsFolder.exists()) {
-            ttsFolder.mkdir(); // 폴더 생성
-        }
-
-        // 현재 시각을 파일 이름에 포함시켜 설정
-        DateTimeFormatter formatter = DateTimeFormatter.ofPattern("yyyyMMdd_HHmmss");
-        String currentDateTime = LocalDateTime.now().format(formatter);
-        String outputFileName = ttsFolderPath + "/output_" + currentDateTime + ".mp3"; // 현재 시각 포함
+    public void preSynthesizeSpeechAudio(SingleTtsRequestDto singleTtsRequestDto) throws InterruptedException {
+        TtsAudioSpec spec = toAudioSpec(singleTtsRequestDto, AudioFormat.MP3);
 
-        // MP3 파일로 저장
-        try (FileOutputStream out = new FileOutputStream(outputFileName)) {
-            out.write(audioContents);
-            System.out.println("Audio content written to file: " + outputFileName);
+        if (ttsAudioCache.contains(spec)) {
+            return;
         }
 
-        return outputFileName; // 저장된 파일 경로 반환
+        ttsPriorityGate.awaitBackgroundTurn();
+        ttsSingleFlight.execute(spec.cacheKey(), () -> synthesizeAndCache(spec));
     }
 
     /**
-     * 전달받은 텍스트와 언어 정보를 기반으로 Google Cloud TTS API를 호출하여 음성 데이터를 생성합니다.
+     * 여러 문장을 묶음 합성 요청으로 미리 합성하여 문장별로 캐시에 저장합니다.
      * <p>
-     * - 요청 언어가 ENGLISH인 경우 미국 영어 음성으로 변환됩니다.
-     * - 변환된 음성은 MP3 포맷의 바이트 배열로 반환됩니다.
+     * - 이미 캐시된 문장은 건너뛰고, 같은 음성의 문장끼리 요청 크기 제한까지 묶어 한 번에 합성합니다.
+     * - API 입력 제한보다 긴 문장은 묶지 않고 단독으로 합성합니다.
+     * - 사용자 요청이 API를 호출 중이면 묶음마다 끝날 때까지 기다린 뒤 호출합니다.
      *
-     * @param singleTtsRequestDto 변환할 텍스트와 언어 정보를 담은 DTO
-     * @return 생성된 음성의 바이트 배열
+     * @param singleTtsRequestDtos 변환할 텍스트와 언어 정보를 담은 DTO 목록
+     * @throws InterruptedException 대기 중 작업이 중단된 경우
      * @throws CustomException TTS 생성 중 오류가 발생한 경우
      */
-    public byte[] generateSpeechAudio(SingleTtsRequestDto singleTtsRequestDto) {
-        try {
-            VoiceLanguage voiceLanguage = null;
-            VoiceName voiceName = null;
+    public void preSynthesizeSpeechAudioBatch(List<SingleTtsRequestDto> singleTtsRequestDtos) throws InterruptedException {
+        // 같은 언어/음성/인코딩끼리 모음 (텍스트를 비운 spec을 음성 식별자로 사용)
+        Map<TtsAudioSpec, List<TtsAudioSpec>> specsByVoice = new LinkedHashMap<>();
+
+        for (SingleTtsRequestDto singleTtsRequestDto : singleTtsRequestDtos) {
+            TtsAudioSpec spec = toAudioSpec(singleTtsRequestDto, AudioFormat.MP3);
+
+            if (ttsAudioCache.contains(spec)) {
+                continue;
+            }
+
+            if (ttsTextSplitter.needsSplit(spec.text())) {
+                preSynthesizeSpeechAudio(singleTtsRequestDto);
+                continue;
+            }
 
-            if ("ENGLISH".equalsIgnoreCase(singleTtsRequestDto.language())) {
-                voiceLanguage = VoiceLanguage.ENGLISH_US;
-                voiceName = VoiceName.EN_US_NEURAL2_A;
+            List<TtsAudioSpec> specs = specsByVoice.computeIfAbsent(spec.withText(""), voice -> new ArrayList<>());
+            if (!specs.contains(spec)) {
+                specs.add(spec);
             }
+        }
+
+        for (List<TtsAudioSpec> specs : specsByVoice.values()) {
+            for (List<TtsAudioSpec> batch : ttsTextSplitter.packBatches(specs)) {
+                ttsPriorityGate.awaitBackgroundTurn();
+
+                List<byte[]> audios = synthesizeBatchWithinBulkhead(batch);
+                for (int i = 0; i < batch.size(); i++) {
+                    ttsAudioCache.put(batch.get(i), audios.get(i));
+                }
+            }
+        }
+    }
+
+    /**
+     * 요청 DTO의 언어 정보와 인코딩을 음성 설정으로 변환
+     * @param singleTtsRequestDto
+     * @param format
+     * @return
+     */
+    private TtsAudioSpec toAudioSpec(SingleTtsRequestDto singleTtsRequestDto, AudioFormat format) {
+        if ("ENGLISH".equalsIgnoreCase(singleTtsRequestDto.language())) {
+            return new TtsAudioSpec(singleTtsRequestDto.text(), VoiceLanguage.ENGLISH_US, VoiceName.EN_US_NEURAL2_A, format);
+        }
+
+        if ("KOREAN".equalsIgnoreCase(singleTtsRequestDto.language())) {
+            return new TtsAudioSpec(singleTtsRequestDto.text(), VoiceLanguage.KOREAN, VoiceName.KO_KR_STANDARD_A, format);
+        }
 
-            ByteString audioContent = convertTextToSpeechFromGoogleCloud(
-                    singleTtsRequestDto.text(),
-                    voiceLanguage,
-                    voiceName
-            );
+        throw new CustomException(ErrorCode.UNSUPPORTED_TTS_LANGUAGE);
+    }
 
-            return audioContent.toByteArray();
+    /**
+     * TTS 백엔드로 음성을 합성하고 캐시에 저장
+     * 동시 호출 수/글자 수 할당량을 넘으면 TTS_RATE_LIMITED로 즉시 실패
+     * @param spec
+     * @return
+     */
+    private byte[] synthesizeAndCache(TtsAudioSpec spec) {
+        // 직전 leader가 캐시에 저장한 직후 들어온 요청이면 다시 호출하지 않음
+        Optional<byte[]> cached = ttsAudioCache.peek(spec);
+        if (cached.isPresent()) {
+            return cached.get();
+        }
+
+        // 긴 텍스트는 조각별로 합성 (각 조각도 따로 캐시되므로 일부만 바뀐 텍스트는 바뀐 조각만 합성)
+        if (ttsTextSplitter.needsSplit(spec.text())) {
+            byte[] audio = synthesizeChunks(spec);
+            ttsAudioCache.put(spec, audio);
+
+            return audio;
+        }
+
+        try {
+            byte[] audio = synthesizeWithinBulkhead(spec);
+            ttsAudioCache.put(spec, audio);
+
+            return audio;
         } catch (IOException e) {
-            e.printStackTrace(); // 로그 남기기
+            log.error("TTS 생성 실패: {}", e.getMessage(), e);
             throw new CustomException(ErrorCode.TTS_GENERATION_FAILED);
         }
     }
 
+    /**
+     * 텍스트를 문장 경계에서 나누어 병렬로 합성한 뒤 순서대로 연결
+     * @param spec
+     * @return
+     */
+    private byte[] synthesizeChunks(TtsAudioSpec spec) {
+        List<TtsAudioSpec> chunkSpecs = ttsTextSplitter.split(spec.text(), Locale.forLanguageTag(spec.language().getCode()))
+                .stream()
+                .map(spec::withText)
+                .toList();
 
+        return ttsChunkedSynthesizer.synthesize(chunkSpecs,
+                chunkSpec -> ttsSingleFlight.execute(chunkSpec.cacheKey(), () -> synthesizeAndCache(chunkSpec)));
+    }
 
-}
+    /**
+     * 격벽(bulkhead) 안에서 기한/재시도 정책을 적용하여 TTS 백엔드 묶음 합성 호출
+     * @param batch
+     * @return
+     */
+    private List<byte[]> synthesizeBatchWithinBulkhead(List<TtsAudioSpec> batch) {
+        int characters = batch.stream().mapToInt(spec -> spec.text().length()).sum();
 
+        acquireBulkhead(characters);
+        try {
+            long upstreamStart = textToSpeechMetrics.start();
+            List<byte[]> audios = ttsCallPolicy.execute(characters, () -> textToSpeechProvider.synthesizeBatch(batch));
+            textToSpeechMetrics.recordPhase(TextToSpeechMetrics.PHASE_UPSTREAM, upstreamStart);
+
+            for (int i = 0; i < batch.size(); i++) {
+                textToSpeechMetrics.recordSynthesized(batch.get(i), audios.get(i));
+            }
+            return audios;
+        } catch (IOException e) {
+            textToSpeechMetrics.recordError(e);
+            log.error("TTS 묶음 생성 실패 ({}개 문장): {}", batch.size(), e.getMessage(), e);
+            throw new CustomException(ErrorCode.TTS_GENERATION_FAILED);
+        } finally {
+            ttsBulkhead.release();
+        }
+    }
+
+    /**
+     * 격벽(bulkhead) 안에서 기한/재시도 정책을 적용하여 TTS 백엔드 호출
+     * @param spec
+     * @return
+     * @throws IOException
+     */
+    private byte[] synthesizeWithinBulkhead(TtsAudioSpec spec) throws IOException {
+        int characters = spec.text().length();
+
+        acquireBulkhead(characters);
+        try {
+            long upstreamStart = textToSpeechMetrics.start();
+            byte[] audio = ttsCallPolicy.execute(characters, () -> textToSpeechProvider.synthesize(spec));
+            textToSpeechMetrics.recordPhase(TextToSpeechMetrics.PHASE_UPSTREAM, upstreamStart);
+
+            textToSpeechMetrics.recordSynthesized(spec, audio);
+            return audio;
+        } catch (IOException e) {
+            textToSpeechMetrics.recordError(e);
+            throw e;
+        } finally {
+            ttsBulkhead.release();
+        }
+    }
+
+    // 격벽 진입 실패(TTS_RATE_LIMITED)도 오류 지표에 반영
+    private void acquireBulkhead(int characters) {
+        try {
+            ttsBulkhead.acquire(characters);
+        } catch (CustomException e) {
+            textToSpeechMetrics.recordError(e);
+            throw e;
+        }
+    }
+
+}
@@ -1,41 +1,80 @@
 package com.example.integration.service;
 
+import com.example.integration.common.response.CustomException;
+import com.example.integration.common.response.ErrorCode;
+import com.example.integration.common.util.HashUtil;
 import com.example.integration.common.util.RedisUtil;
-import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Service;
 
-@RequiredArgsConstructor
+/**
+ * Jwt Refresh Token 저장소
+ * 토큰 원문 대신 SHA-256 다이제스트를 저장하고, 재발급 시 한 번의 스크립트 호출로 검증과 교체를 수행
+ * <p>
+ * - 직전에 교체된 토큰이 유예 기간(jwt.refresh-reuse-grace-seconds) 안에 다시 사용되면 토큰을 발급하지 않고 409로 응답합니다.
+ *   (여러 탭의 동시 재발급으로 로그아웃되지 않도록, 클라이언트는 먼저 받은 최신 토큰으로 다시 시도)
+ * - 유예 기간 확인에도 다이제스트만 보관하며, 토큰 원문은 Redis에 저장하지 않습니다.
+ * - 유예 기간이 지났거나 더 이전에 교체된 토큰이 사용되면 탈취로 보고 토큰 계열 전체를 폐기합니다.
+ */
 @Service
 public class TokenService {
+    private static final String REFRESH_TOKEN_PREFIX = "refresh_token:";
+    private static final String ROTATED_REFRESH_TOKEN_PREFIX = "refresh_token:rotated:";
+    private static final String LAST_ROTATION_PREFIX = "refresh_token:last_rotation:";
+
     private final RedisUtil redisUtil;
+    private final long reuseGraceSeconds;
+
+    public TokenService(RedisUtil redisUtil, @Value("${jwt.refresh-reuse-grace-seconds:10}") long reuseGraceSeconds) {
+        this.redisUtil = redisUtil;
+        this.reuseGraceSeconds = reuseGraceSeconds;
+    }
 
     /**
-     * Jwt Refresh Token을 Redis에 저장
+     * Jwt Refresh Token을 Redis에 저장 (로그인 시 새 토큰 계열 시작)
      * @param email
      * @param refreshToken
      * @param duration
      */
     public void saveRefreshTokenToRedis(String email, String refreshToken, long duration) {
-        String key = "refresh_token:" + email;
-
-        // refresh token을 Redis에 저장, 만료 시간도 설정
-        redisUtil.setDataExpire(key, refreshToken, duration);
+        // refresh token의 다이제스트를 Redis에 저장, 만료 시간도 설정
+        redisUtil.setDataExpire(REFRESH_TOKEN_PREFIX + email, HashUtil.sha256Hex(refreshToken), duration);
+        redisUtil.deleteData(ROTATED_REFRESH_TOKEN_PREFIX + email);
+        redisUtil.deleteData(LAST_ROTATION_PREFIX + email);
     }
 
     /**
-     * Jwt Refresh Token이 유효한지 확인
+     * Jwt Refresh Token 교체
+     * 저장된 토큰과 일치할 때만 새 토큰으로 교체하므로, 같은 토큰으로 동시에 재발급하면 하나만 성공
      * @param email
-     * @param refreshToken
-     * @return
+     * @param refreshToken    전달받은 refresh token
+     * @param newRefreshToken 새로 발급한 refresh token
+     * @param duration
+     * @throws CustomException 저장된 토큰과 다른 경우 (NOT_MATCHED_REFRESH_TOKEN),
+     *                         직전에 교체된 토큰이 유예 기간 안에 다시 사용된 경우 (REFRESH_TOKEN_ALREADY_ROTATED),
+     *                         그 밖에 이미 교체된 토큰이 다시 사용된 경우 토큰 계열 전체를 폐기 (REUSED_REFRESH_TOKEN)
      */
-    public boolean isRefreshTokenValid(String email, String refreshToken) {
-        String key = "refresh_token:" + email;
+    public void rotateRefreshToken(String email, String refreshToken, String newRefreshToken, long duration) {
+        long result = redisUtil.rotateData(
+                REFRESH_TOKEN_PREFIX + email,
+                ROTATED_REFRESH_TOKEN_PREFIX + email,
+                LAST_ROTATION_PREFIX + email,
+                HashUtil.sha256Hex(refreshToken),
+                HashUtil.sha256Hex(newRefreshToken),
+                duration,
+                reuseGraceSeconds
+        );
 
-        // Redis에서 해당 키의 값을 가져옴
-        String storedRefreshToken = redisUtil.getData(key);
-
-        // Redis에 저장된 refresh token 값이 null이 아니고, 입력된 refresh token과 동일한지 확인
-        return storedRefreshToken != null && storedRefreshToken.equals(refreshToken);
+        if (result == RedisUtil.ROTATED) {
+            return;
+        }
+        if (result == RedisUtil.REPLAYED) {
+            throw new CustomException(ErrorCode.REFRESH_TOKEN_ALREADY_ROTATED);
+        }
+        if (result == RedisUtil.REUSED) {
+            throw new CustomException(ErrorCode.REUSED_REFRESH_TOKEN);
+        }
+        throw new CustomException(ErrorCode.NOT_MATCHED_REFRESH_TOKEN);
     }
 
     /**
@@ -43,9 +82,9 @@ public class TokenService {
      * @param username
      */
     public void deleteRefreshToken(String username) {
-        String key = "refresh_token:" + username;
-
         // Redis에서 refresh token 삭제
-        redisUtil.deleteData(key);
+        redisUtil.deleteData(REFRESH_TOKEN_PREFIX + username);
+        redisUtil.deleteData(ROTATED_REFRESH_TOKEN_PREFIX + username);
+        redisUtil.deleteData(LAST_ROTATION_PREFIX + username);
     }
 }
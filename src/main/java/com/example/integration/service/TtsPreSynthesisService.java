@@ -0,0 +1,256 @@
+package com.example.integration.service;
+
+import com.example.integration.common.enums.tts.TtsJobState;
+import com.example.integration.dto.tts.SingleTtsRequestDto;
+import com.example.integration.dto.tts.TtsJobStatusDto;
+import com.example.integration.entity.Sentence;
+import com.example.integration.repository.SentenceRepository;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * 문장 세트의 음성을 백그라운드에서 미리 합성하는 서비스
+ * <p>
+ * - 문장 생성/수정, 공용 문장 세트 변경이 커밋되면 해당 문장의 합성 작업을 예약합니다.
+ * - 문장 세트 단위 예약은 세트의 문장들을 묶음 합성 요청으로 처리하여 API 호출 수를 줄입니다.
+ * - 제한된 크기의 작업 풀과 큐에서 실행되며, 같은 문장은 큐에 한 번만 들어갑니다.
+ * - 사용자 요청이 API를 호출 중이면 백그라운드 작업은 양보합니다.
+ * - 문장 세트에는 언어 정보가 없으므로, 클라이언트가 문장 재생에 요청하는 언어(tts.pre-synthesis.language)로 MP3 음성만 미리 합성합니다.
+ *   (내용으로 언어를 추측하면 클라이언트가 요청하지 않는 캐시 키를 합성하게 되므로 추측하지 않음, 비워 두면 사전 합성하지 않음)
+ *   (OGG_OPUS 요청과 다른 언어 요청은 처음 요청할 때 합성)
+ * - 끝난 작업의 상태는 job-ttl-ms 동안만 보관합니다.
+ */
+@Slf4j
+@Service
+public class TtsPreSynthesisService {
+
+    private final TextToSpeechService textToSpeechService;
+    private final SentenceRepository sentenceRepository;
+    private final ThreadPoolExecutor executor;
+    private final long jobTtlMillis;
+    // 사전 합성 음성 언어 (SingleTtsRequestDto.language와 같은 값, 비어 있으면 사전 합성 안 함)
+    private final String language;
+
+    // 큐에 대기 중인 문장 id (중복 예약 방지)
+    private final Set<Long> queuedSentenceIds = ConcurrentHashMap.newKeySet();
+    private final Map<Long, SentenceSetJob> jobs = new ConcurrentHashMap<>();
+
+    public TtsPreSynthesisService(
+            TextToSpeechService textToSpeechService,
+            SentenceRepository sentenceRepository,
+            @Value("${tts.pre-synthesis.workers:2}") int workers,
+            @Value("${tts.pre-synthesis.queue-capacity:1000}") int queueCapacity,
+            @Value("${tts.pre-synthesis.job-ttl-ms:3600000}") long jobTtlMillis,
+            @Value("${tts.pre-synthesis.language:ENGLISH}") String language
+    ) {
+        this.textToSpeechService = textToSpeechService;
+        this.sentenceRepository = sentenceRepository;
+        this.jobTtlMillis = jobTtlMillis;
+        this.language = language;
+
+        AtomicInteger threadNumber = new AtomicInteger();
+        this.executor = new ThreadPoolExecutor(workers, workers, 0L, TimeUnit.MILLISECONDS,
+                new ArrayBlockingQueue<>(queueCapacity),
+                runnable -> {
+                    Thread thread = new Thread(runnable, "tts-pre-synthesis-" + threadNumber.incrementAndGet());
+                    thread.setDaemon(true);
+                    return thread;
+                },
+                new ThreadPoolExecutor.AbortPolicy());
+    }
+
+    /**
+     * 문장 세트에 포함된 모든 문장의 합성 예약 (묶음 합성 작업 하나로 처리)
+     * @param sentenceSetId
+     */
+    public void enqueueSentenceSet(Long sentenceSetId) {
+        if (!isEnabled()) {
+            return;
+        }
+
+        // 이미 큐에 있는 문장은 제외
+        List<Long> sentenceIds = sentenceRepository.findIdsBySentenceSetId(sentenceSetId).stream()
+                .filter(queuedSentenceIds::add)
+                .toList();
+
+        if (sentenceIds.isEmpty()) {
+            return;
+        }
+
+        SentenceSetJob job = startJob(sentenceSetId, sentenceIds.size());
+
+        try {
+            executor.execute(() -> synthesizeBatch(job, sentenceIds));
+        } catch (RejectedExecutionException e) {
+            sentenceIds.forEach(queuedSentenceIds::remove);
+            job.fail(sentenceIds.size());
+            log.warn("TTS 사전 합성 큐가 가득 차 예약 실패 (sentenceSetId: {}, {}개 문장)", sentenceSetId, sentenceIds.size());
+        }
+    }
+
+    /**
+     * 문장 하나의 합성 예약 (이미 큐에 있으면 무시)
+     * @param sentenceSetId
+     * @param sentenceId
+     */
+    public void enqueueSentence(Long sentenceSetId, Long sentenceId) {
+        if (!isEnabled() || !queuedSentenceIds.add(sentenceId)) {
+            return;
+        }
+
+        SentenceSetJob job = startJob(sentenceSetId, 1);
+
+        try {
+            executor.execute(() -> synthesize(job, sentenceId));
+        } catch (RejectedExecutionException e) {
+            // 큐가 가득 찬 경우 이번 예약은 실패로 집계하고, 사용자가 요청할 때 합성
+            queuedSentenceIds.remove(sentenceId);
+            job.fail(1);
+            log.warn("TTS 사전 합성 큐가 가득 차 예약 실패 (sentenceSetId: {}, sentenceId: {})", sentenceSetId, sentenceId);
+        }
+    }
+
+    /**
+     * 문장 세트의 사전 합성 작업 상태 조회
+     * @param sentenceSetId
+     * @return
+     */
+    public TtsJobStatusDto getJobStatus(Long sentenceSetId) {
+        SentenceSetJob job = jobs.get(sentenceSetId);
+
+        if (job == null) {
+            return new TtsJobStatusDto(sentenceSetId, TtsJobState.IDLE, 0, 0, 0, 0);
+        }
+
+        return job.toDto(sentenceSetId);
+    }
+
+    // 이전 작업이 모두 끝났다면 새 작업으로 집계
+    // (예약 개수도 compute 안에서 더해야, 개수를 더하기 전의 작업이 끝난 것으로 보여 다른 예약에 교체되지 않음)
+    private SentenceSetJob startJob(Long sentenceSetId, int count) {
+        return jobs.compute(sentenceSetId, (id, current) -> {
+            SentenceSetJob job = current == null || current.isFinished() ? new SentenceSetJob() : current;
+            job.total.addAndGet(count);
+            return job;
+        });
+    }
+
+    /**
+     * 끝난 지 job-ttl-ms가 지난 작업 상태 제거
+     */
+    @Scheduled(fixedDelayString = "${tts.pre-synthesis.job-ttl-ms:3600000}")
+    public void evictFinishedJobs() {
+        evictFinishedJobs(System.currentTimeMillis());
+    }
+
+    void evictFinishedJobs(long nowMillis) {
+        // 값까지 같은 경우에만 제거되므로, 그 사이 새 작업으로 교체된 항목은 남음
+        jobs.entrySet().removeIf(entry -> entry.getValue().isFinished()
+                && nowMillis - entry.getValue().updatedAtMillis >= jobTtlMillis);
+    }
+
+    private boolean isEnabled() {
+        return language != null && !language.isBlank();
+    }
+
+    private void synthesizeBatch(SentenceSetJob job, List<Long> sentenceIds) {
+        sentenceIds.forEach(queuedSentenceIds::remove);
+
+        try {
+            // 예약 이후 삭제된 문장은 조회되지 않으므로 건너뜀
+            List<SingleTtsRequestDto> requests = sentenceRepository.findAllById(sentenceIds).stream()
+                    .map(sentence -> new SingleTtsRequestDto(language, sentence.getContent()))
+                    .toList();
+
+            textToSpeechService.preSynthesizeSpeechAudioBatch(requests);
+            job.complete(sentenceIds.size());
+        } catch (InterruptedException e) {
+            job.fail(sentenceIds.size());
+            Thread.currentThread().interrupt();
+        } catch (Exception e) {
+            job.fail(sentenceIds.size());
+            log.warn("TTS 묶음 사전 합성 실패 ({}개 문장): {}", sentenceIds.size(), e.getMessage());
+        }
+    }
+
+    private void synthesize(SentenceSetJob job, Long sentenceId) {
+        // 작업 시작 이후의 수정은 다시 예약될 수 있도록 먼저 제거
+        queuedSentenceIds.remove(sentenceId);
+
+        try {
+            Optional<Sentence> sentence = sentenceRepository.findById(sentenceId);
+
+            // 예약 이후 삭제된 문장은 건너뜀
+            if (sentence.isPresent()) {
+                textToSpeechService.preSynthesizeSpeechAudio(
+                        new SingleTtsRequestDto(language, sentence.get().getContent()));
+            }
+            job.complete(1);
+        } catch (InterruptedException e) {
+            job.fail(1);
+            Thread.currentThread().interrupt();
+        } catch (Exception e) {
+            job.fail(1);
+            log.warn("TTS 사전 합성 실패 (sentenceId: {}): {}", sentenceId, e.getMessage());
+        }
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        executor.shutdownNow();
+    }
+
+    private static class SentenceSetJob {
+        private final AtomicInteger total = new AtomicInteger();
+        private final AtomicInteger completed = new AtomicInteger();
+        private final AtomicInteger failed = new AtomicInteger();
+        // 마지막으로 완료/실패가 집계된 시각 (끝난 작업 제거 기준)
+        private volatile long updatedAtMillis = System.currentTimeMillis();
+
+        private void complete(int count) {
+            completed.addAndGet(count);
+            updatedAtMillis = System.currentTimeMillis();
+        }
+
+        private void fail(int count) {
+            failed.addAndGet(count);
+            updatedAtMillis = System.currentTimeMillis();
+        }
+
+        private boolean isFinished() {
+            return completed.get() + failed.get() >= total.get();
+        }
+
+        private TtsJobStatusDto toDto(Long sentenceSetId) {
+            int totalCount = total.get();
+            int completedCount = completed.get();
+            int failedCount = failed.get();
+            int pendingCount = Math.max(totalCount - completedCount - failedCount, 0);
+
+            TtsJobState state;
+            if (pendingCount > 0) {
+                state = TtsJobState.RUNNING;
+            } else if (failedCount > 0) {
+                state = TtsJobState.COMPLETED_WITH_ERRORS;
+            } else {
+                state = TtsJobState.COMPLETED;
+            }
+
+            return new TtsJobStatusDto(sentenceSetId, state, totalCount, completedCount, failedCount, pendingCount);
+        }
+    }
+}
@@ -1,35 +1,74 @@
 package com.example.integration.service;
 
+import com.example.integration.common.config.CurrentUserHolder;
+import com.example.integration.common.config.PasswordHasher;
 import com.example.integration.common.response.CustomException;
 import com.example.integration.common.response.ErrorCode;
 import com.example.integration.common.config.jwt.JWTUtil;
 import com.example.integration.common.config.jwt.TokenStatus;
-import com.example.integration.common.util.SecurityUtil;
 import com.example.integration.dto.user.*;
 import com.example.integration.entity.RoleType;
 import com.example.integration.entity.User;
 import com.example.integration.repository.UserRepository;
-import lombok.RequiredArgsConstructor;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import org.springframework.security.authentication.AccountStatusUserDetailsChecker;
 import org.springframework.security.authentication.BadCredentialsException;
 import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
-import org.springframework.security.config.annotation.authentication.builders.AuthenticationManagerBuilder;
 import org.springframework.security.core.Authentication;
 import org.springframework.security.core.context.SecurityContextHolder;
 import org.springframework.security.core.userdetails.UserDetails;
 import org.springframework.security.core.userdetails.UserDetailsService;
 import org.springframework.security.core.userdetails.UsernameNotFoundException;
-import org.springframework.security.crypto.password.PasswordEncoder;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
 import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
 
-@RequiredArgsConstructor
 @Service
 public class UserService implements UserDetailsService {
     private final UserRepository userRepository;
+    private final CurrentUserHolder currentUserHolder;
     private final JWTUtil jwtUtil;
-    private final PasswordEncoder passwordEncoder;
+    private final PasswordHasher passwordHasher;
     private final TokenService tokenService;
-    private final AuthenticationManagerBuilder authenticationManagerBuilder;
+    // 로그인 시 사용자 조회 전용 (비밀번호 확인 동안 커넥션을 잡지 않도록 조회만 짧게 실행)
+    private final TransactionTemplate readOnlyTransaction;
+
+    private final AccountStatusUserDetailsChecker accountStatusChecker = new AccountStatusUserDetailsChecker();
+
+    // 로그인 결과별 처리 시간 (auth.login{result})
+    private final Map<String, Timer> loginTimers;
+
+    public UserService(
+            UserRepository userRepository,
+            CurrentUserHolder currentUserHolder,
+            JWTUtil jwtUtil,
+            PasswordHasher passwordHasher,
+            TokenService tokenService,
+            PlatformTransactionManager transactionManager,
+            MeterRegistry meterRegistry
+    ) {
+        this.userRepository = userRepository;
+        this.currentUserHolder = currentUserHolder;
+        this.jwtUtil = jwtUtil;
+        this.passwordHasher = passwordHasher;
+        this.tokenService = tokenService;
+
+        this.readOnlyTransaction = new TransactionTemplate(transactionManager);
+        this.readOnlyTransaction.setReadOnly(true);
+
+        this.loginTimers = Stream.of("success", "bad_credentials", "rejected", "error")
+                .collect(Collectors.toUnmodifiableMap(result -> result, result -> Timer.builder("auth.login")
+                        .tag("result", result)
+                        .publishPercentiles(0.5, 0.95, 0.99)
+                        .register(meterRegistry)));
+    }
 
     @Override
     public UserDetails loadUserByUsername(String username) throws UsernameNotFoundException {
@@ -39,14 +78,20 @@ public class UserService implements UserDetailsService {
     }
 
     /**
-     * 현재 사용자 조회
+     * 현재 사용자 조회 (요청당 최대 한 번 조회)
      * @return User 객체
      */
     @Transactional(readOnly = true)
     public User currentUser() {
-        return userRepository.findByEmail(SecurityUtil.getCurrentMember()).orElseThrow(
-                () -> new CustomException(ErrorCode.NOT_FOUND_USER)
-        );
+        return currentUserHolder.get();
+    }
+
+    /**
+     * 현재 사용자 ID 조회 (무상태 인증 모드에서는 조회 없이 토큰 클레임 사용)
+     * @return 사용자 ID
+     */
+    public Long currentUserId() {
+        return currentUserHolder.getId();
     }
 
     /**
@@ -60,7 +105,7 @@ public class UserService implements UserDetailsService {
 
         User user = User.builder()
                 .email(userRegisterDto.email())
-                .password(passwordEncoder.encode(userRegisterDto.password()))
+                .password(passwordHasher.encode(userRegisterDto.password()))
                 .roleType(RoleType.NOBODY)
                 .enabled(true)
                 .build();
@@ -81,24 +126,28 @@ public class UserService implements UserDetailsService {
 
     /**
      * 사용자 로그인
+     * 사용자는 한 번만 조회하고, 비밀번호 확인은 해시 전용 작업 풀에서 수행
+     * 조회만 짧은 읽기 전용 트랜잭션에서 실행하고, 비밀번호 확인(수백 ms)과 토큰 저장(Redis)은 트랜잭션 밖에서 수행
+     * (로그인이 몰려도 해시 작업을 기다리는 동안 DB 커넥션을 잡고 있지 않도록)
      * @param loginForm
      * @return
      */
-    @Transactional
     public UserInfoAndTokenDto loginUser(UserLoginForm loginForm) {
+        long startNanos = System.nanoTime();
+        String result = "error";
         try {
             // 사용자 이름으로 로드
-            loadUserByUsername(loginForm.getUsername());
+            User user = readOnlyTransaction.execute(status -> (User) loadUserByUsername(loginForm.getUsername()));
 
-            UsernamePasswordAuthenticationToken authenticationToken = new UsernamePasswordAuthenticationToken(loginForm.getUsername(), loginForm.getPassword());
+            // 계정 상태 확인 후 비밀번호 검증 (AuthenticationManager와 같은 순서)
+            accountStatusChecker.check(user);
+            if (!passwordHasher.matches(loginForm.getPassword(), user.getPassword())) {
+                throw new BadCredentialsException("Bad credentials");
+            }
 
-            // 인증 시도
-            Authentication authentication = authenticationManagerBuilder.getObject().authenticate(authenticationToken);
+            Authentication authentication = new UsernamePasswordAuthenticationToken(user, null, user.getAuthorities());
             SecurityContextHolder.getContext().setAuthentication(authentication);
 
-            // 인증된 사용자 정보 가져오기
-            User user = (User) authentication.getPrincipal();
-
             // 액세스 토큰과 리프레시 토큰 생성
             String accessToken = jwtUtil.makeAccessToken(user);
             String refreshToken = jwtUtil.makeRefreshToken(user);
@@ -111,11 +160,22 @@ public class UserService implements UserDetailsService {
             boolean isAdmin = user.getRoleType().equals(RoleType.ADMIN);
             UserInfoDto userInfoDto = new UserInfoDto(user.getId(), user.getEmail(), user.getUsername(), user.getPassword(), user.isEnabled(), isAdmin);
 
+            result = "success";
             return new UserInfoAndTokenDto(userInfoDto, tokenDto);
         } catch (BadCredentialsException e) {
+            result = "bad_credentials";
             throw new CustomException(ErrorCode.INVALID_PASSWORD);
+        } catch (CustomException e) {
+            // 해시 작업 풀이 가득 찬 경우는 그대로 전달 (429)
+            if (e.getErrorCode() == ErrorCode.PASSWORD_HASHING_BUSY) {
+                result = "rejected";
+                throw e;
+            }
+            throw new CustomException(ErrorCode.LOGIN_ERROR);
         } catch (Exception e) {
             throw new CustomException(ErrorCode.LOGIN_ERROR);
+        } finally {
+            loginTimers.get(result).record(System.nanoTime() - startNanos, TimeUnit.NANOSECONDS);
         }
     }
 
@@ -161,14 +221,11 @@ public class UserService implements UserDetailsService {
 
         User user = (User) loadUserByUsername(verifyResult.username());
 
-        // 전달받은 refresh 토큰이 저장된 토큰과 일치하지 않음
-        if (!tokenService.isRefreshTokenValid(user.getUsername(), refreshToken)) {
-            throw new CustomException(ErrorCode.NOT_MATCHED_REFRESH_TOKEN);
-        }
-
         String reissuedAccessToken = jwtUtil.makeAccessToken(user);
         String reissuedRefreshToken = jwtUtil.makeRefreshToken(user);
-        tokenService.saveRefreshTokenToRedis(user.getEmail(), reissuedRefreshToken, jwtUtil.getRefreshTime());
+
+        // 저장된 토큰과 일치하는 경우에만 새 토큰으로 교체 (유예 기간 안의 재사용은 409, 불일치/재사용 시 예외)
+        tokenService.rotateRefreshToken(user.getEmail(), refreshToken, reissuedRefreshToken, jwtUtil.getRefreshTime());
 
         return new TokenDto(reissuedAccessToken, reissuedRefreshToken);
     }
@@ -182,12 +239,12 @@ public class UserService implements UserDetailsService {
         User user = currentUser();
 
         // 현재 비밀번호 검증
-        if (!passwordEncoder.matches(passwordChangeDto.currentPassword(), user.getPassword())) {
+        if (!passwordHasher.matches(passwordChangeDto.currentPassword(), user.getPassword())) {
             throw new CustomException(ErrorCode.INVALID_PASSWORD);  // 현재 비밀번호가 틀린 경우 예외 처리
         }
 
         // 새 비밀번호 암호화
-        String encodedNewPassword = passwordEncoder.encode(passwordChangeDto.newPassword());
+        String encodedNewPassword = passwordHasher.encode(passwordChangeDto.newPassword());
 
         // 새로운 비밀번호로 업데이트
         User updatedUser = user.toBuilder()
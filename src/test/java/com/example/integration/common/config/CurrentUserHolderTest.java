@@ -0,0 +1,149 @@
+package com.example.integration.common.config;
+
+import com.example.integration.common.config.jwt.JwtPrincipal;
+import com.example.integration.dto.sentenceSet.SentenceSetRequestDto;
+import com.example.integration.entity.RoleType;
+import com.example.integration.entity.User;
+import com.example.integration.service.SentenceSetService;
+import com.example.integration.support.SqlCapture;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.config.CustomScopeConfigurer;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.autoconfigure.orm.jpa.TestEntityManager;
+import org.springframework.boot.test.context.TestConfiguration;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Import;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.web.context.WebApplicationContext;
+import org.springframework.web.context.request.RequestContextHolder;
+import org.springframework.web.context.request.RequestScope;
+import org.springframework.web.context.request.ServletRequestAttributes;
+
+import java.time.Instant;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 요청마다 사용자 조회가 최대 한 번인지 실행된 SQL로 확인
+ */
+@DataJpaTest
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+@ActiveProfiles("test")
+@Import({CurrentUserHolder.class, SentenceSetService.class, CurrentUserHolderTest.RequestScopeConfig.class})
+class CurrentUserHolderTest {
+
+    // JPA 테스트 컨텍스트에는 request 스코프가 없으므로 등록
+    @TestConfiguration
+    static class RequestScopeConfig {
+        @Bean
+        static CustomScopeConfigurer requestScope() {
+            CustomScopeConfigurer configurer = new CustomScopeConfigurer();
+            configurer.addScope(WebApplicationContext.SCOPE_REQUEST, new RequestScope());
+            return configurer;
+        }
+    }
+
+    @Autowired
+    private TestEntityManager entityManager;
+
+    @Autowired
+    private SentenceSetService sentenceSetService;
+
+    @Autowired
+    private CurrentUserHolder currentUserHolder;
+
+    private User user;
+
+    @BeforeEach
+    void setUp() {
+        user = entityManager.persist(User.builder()
+                .email("a@test.com")
+                .password("password")
+                .roleType(RoleType.USER)
+                .enabled(true)
+                .build());
+        entityManager.flush();
+        entityManager.clear();
+
+        startRequest();
+        SqlCapture.clear();
+    }
+
+    @AfterEach
+    void tearDown() {
+        endRequest();
+        SecurityContextHolder.clearContext();
+    }
+
+    @Test
+    void statelessRequestLooksUpUserOnce() {
+        authenticate(new JwtPrincipal(user.getId(), user.getEmail(), RoleType.USER, Instant.now().getEpochSecond()));
+
+        sentenceSetService.createSentenceSet(new SentenceSetRequestDto("first"));
+        sentenceSetService.createSentenceSet(new SentenceSetRequestDto("second"));
+
+        assertThat(sentenceSetService.getSentenceSetByUser(0, 10, null).sentenceSetList()).hasSize(2);
+        assertThat(SqlCapture.selectsFrom("user")).isEqualTo(1);
+    }
+
+    @Test
+    void requestNeedingOnlyIdDoesNotLookUpUser() {
+        authenticate(new JwtPrincipal(user.getId(), user.getEmail(), RoleType.USER, Instant.now().getEpochSecond()));
+
+        sentenceSetService.getSentenceSetByUser(0, 10, null);
+
+        assertThat(SqlCapture.selectsFrom("user")).isZero();
+    }
+
+    @Test
+    void eachRequestLooksUpUserAgain() {
+        authenticate(new JwtPrincipal(user.getId(), user.getEmail(), RoleType.USER, Instant.now().getEpochSecond()));
+
+        currentUserHolder.get();
+        currentUserHolder.get();
+        endRequest();
+        entityManager.clear();
+
+        startRequest();
+        currentUserHolder.get();
+
+        assertThat(SqlCapture.selectsFrom("user")).isEqualTo(2);
+    }
+
+    @Test
+    void userLoadedByFilterIsReused() {
+        // 기본 모드에서는 JWTCheckFilter가 조회한 User가 인증 주체
+        User authenticatedUser = entityManager.find(User.class, user.getId());
+        authenticate(authenticatedUser);
+        SqlCapture.clear();
+
+        sentenceSetService.createSentenceSet(new SentenceSetRequestDto("first"));
+
+        assertThat(currentUserHolder.get()).isSameAs(authenticatedUser);
+        assertThat(SqlCapture.selectsFrom("user")).isZero();
+    }
+
+    private static void authenticate(Object principal) {
+        SecurityContextHolder.getContext().setAuthentication(
+                new UsernamePasswordAuthenticationToken(principal, null, List.of()));
+    }
+
+    private static void startRequest() {
+        RequestContextHolder.setRequestAttributes(new ServletRequestAttributes(new MockHttpServletRequest()));
+    }
+
+    private static void endRequest() {
+        if (RequestContextHolder.getRequestAttributes() instanceof ServletRequestAttributes attributes) {
+            attributes.requestCompleted();
+        }
+        RequestContextHolder.resetRequestAttributes();
+    }
+}
@@ -0,0 +1,110 @@
+package com.example.integration.common.config.event;
+
+import com.example.integration.common.util.DateUtil;
+import com.example.integration.entity.RoleType;
+import com.example.integration.entity.SentenceSet;
+import com.example.integration.entity.User;
+import com.example.integration.repository.SentenceSetRepository;
+import com.example.integration.support.SqlCapture;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.autoconfigure.orm.jpa.TestEntityManager;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.time.LocalDate;
+import java.util.Locale;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 조회 날짜 갱신, 제목 수정과 문장 추가가 겹쳐도 SQL로 증감한 문장 개수가 유지되는지 확인
+ */
+@DataJpaTest
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+@ActiveProfiles("test")
+class SentenceSetViewedEventListenerTest {
+
+    @Autowired
+    private TestEntityManager entityManager;
+
+    @Autowired
+    private SentenceSetRepository sentenceSetRepository;
+
+    private SentenceSetViewedEventListener listener;
+    private Long sentenceSetId;
+
+    @BeforeEach
+    void setUp() {
+        // @Async 프록시 없이 같은 스레드에서 실행
+        listener = new SentenceSetViewedEventListener(sentenceSetRepository);
+
+        User user = entityManager.persist(User.builder()
+                .email("a@test.com")
+                .password("password")
+                .roleType(RoleType.USER)
+                .enabled(true)
+                .build());
+        SentenceSet sentenceSet = SentenceSet.builder()
+                .title("title")
+                .isPublic(false)
+                .user(user)
+                .build();
+        sentenceSet.updateLastViewedDate(LocalDate.of(2020, 1, 1));
+        sentenceSetId = entityManager.persist(sentenceSet).getId();
+
+        entityManager.flush();
+        entityManager.clear();
+    }
+
+    @Test
+    void viewDoesNotOverwriteCountsChangedMeanwhile() {
+        // 조회 이벤트 처리 직전에 문장 추가
+        sentenceSetRepository.updateSentenceCounts(sentenceSetId, 1, 1, 0);
+        SqlCapture.clear();
+
+        listener.handleSentenceSetViewedEvent(new SentenceSetViewedEvent(sentenceSetId));
+
+        // 조회 날짜만 UPDATE하고, 문장 세트를 다시 읽지 않음
+        assertThat(SqlCapture.selectsFrom("sentence_set")).isZero();
+        assertThat(SqlCapture.statements())
+                .filteredOn(sql -> sql.toLowerCase(Locale.ROOT).startsWith("update"))
+                .singleElement()
+                .satisfies(sql -> assertThat(sql.toLowerCase(Locale.ROOT))
+                        .contains("last_viewed_date")
+                        .doesNotContain("sentence_count"));
+
+        SentenceSet reloaded = reload();
+        assertThat(reloaded.getLastViewedDate()).isEqualTo(DateUtil.getLastViewedDate());
+        assertThat(reloaded.getSentenceCount()).isEqualTo(1);
+        assertThat(reloaded.getInProgressCount()).isEqualTo(1);
+    }
+
+    @Test
+    void titleUpdateDoesNotOverwriteCountsChangedMeanwhile() {
+        // 제목 수정 요청이 읽은 엔티티 (개수 0)
+        SentenceSet sentenceSet = sentenceSetRepository.findById(sentenceSetId).orElseThrow();
+
+        // 그 사이 문장 두 개 추가, 하나 학습 완료
+        sentenceSetRepository.updateSentenceCounts(sentenceSetId, 1, 1, 0);
+        sentenceSetRepository.updateSentenceCounts(sentenceSetId, 1, 1, 0);
+        sentenceSetRepository.updateSentenceCounts(sentenceSetId, 0, -1, 1);
+
+        sentenceSet.updateSentenceSet("new title");
+        sentenceSetRepository.save(sentenceSet);
+        entityManager.flush();
+
+        SentenceSet reloaded = reload();
+        assertThat(reloaded.getTitle()).isEqualTo("new title");
+        assertThat(reloaded.getSentenceCount()).isEqualTo(2);
+        assertThat(reloaded.getInProgressCount()).isEqualTo(1);
+        assertThat(reloaded.getCompletedCount()).isEqualTo(1);
+    }
+
+    private SentenceSet reload() {
+        entityManager.clear();
+        return sentenceSetRepository.findById(sentenceSetId).orElseThrow();
+    }
+}
@@ -0,0 +1,168 @@
+package com.example.integration.common.config.jwt;
+
+import com.auth0.jwt.JWT;
+import com.auth0.jwt.algorithms.Algorithm;
+import com.example.integration.dto.user.VerifyResult;
+import com.example.integration.entity.RoleType;
+import org.junit.jupiter.api.Test;
+
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class JWTUtilTest {
+
+    private static final String SECRET = "test-secret";
+
+    @Test
+    void verifiedTokenIsServedFromCacheWithClaims() {
+        JWTUtil jwtUtil = new JWTUtil(SECRET, 600, 3600, 10);
+        String token = accessToken(1L, "a@test.com", Instant.now().getEpochSecond() + 600);
+
+        VerifyResult first = jwtUtil.verify(token);
+        VerifyResult second = jwtUtil.verify(token);
+
+        assertThat(first.status()).isEqualTo(TokenStatus.SUCCESS);
+        assertThat(second.status()).isEqualTo(TokenStatus.SUCCESS);
+        assertThat(second.principal()).isEqualTo(first.principal());
+        assertThat(second.principal().id()).isEqualTo(1L);
+        assertThat(second.principal().roleType()).isEqualTo(RoleType.USER);
+        assertThat(jwtUtil.cachedTokenCount()).isEqualTo(1);
+    }
+
+    @Test
+    void cachedTokenIsRejectedAfterExpiry() throws InterruptedException {
+        JWTUtil jwtUtil = new JWTUtil(SECRET, 600, 3600, 10);
+        String token = accessToken(1L, "a@test.com", Instant.now().getEpochSecond() + 2);
+
+        assertThat(jwtUtil.verify(token).status()).isEqualTo(TokenStatus.SUCCESS);
+        Thread.sleep(3100);
+
+        VerifyResult expired = jwtUtil.verify(token);
+        assertThat(expired.status()).isEqualTo(TokenStatus.EXPIRED);
+        assertThat(expired.username()).isEqualTo("a@test.com");
+        assertThat(jwtUtil.cachedTokenCount()).isZero();
+    }
+
+    @Test
+    void expiredTokenIsNotCached() {
+        JWTUtil jwtUtil = new JWTUtil(SECRET, 600, 3600, 10);
+        String token = accessToken(1L, "a@test.com", Instant.now().getEpochSecond() - 10);
+
+        assertThat(jwtUtil.verify(token).status()).isEqualTo(TokenStatus.EXPIRED);
+        assertThat(jwtUtil.cachedTokenCount()).isZero();
+    }
+
+    @Test
+    void tokenSignedWithOtherSecretIsInvalid() {
+        JWTUtil jwtUtil = new JWTUtil(SECRET, 600, 3600, 10);
+        String token = JWT.create()
+                .withSubject("a@test.com")
+                .withClaim("exp", Instant.now().getEpochSecond() + 600)
+                .sign(Algorithm.HMAC256("other-secret"));
+
+        assertThat(jwtUtil.verify(token).status()).isEqualTo(TokenStatus.INVALID);
+        assertThat(jwtUtil.cachedTokenCount()).isZero();
+    }
+
+    @Test
+    void cacheDoesNotGrowPastConfiguredSize() {
+        JWTUtil jwtUtil = new JWTUtil(SECRET, 600, 3600, 3);
+        long exp = Instant.now().getEpochSecond() + 600;
+
+        for (long id = 1; id <= 10; id++) {
+            String token = accessToken(id, "user" + id + "@test.com", exp);
+            assertThat(jwtUtil.verify(token).status()).isEqualTo(TokenStatus.SUCCESS);
+        }
+
+        assertThat(jwtUtil.cachedTokenCount()).isEqualTo(3);
+    }
+
+    @Test
+    void newestTokensReplaceOldestWhenCacheIsFull() {
+        JWTUtil jwtUtil = new JWTUtil(SECRET, 600, 3600, 2);
+        long exp = Instant.now().getEpochSecond() + 600;
+        String first = accessToken(1L, "a@test.com", exp);
+        String second = accessToken(2L, "b@test.com", exp);
+        String third = accessToken(3L, "c@test.com", exp);
+
+        jwtUtil.verify(first);
+        jwtUtil.verify(second);
+        jwtUtil.verify(third);
+
+        // 가득 차도 새 토큰은 기록되고, 가장 먼저 기록한 토큰이 빠짐
+        assertThat(jwtUtil.isCached(first)).isFalse();
+        assertThat(jwtUtil.isCached(second)).isTrue();
+        assertThat(jwtUtil.isCached(third)).isTrue();
+    }
+
+    @Test
+    void expiredEntriesDoNotKeepNewTokensOutOfFullCache() throws InterruptedException {
+        JWTUtil jwtUtil = new JWTUtil(SECRET, 600, 3600, 2);
+        long now = Instant.now().getEpochSecond();
+        String expiring = accessToken(1L, "a@test.com", now + 2);
+        jwtUtil.verify(expiring);
+        jwtUtil.verify(accessToken(2L, "b@test.com", now + 2));
+        Thread.sleep(3100);
+
+        // 만료로 먼저 제거된 항목이 순서 큐에 남아 있어도 크기를 넘지 않음
+        assertThat(jwtUtil.verify(expiring).status()).isEqualTo(TokenStatus.EXPIRED);
+        String fresh = accessToken(3L, "c@test.com", now + 600);
+        jwtUtil.verify(fresh);
+        jwtUtil.verify(accessToken(4L, "d@test.com", now + 600));
+
+        assertThat(jwtUtil.isCached(fresh)).isTrue();
+        assertThat(jwtUtil.cachedTokenCount()).isEqualTo(2);
+    }
+
+    @Test
+    void missOnFullCacheCostsTheSameRegardlessOfCacheSize() {
+        // 가득 찬 캐시에 새 토큰을 기록하는 비용 비교 (이전 구현은 매번 전체 항목을 훑어 캐시 크기에 비례)
+        long smallCacheNanos = measureMissesOnFullCache(100);
+        long largeCacheNanos = measureMissesOnFullCache(20_000);
+
+        System.out.printf("full-cache miss: size=100 %d ns/op, size=20000 %d ns/op%n",
+                smallCacheNanos, largeCacheNanos);
+        // 크기가 200배여도 검증 한 번의 비용은 비슷해야 함 (전체를 훑으면 수십 배 이상 차이)
+        assertThat(largeCacheNanos).isLessThan(smallCacheNanos * 5);
+    }
+
+    private static long measureMissesOnFullCache(int cacheSize) {
+        JWTUtil jwtUtil = new JWTUtil(SECRET, 600, 3600, cacheSize);
+        long exp = Instant.now().getEpochSecond() + 600;
+        for (long id = 0; id < cacheSize; id++) {
+            jwtUtil.verify(accessToken(id, "fill" + id + "@test.com", exp));
+        }
+
+        int misses = 2_000;
+        List<String> tokens = new ArrayList<>(misses * 2);
+        for (long id = 0; id < misses * 2; id++) {
+            tokens.add(accessToken(id, "miss" + cacheSize + "-" + id + "@test.com", exp));
+        }
+
+        // 앞의 절반은 JIT 예열용
+        for (int i = 0; i < misses; i++) {
+            jwtUtil.verify(tokens.get(i));
+        }
+        long start = System.nanoTime();
+        for (int i = misses; i < misses * 2; i++) {
+            jwtUtil.verify(tokens.get(i));
+        }
+        long elapsed = System.nanoTime() - start;
+
+        assertThat(jwtUtil.cachedTokenCount()).isEqualTo(cacheSize);
+        return elapsed / misses;
+    }
+
+    private static String accessToken(long userId, String email, long expiresAtEpochSecond) {
+        return JWT.create()
+                .withSubject(email)
+                .withClaim("uid", userId)
+                .withClaim("role", RoleType.USER.name())
+                .withClaim("iat", Instant.now().getEpochSecond())
+                .withClaim("exp", expiresAtEpochSecond)
+                .sign(Algorithm.HMAC256(SECRET));
+    }
+}
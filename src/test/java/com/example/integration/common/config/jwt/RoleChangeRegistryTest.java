@@ -0,0 +1,91 @@
+package com.example.integration.common.config.jwt;
+
+import com.example.integration.common.util.RedisUtil;
+import com.example.integration.entity.RoleType;
+import org.junit.jupiter.api.Test;
+
+import java.time.Instant;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+class RoleChangeRegistryTest {
+
+    private final RedisUtil redisUtil = mock(RedisUtil.class);
+    private final RoleChangeRegistry roleChangeRegistry = new RoleChangeRegistry(redisUtil, 1800, 5);
+
+    @Test
+    void changeIsKeptForAccessTokenLifetime() {
+        roleChangeRegistry.markChanged("a@test.com");
+
+        verify(redisUtil).setDataExpire(eq("role_changed_at:a@test.com"), anyString(), eq(1800L));
+    }
+
+    @Test
+    void tokenIssuedBeforeChangeIsStale() {
+        long now = Instant.now().getEpochSecond();
+        when(redisUtil.getData("role_changed_at:a@test.com")).thenReturn(String.valueOf(now));
+
+        assertThat(roleChangeRegistry.isIssuedBeforeChange(principal(now - 60))).isTrue();
+        // 같은 초에 발급된 토큰은 변경 전인지 알 수 없으므로 DB에서 확인
+        assertThat(roleChangeRegistry.isIssuedBeforeChange(principal(now))).isTrue();
+        assertThat(roleChangeRegistry.isIssuedBeforeChange(principal(now + 1))).isFalse();
+    }
+
+    @Test
+    void tokenOfUserWithoutChangeIsTrusted() {
+        assertThat(roleChangeRegistry.isIssuedBeforeChange(principal(Instant.now().getEpochSecond()))).isFalse();
+    }
+
+    @Test
+    void redisFailureFallsBackToDatabase() {
+        when(redisUtil.getData(anyString())).thenThrow(new IllegalStateException("redis down"));
+
+        assertThat(roleChangeRegistry.isIssuedBeforeChange(principal(Instant.now().getEpochSecond()))).isTrue();
+        // 장애 중에도 보관 기간 동안은 Redis를 다시 조회하지 않음
+        assertThat(roleChangeRegistry.isIssuedBeforeChange(principal(Instant.now().getEpochSecond() + 60))).isTrue();
+        verify(redisUtil, times(1)).getData("role_changed_at:a@test.com");
+    }
+
+    @Test
+    void lookupIsCachedLocallyForConfiguredSeconds() {
+        long now = Instant.now().getEpochSecond();
+        for (int i = 0; i < 100; i++) {
+            assertThat(roleChangeRegistry.isIssuedBeforeChange(principal(now))).isFalse();
+        }
+
+        // 요청마다가 아니라 보관 기간마다 한 번만 Redis 조회
+        verify(redisUtil, times(1)).getData("role_changed_at:a@test.com");
+    }
+
+    @Test
+    void localChangeIsVisibleImmediately() {
+        long now = Instant.now().getEpochSecond();
+        assertThat(roleChangeRegistry.isIssuedBeforeChange(principal(now - 60))).isFalse();
+
+        roleChangeRegistry.markChanged("a@test.com");
+
+        // 보관 중인 조회 결과가 있어도 이 인스턴스에서의 변경은 바로 반영
+        assertThat(roleChangeRegistry.isIssuedBeforeChange(principal(now - 60))).isTrue();
+    }
+
+    @Test
+    void cachingCanBeDisabled() {
+        RoleChangeRegistry uncached = new RoleChangeRegistry(redisUtil, 1800, 0);
+        long now = Instant.now().getEpochSecond();
+
+        uncached.isIssuedBeforeChange(principal(now));
+        uncached.isIssuedBeforeChange(principal(now));
+
+        verify(redisUtil, times(2)).getData("role_changed_at:a@test.com");
+    }
+
+    private static JwtPrincipal principal(long issuedAt) {
+        return new JwtPrincipal(1L, "a@test.com", RoleType.NOBODY, issuedAt);
+    }
+}
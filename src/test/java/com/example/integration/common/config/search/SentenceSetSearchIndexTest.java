@@ -0,0 +1,136 @@
+package com.example.integration.common.config.search;
+
+import com.example.integration.dto.sentence.SentenceSearchItemDto;
+import com.example.integration.dto.sentenceSet.SentenceSetSearchResultDto;
+import org.junit.jupiter.api.Test;
+
+import java.time.LocalDate;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class SentenceSetSearchIndexTest {
+
+    private static final double DEFAULT_MIN_MATCH_RATIO = 0.5;
+    private static final LocalDate DATE = LocalDate.of(2024, 1, 1);
+
+    private final SentenceSetSearchIndex index = new SentenceSetSearchIndex();
+
+    @Test
+    void titleMatchRanksAboveSentenceMatch() {
+        index.putSentenceSet(1L, "daily talk", DATE, List.of(sentence(1L, 10L, "Where is the airport?", "공항이 어디예요?")));
+        index.putSentenceSet(2L, "airport", DATE, List.of(sentence(2L, 20L, "Check in here.", "여기서 체크인하세요.")));
+        index.putSentenceSet(3L, "cooking", DATE, List.of(sentence(3L, 30L, "Boil the water.", "물을 끓이세요.")));
+
+        assertThat(ids(index.search("airport", 0, 10, DEFAULT_MIN_MATCH_RATIO))).containsExactly(2L, 1L);
+    }
+
+    @Test
+    void moreFrequentTermRanksHigher() {
+        index.putSentenceSet(1L, "travel", DATE, List.of(
+                sentence(1L, 10L, "The airport is big.", null)));
+        index.putSentenceSet(2L, "travel", DATE, List.of(
+                sentence(2L, 20L, "The airport is big.", null),
+                sentence(2L, 21L, "Take a bus to the airport.", null)));
+        index.putSentenceSet(3L, "cooking", DATE, List.of(sentence(3L, 30L, "Boil the water.", null)));
+
+        List<SentenceSetSearchResultDto> results = index.search("airport", 0, 10, DEFAULT_MIN_MATCH_RATIO);
+
+        assertThat(ids(results)).containsExactly(2L, 1L);
+        assertThat(results.get(0).score()).isGreaterThan(results.get(1).score());
+    }
+
+    @Test
+    void equalScoresAreOrderedByNewestFirst() {
+        index.putSentenceSet(1L, "airport", DATE, List.of());
+        index.putSentenceSet(2L, "airport", DATE.plusDays(1), List.of());
+        index.putSentenceSet(3L, "airport", DATE, List.of());
+
+        assertThat(ids(index.search("airport", 0, 10, DEFAULT_MIN_MATCH_RATIO))).containsExactly(2L, 3L, 1L);
+        assertThat(ids(index.search("airport", 1, 1, DEFAULT_MIN_MATCH_RATIO))).containsExactly(3L);
+    }
+
+    @Test
+    void typoWithinMinMatchRatioStillMatches() {
+        index.putSentenceSet(1L, "airport", DATE, List.of());
+
+        // airprot: ai, ir, rp, pr, ro, ot 중 ai, ir, rp 3개(50%) 일치
+        assertThat(ids(index.search("airprot", 0, 10, DEFAULT_MIN_MATCH_RATIO))).containsExactly(1L);
+        assertThat(index.search("airprot", 0, 10, 0.8)).isEmpty();
+        assertThat(index.search("bus", 0, 10, DEFAULT_MIN_MATCH_RATIO)).isEmpty();
+    }
+
+    @Test
+    void singleCharacterQueryMatchesWordsStartingWithIt() {
+        index.putSentenceSet(1L, "apple pie", DATE, List.of());
+        index.putSentenceSet(2L, "cherry", DATE, List.of());
+        index.putSentenceSet(3L, "공항", DATE, List.of());
+
+        assertThat(ids(index.search("a", 0, 10, DEFAULT_MIN_MATCH_RATIO))).containsExactly(1L);
+        assertThat(ids(index.search("공", 0, 10, DEFAULT_MIN_MATCH_RATIO))).containsExactly(3L);
+        assertThat(index.search("z", 0, 10, DEFAULT_MIN_MATCH_RATIO)).isEmpty();
+    }
+
+    @Test
+    void snippetComesFromBestMatchingSentence() {
+        index.putSentenceSet(1L, "travel", DATE, List.of(
+                sentence(1L, 10L, "Boil the water.", "물을 끓이세요."),
+                sentence(1L, 11L, "Where is the airport?", "공항이 어디예요?")));
+
+        assertThat(index.search("airport", 0, 10, DEFAULT_MIN_MATCH_RATIO).get(0).snippet()).isEqualTo("Where is the airport?");
+        assertThat(index.search("공항", 0, 10, DEFAULT_MIN_MATCH_RATIO).get(0).snippet()).isEqualTo("공항이 어디예요?");
+    }
+
+    @Test
+    void removedSentenceNoLongerMatches() {
+        index.putSentenceSet(1L, "travel", DATE, List.of(
+                sentence(1L, 10L, "Where is the airport?", null),
+                sentence(1L, 11L, "Boil the water.", null)));
+
+        index.removeSentence(1L, 10L);
+
+        assertThat(index.search("airport", 0, 10, DEFAULT_MIN_MATCH_RATIO)).isEmpty();
+        SentenceSetSearchResultDto remaining = index.search("water", 0, 10, DEFAULT_MIN_MATCH_RATIO).get(0);
+        assertThat(remaining.sentenceCount()).isEqualTo(1);
+    }
+
+    @Test
+    void updatedSentenceReplacesPreviousTerms() {
+        index.putSentenceSet(1L, "travel", DATE, List.of(sentence(1L, 10L, "Where is the airport?", null)));
+        index.putSentenceSet(2L, "travel", DATE, List.of(sentence(2L, 20L, "Boil the water.", null)));
+
+        index.putSentence(sentence(1L, 10L, "Where is the station?", null));
+
+        assertThat(index.search("airport", 0, 10, DEFAULT_MIN_MATCH_RATIO)).isEmpty();
+        assertThat(ids(index.search("station", 0, 10, DEFAULT_MIN_MATCH_RATIO))).containsExactly(1L);
+
+        // 같은 문장을 다시 색인해도 빈도와 문서 길이가 두 번 더해지지 않음
+        double before = index.search("water", 0, 10, DEFAULT_MIN_MATCH_RATIO).get(0).score();
+        index.putSentence(sentence(1L, 10L, "Where is the station?", null));
+        assertThat(index.search("water", 0, 10, DEFAULT_MIN_MATCH_RATIO).get(0).score()).isEqualTo(before);
+    }
+
+    @Test
+    void removedSentenceSetIsDroppedFromIndex() {
+        index.putSentenceSet(1L, "airport", DATE, List.of(sentence(1L, 10L, "Where is the gate?", null)));
+        index.putSentenceSet(2L, "cooking", DATE, List.of());
+
+        index.removeSentenceSet(1L);
+
+        assertThat(index.contains(1L)).isFalse();
+        assertThat(index.size()).isEqualTo(1);
+        assertThat(index.search("airport", 0, 10, DEFAULT_MIN_MATCH_RATIO)).isEmpty();
+        assertThat(index.search("gate", 0, 10, DEFAULT_MIN_MATCH_RATIO)).isEmpty();
+        // 색인되지 않은 세트의 문장은 무시
+        index.putSentence(sentence(1L, 11L, "Where is the airport?", null));
+        assertThat(index.contains(1L)).isFalse();
+    }
+
+    private static SentenceSearchItemDto sentence(Long sentenceSetId, Long id, String content, String meaning) {
+        return new SentenceSearchItemDto(sentenceSetId, id, content, meaning);
+    }
+
+    private static List<Long> ids(List<SentenceSetSearchResultDto> results) {
+        return results.stream().map(SentenceSetSearchResultDto::id).toList();
+    }
+}
@@ -0,0 +1,81 @@
+package com.example.integration.common.config.tts;
+
+import com.example.integration.common.enums.tts.AudioFormat;
+import com.example.integration.common.enums.tts.VoiceLanguage;
+import com.example.integration.common.enums.tts.VoiceName;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class TtsAudioCacheTest {
+
+    private static final int CLIP_BYTES = 10;
+
+    @TempDir
+    Path directory;
+
+    @Test
+    void memoryHitKeepsClipOnDisk() {
+        // 디스크에는 두 개, 메모리에는 전부 들어가는 예산
+        TtsAudioCache cache = cache(directory, 2 * CLIP_BYTES);
+        cache.put(spec("hot"), clip(1));
+        cache.put(spec("cold"), clip(2));
+
+        // 메모리 적중만으로 재생되는 음성도 디스크에서 최근 사용으로 갱신
+        assertThat(cache.get(spec("hot"))).isPresent();
+        cache.put(spec("new"), clip(3));
+
+        assertThat(cache.getFile(spec("hot"))).isPresent();
+        assertThat(cache.getFile(spec("cold"))).isEmpty();
+    }
+
+    @Test
+    void clipEvictedFromDiskIsEvictedFromMemory() {
+        TtsAudioCache cache = cache(directory, 2 * CLIP_BYTES);
+        cache.put(spec("first"), clip(1));
+        cache.put(spec("second"), clip(2));
+        cache.put(spec("third"), clip(3));
+
+        assertThat(cache.getFile(spec("first"))).isEmpty();
+        assertThat(cache.contains(spec("first"))).isFalse();
+        assertThat(cache.getMemoryEntryCount()).isEqualTo(cache.getDiskEntryCount());
+    }
+
+    @Test
+    void clipOnlyInMemoryIsWrittenBackWhenStreamed() throws Exception {
+        Path missing = directory.resolve("missing");
+        TtsAudioCache cache = cache(missing, 100 * CLIP_BYTES);
+        Files.delete(missing);
+
+        // 디스크 저장 실패 (디렉터리 없음) 후에도 메모리에는 남음
+        assertThat(cache.put(spec("hot"), clip(1))).isEmpty();
+        assertThat(cache.get(spec("hot"))).isPresent();
+
+        Files.createDirectories(missing);
+        Path file = cache.getFile(spec("hot")).orElseThrow();
+
+        assertThat(Files.readAllBytes(file)).isEqualTo(clip(1));
+        assertThat(cache.getDiskEntryCount()).isEqualTo(1);
+    }
+
+    static TtsAudioCache cache(Path directory, long diskMaxBytes) {
+        TtsAudioCache cache = new TtsAudioCache(directory.toString(), 1024, diskMaxBytes, new SimpleMeterRegistry());
+        cache.loadDiskIndex();
+        return cache;
+    }
+
+    static TtsAudioSpec spec(String text) {
+        return new TtsAudioSpec(text, VoiceLanguage.ENGLISH_US, VoiceName.EN_US_NEURAL2_A, AudioFormat.MP3);
+    }
+
+    static byte[] clip(int value) {
+        byte[] clip = new byte[CLIP_BYTES];
+        clip[0] = (byte) value;
+        return clip;
+    }
+}
@@ -0,0 +1,84 @@
+package com.example.integration.common.config.tts;
+
+import com.example.integration.common.response.CustomException;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.Test;
+
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.function.BooleanSupplier;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class TtsBulkheadTest {
+
+    // 분당 60글자 (초당 1글자 충전)
+    private static final long CHARACTERS_PER_MINUTE = 60;
+
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+
+    @Test
+    void requestsWaitingForRefillCountAgainstQueueSize() throws Exception {
+        TtsBulkhead bulkhead = new TtsBulkhead(8, 1, 5000, CHARACTERS_PER_MINUTE, meterRegistry);
+        bulkhead.acquire(60);
+        bulkhead.release();
+
+        // 첫 요청은 충전을 약 1초 기다리며 대기열 자리를 차지
+        AtomicReference<Throwable> waiterError = new AtomicReference<>();
+        Thread waiter = new Thread(() -> {
+            try {
+                bulkhead.acquire(1);
+                bulkhead.release();
+            } catch (Throwable e) {
+                waiterError.set(e);
+            }
+        });
+        waiter.start();
+        waitUntil(() -> queueDepth() == 1);
+
+        // 대기 시간 안에 충전되더라도 대기열이 가득 찼으므로 잠들지 않고 바로 거절
+        long start = System.nanoTime();
+        assertThatThrownBy(() -> bulkhead.acquire(1)).isInstanceOf(CustomException.class);
+        assertThat((System.nanoTime() - start) / 1_000_000).isLessThan(500);
+        assertThat(rejected("queue-full")).isEqualTo(1);
+
+        waiter.join(5000);
+        assertThat(waiterError.get()).isNull();
+        assertThat(queueDepth()).isZero();
+    }
+
+    @Test
+    void refillWaitIsDeductedFromPermitWait() {
+        TtsBulkhead bulkhead = new TtsBulkhead(1, 8, 1500, CHARACTERS_PER_MINUTE, meterRegistry);
+        // 동시 실행 자리를 잡은 채로 버킷을 비움
+        bulkhead.acquire(60);
+
+        // 충전 대기(약 1초) 후 남은 0.5초만 자리를 기다림
+        long start = System.nanoTime();
+        assertThatThrownBy(() -> bulkhead.acquire(1)).isInstanceOf(CustomException.class);
+        long elapsedMillis = (System.nanoTime() - start) / 1_000_000;
+
+        assertThat(elapsedMillis).isBetween(900L, 2000L);
+        assertThat(rejected("timeout")).isEqualTo(1);
+        assertThat(queueDepth()).isZero();
+        bulkhead.release();
+    }
+
+    private double queueDepth() {
+        return meterRegistry.get("tts.bulkhead.queue.depth").gauge().value();
+    }
+
+    private double rejected(String reason) {
+        return meterRegistry.get("tts.bulkhead.rejected").tag("reason", reason).counter().count();
+    }
+
+    private static void waitUntil(BooleanSupplier condition) throws InterruptedException {
+        long deadline = System.currentTimeMillis() + 5000;
+        while (!condition.getAsBoolean()) {
+            if (System.currentTimeMillis() > deadline) {
+                throw new AssertionError("timed out");
+            }
+            Thread.sleep(10);
+        }
+    }
+}
@@ -0,0 +1,78 @@
+package com.example.integration.common.config.tts;
+
+import com.google.api.gax.grpc.GrpcStatusCode;
+import com.google.api.gax.rpc.UnavailableException;
+import io.grpc.Status;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class TtsCallPolicyTest {
+
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+    private final TtsBulkhead ttsBulkhead = new TtsBulkhead(8, 32, 2000, 900_000, meterRegistry);
+    private final TtsCallPolicy ttsCallPolicy = new TtsCallPolicy(ttsBulkhead,
+            200, 3, 1, 5, false, 50, 1000, 0.1, 10, 4, meterRegistry);
+
+    @AfterEach
+    void tearDown() {
+        ttsCallPolicy.shutdown();
+    }
+
+    @Test
+    void attemptPastDeadlineIsInterrupted() throws Exception {
+        CountDownLatch interrupted = new CountDownLatch(1);
+
+        assertThatThrownBy(() -> ttsCallPolicy.execute(10, () -> {
+            try {
+                Thread.sleep(10_000);
+            } catch (InterruptedException e) {
+                interrupted.countDown();
+                throw new IOException("cancelled", e);
+            }
+            return new byte[0];
+        })).isInstanceOf(IOException.class).hasMessageContaining("기한");
+
+        // 기한이 지난 호출은 끝날 때까지 호출 스레드를 붙잡지 않음
+        assertThat(interrupted.await(1, TimeUnit.SECONDS)).isTrue();
+        assertThat(meterRegistry.get("tts.call.deadline.exceeded").counter().count()).isEqualTo(1);
+    }
+
+    @Test
+    void unavailableIsRetried() throws Exception {
+        AtomicInteger calls = new AtomicInteger();
+
+        byte[] audio = ttsCallPolicy.execute(10, () -> {
+            if (calls.incrementAndGet() == 1) {
+                throw new IOException("unavailable",
+                        new UnavailableException("unavailable", null, GrpcStatusCode.of(Status.Code.UNAVAILABLE), true));
+            }
+            return new byte[]{1};
+        });
+
+        assertThat(audio).containsExactly(1);
+        assertThat(calls).hasValue(2);
+        assertThat(meterRegistry.get("tts.call.retries").counter().count()).isEqualTo(1);
+    }
+
+    @Test
+    void nonTransientIoErrorIsNotRetried() {
+        AtomicInteger calls = new AtomicInteger();
+
+        assertThatThrownBy(() -> ttsCallPolicy.execute(10, () -> {
+            calls.incrementAndGet();
+            throw new IOException("bad audio", new IllegalArgumentException("bad frame"));
+        })).isInstanceOf(IOException.class).hasMessage("bad audio");
+
+        assertThat(calls).hasValue(1);
+        assertThat(meterRegistry.get("tts.call.retries").counter().count()).isZero();
+    }
+}
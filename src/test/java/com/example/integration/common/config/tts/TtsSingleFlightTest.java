@@ -0,0 +1,97 @@
+package com.example.integration.common.config.tts;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.function.BooleanSupplier;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class TtsSingleFlightTest {
+
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+    private final TtsSingleFlight singleFlight = new TtsSingleFlight(meterRegistry);
+    // leader가 대기하는 동안 follower가 실행되도록 공용 풀 대신 스레드 2개 사용
+    private final ExecutorService executor = Executors.newFixedThreadPool(2);
+
+    @AfterEach
+    void tearDown() {
+        executor.shutdownNow();
+    }
+
+    @Test
+    void concurrentCallsForSameKeyShareOneLoad() throws Exception {
+        CountDownLatch release = new CountDownLatch(1);
+        CompletableFuture<byte[]> leader = CompletableFuture.supplyAsync(() -> singleFlight.execute("key", () -> {
+            await(release);
+            return new byte[]{1};
+        }), executor);
+        waitForLeader();
+
+        CompletableFuture<byte[]> follower = CompletableFuture.supplyAsync(() -> singleFlight.execute("key", () -> new byte[]{2}), executor);
+        waitForCoalesced();
+        release.countDown();
+
+        assertThat(leader.get(5, TimeUnit.SECONDS)).containsExactly(1);
+        assertThat(follower.get(5, TimeUnit.SECONDS)).containsExactly(1);
+    }
+
+    @Test
+    void errorFromLoaderReachesWaitersAndReleasesKey() throws Exception {
+        CountDownLatch release = new CountDownLatch(1);
+        CompletableFuture<byte[]> leader = CompletableFuture.supplyAsync(() -> singleFlight.execute("key", () -> {
+            await(release);
+            throw new AssertionError("loader failed");
+        }), executor);
+        waitForLeader();
+
+        CompletableFuture<byte[]> follower = CompletableFuture.supplyAsync(() -> singleFlight.execute("key", () -> new byte[]{2}), executor);
+        waitForCoalesced();
+        release.countDown();
+
+        assertThatThrownBy(() -> leader.get(5, TimeUnit.SECONDS))
+                .isInstanceOf(ExecutionException.class)
+                .hasCauseInstanceOf(AssertionError.class);
+        assertThatThrownBy(() -> follower.get(5, TimeUnit.SECONDS))
+                .isInstanceOf(ExecutionException.class)
+                .hasCauseInstanceOf(AssertionError.class);
+
+        // 진행 중 표시가 제거되어 다음 요청은 새로 실행
+        assertThat(meterRegistry.get("tts.singleflight.in-flight").gauge().value()).isZero();
+        assertThat(singleFlight.execute("key", () -> new byte[]{3})).containsExactly(3);
+    }
+
+    private void waitForLeader() throws InterruptedException {
+        waitUntil(() -> meterRegistry.get("tts.singleflight.in-flight").gauge().value() == 1);
+    }
+
+    private void waitForCoalesced() throws InterruptedException {
+        waitUntil(() -> meterRegistry.get("tts.singleflight.coalesced").counter().count() == 1);
+    }
+
+    private static void waitUntil(BooleanSupplier condition) throws InterruptedException {
+        long deadline = System.currentTimeMillis() + 5000;
+        while (!condition.getAsBoolean()) {
+            if (System.currentTimeMillis() > deadline) {
+                throw new AssertionError("timed out");
+            }
+            Thread.sleep(10);
+        }
+    }
+
+    private static void await(CountDownLatch latch) {
+        try {
+            latch.await(5, TimeUnit.SECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}
@@ -0,0 +1,79 @@
+package com.example.integration.common.config.tts;
+
+import com.example.integration.common.response.CustomException;
+import com.example.integration.common.util.RedisUtil;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.HashMap;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThatCode;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.anyMap;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+class TtsUserQuotaTest {
+
+    private final RedisUtil redisUtil = mock(RedisUtil.class);
+    // 자동 flush가 끼어들지 않도록 주기를 길게 두고 flush()를 직접 호출
+    private final TtsUserQuota ttsUserQuota = new TtsUserQuota(redisUtil, 100, 1000, 3_600_000, "Asia/Seoul", new SimpleMeterRegistry());
+
+    @AfterEach
+    void tearDown() {
+        ttsUserQuota.shutdown();
+    }
+
+    @Test
+    void usageIsCountedWhileFlushIsInProgress() {
+        ttsUserQuota.consume("user", 80);
+
+        // Redis 응답을 기다리는 동안에도 이미 사용한 글자 수가 할당량에 반영되어 있어야 함
+        when(redisUtil.incrementAllWithExpire(anyMap(), anyLong())).thenAnswer(invocation -> {
+            assertThatThrownBy(() -> ttsUserQuota.consume("user", 30)).isInstanceOf(CustomException.class);
+            return redisTotals(invocation.getArgument(0));
+        });
+        ttsUserQuota.flush();
+
+        assertThatThrownBy(() -> ttsUserQuota.consume("user", 30)).isInstanceOf(CustomException.class);
+        assertThatCode(() -> ttsUserQuota.consume("user", 20)).doesNotThrowAnyException();
+    }
+
+    @Test
+    void usageIsKeptWhenFlushFails() {
+        ttsUserQuota.consume("user", 80);
+
+        when(redisUtil.incrementAllWithExpire(anyMap(), anyLong())).thenThrow(new IllegalStateException("redis down"));
+        ttsUserQuota.flush();
+
+        assertThatThrownBy(() -> ttsUserQuota.consume("user", 30)).isInstanceOf(CustomException.class);
+    }
+
+    @Test
+    void refundedCharactersAreAvailableAgain() {
+        ttsUserQuota.consume("user", 80);
+        ttsUserQuota.refund("user", 80);
+
+        assertThatCode(() -> ttsUserQuota.consume("user", 100)).doesNotThrowAnyException();
+    }
+
+    @Test
+    void refundBeforeFlushIsSentToRedisAsNetUsage() {
+        ttsUserQuota.consume("user", 80);
+        ttsUserQuota.refund("user", 50);
+
+        when(redisUtil.incrementAllWithExpire(anyMap(), anyLong())).thenAnswer(invocation -> redisTotals(invocation.getArgument(0)));
+        ttsUserQuota.flush();
+
+        assertThatCode(() -> ttsUserQuota.consume("user", 70)).doesNotThrowAnyException();
+        assertThatThrownBy(() -> ttsUserQuota.consume("user", 1)).isInstanceOf(CustomException.class);
+    }
+
+    // 이 노드의 증가량이 Redis 합계가 되는 경우 (다른 노드 사용량 없음)
+    private static Map<String, Long> redisTotals(Map<String, Long> increments) {
+        return new HashMap<>(increments);
+    }
+}
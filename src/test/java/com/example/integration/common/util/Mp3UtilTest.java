@@ -0,0 +1,85 @@
+package com.example.integration.common.util;
+
+import org.junit.jupiter.api.Test;
+
+import java.io.ByteArrayOutputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class Mp3UtilTest {
+
+    // MPEG-1 Layer III, 128kbps, 44100Hz, 스테레오, 패딩 없음 -> 프레임 길이 417바이트
+    private static final byte[] FRAME_HEADER = {(byte) 0xFF, (byte) 0xFB, (byte) 0x90, 0x00};
+    private static final int FRAME_LENGTH = 417;
+    // 스테레오 MPEG-1의 side information 길이
+    private static final int SIDE_INFO_LENGTH = 32;
+
+    @Test
+    void concatDropsXingAndInfoFramesFromEveryPart() {
+        byte[] first = mp3(vbrHeaderFrame("Info"), audioFrame((byte) 1), audioFrame((byte) 2));
+        byte[] second = mp3(vbrHeaderFrame("Xing"), audioFrame((byte) 3));
+
+        byte[] joined = Mp3Util.concat(List.of(first, second));
+
+        assertThat(joined).hasSize(FRAME_LENGTH * 3);
+        assertThat(new String(joined, StandardCharsets.ISO_8859_1)).doesNotContain("Info", "Xing");
+        assertThat(joined[FRAME_LENGTH * 2 + 10]).isEqualTo((byte) 3);
+    }
+
+    @Test
+    void concatKeepsFirstId3TagAndDropsLaterOnes() {
+        byte[] id3 = {'I', 'D', '3', 4, 0, 0, 0, 0, 0, 2, 0, 0};
+        byte[] first = mp3(id3, vbrHeaderFrame("Info"), audioFrame((byte) 1));
+        byte[] second = mp3(id3, audioFrame((byte) 2));
+
+        byte[] joined = Mp3Util.concat(List.of(first, second));
+
+        assertThat(joined).hasSize(id3.length + FRAME_LENGTH * 2);
+        assertThat(Mp3Util.id3v2Length(joined)).isEqualTo(id3.length);
+    }
+
+    @Test
+    void concatKeepsPartsWithoutVbrHeader() {
+        byte[] part = mp3(audioFrame((byte) 1));
+
+        assertThat(Mp3Util.concat(List.of(part, part))).hasSize(FRAME_LENGTH * 2);
+    }
+
+    @Test
+    void sliceAtDoesNotCountVbrHeaderFrameAsAudio() {
+        // 프레임 하나는 1152 / 44100초 (약 26ms)
+        byte[] audio = mp3(vbrHeaderFrame("Info"), audioFrame((byte) 1), audioFrame((byte) 2));
+
+        List<byte[]> slices = Mp3Util.sliceAt(audio, List.of(0.01));
+
+        assertThat(slices).hasSize(2);
+        assertThat(slices.get(0)).hasSize(FRAME_LENGTH);
+        assertThat(slices.get(0)[10]).isEqualTo((byte) 1);
+        assertThat(slices.get(1)).hasSize(FRAME_LENGTH);
+    }
+
+    private static byte[] vbrHeaderFrame(String tag) {
+        byte[] frame = audioFrame((byte) 0);
+        byte[] tagBytes = tag.getBytes(StandardCharsets.ISO_8859_1);
+        System.arraycopy(tagBytes, 0, frame, FRAME_HEADER.length + SIDE_INFO_LENGTH, tagBytes.length);
+        return frame;
+    }
+
+    private static byte[] audioFrame(byte fill) {
+        byte[] frame = new byte[FRAME_LENGTH];
+        Arrays.fill(frame, fill);
+        System.arraycopy(FRAME_HEADER, 0, frame, 0, FRAME_HEADER.length);
+        return frame;
+    }
+
+    private static byte[] mp3(byte[]... chunks) {
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        for (byte[] chunk : chunks) {
+            out.writeBytes(chunk);
+        }
+        return out.toByteArray();
+    }
+}
@@ -0,0 +1,41 @@
+package com.example.integration.common.util;
+
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class SearchTokenizerTest {
+
+    @Test
+    void wordsAreLowercasedBigrams() {
+        assertThat(SearchTokenizer.tokenize("Hello")).containsExactly("he", "el", "ll", "lo");
+    }
+
+    @Test
+    void nonLetterCharactersSplitWords() {
+        assertThat(SearchTokenizer.tokenize("in-flight, 2x!")).containsExactly("in", "fl", "li", "ig", "gh", "ht", "2x");
+    }
+
+    @Test
+    void singleCharacterWordIsKeptAsIs() {
+        assertThat(SearchTokenizer.tokenize("I am a")).containsExactly("i", "am", "a");
+    }
+
+    @Test
+    void koreanWordWithParticleSharesBigramsWithStem() {
+        // 조사가 붙어도 어간의 2-gram이 그대로 포함됨
+        assertThat(SearchTokenizer.tokenize("공항에서")).containsExactly("공항", "항에", "에서");
+        assertThat(SearchTokenizer.tokenize("공항에서")).containsAll(SearchTokenizer.tokenize("공항"));
+    }
+
+    @Test
+    void repeatedBigramsAreCountedEachTime() {
+        assertThat(SearchTokenizer.tokenize("lala")).containsExactly("la", "al", "la");
+    }
+
+    @Test
+    void emptyInputHasNoGrams() {
+        assertThat(SearchTokenizer.tokenize(null)).isEmpty();
+        assertThat(SearchTokenizer.tokenize("  ?! ")).isEmpty();
+    }
+}
@@ -0,0 +1,134 @@
+package com.example.integration.controller;
+
+import com.example.integration.common.config.tts.TtsUserQuota;
+import com.example.integration.common.util.RedisUtil;
+import org.junit.jupiter.api.Test;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.mock.mockito.MockBean;
+import org.springframework.boot.test.web.server.LocalServerPort;
+import org.springframework.http.HttpHeaders;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.net.URI;
+import java.net.URLEncoder;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 합성이 느린 TTS 요청이 Tomcat 스레드 수보다 많이 몰려도 다른 API가 응답하는지 확인
+ * ('local-tts' 백엔드에 지연을 설정하고, Tomcat 스레드는 4개로 제한)
+ */
+@SpringBootTest(webEnvironment = SpringBootTest.WebEnvironment.RANDOM_PORT, properties = {
+        "jwt.secret=test-secret",
+        "jwt.auth-time=1800",
+        "jwt.refresh-time=1209600",
+        "spring.data.redis.host=localhost",
+        "spring.data.redis.port=6379",
+        "spring.mail.host=localhost",
+        "spring.mail.port=25",
+        "spring.mail.username=test",
+        "spring.mail.password=test",
+        "spring.mail.properties.mail.smtp.auth=false",
+        "spring.mail.properties.mail.smtp.starttls.enable=false",
+        "spring.mail.properties.mail.smtp.starttls.required=false",
+        "spring.mail.properties.mail.smtp.connectiontimeout=1000",
+        "spring.mail.properties.mail.smtp.timeout=1000",
+        "spring.mail.properties.mail.smtp.writetimeout=1000",
+        "server.tomcat.threads.max=4",
+        "server.tomcat.threads.min-spare=4",
+        "tts.local.latency-ms=" + TextToSpeechControllerIntegrationTest.TTS_LATENCY_MS,
+        "tts.bulkhead.max-concurrent-calls=" + TextToSpeechControllerIntegrationTest.SLOW_REQUESTS,
+        "tts.cache.directory=${java.io.tmpdir}/langboost-tts-it-${random.uuid}"
+})
+@ActiveProfiles({"test", "local-tts"})
+class TextToSpeechControllerIntegrationTest {
+
+    static final int TTS_LATENCY_MS = 2000;
+    static final int SLOW_REQUESTS = 12;
+
+    @LocalServerPort
+    private int port;
+
+    @MockBean
+    private RedisUtil redisUtil;
+
+    @MockBean
+    private TtsUserQuota ttsUserQuota;
+
+    private final HttpClient httpClient = HttpClient.newBuilder()
+            .connectTimeout(Duration.ofSeconds(5))
+            .build();
+
+    @Test
+    void publicListStaysResponsiveWhileSlowSynthesisIsInFlight() throws Exception {
+        List<CompletableFuture<HttpResponse<byte[]>>> slowRequests = new ArrayList<>();
+        for (int i = 0; i < SLOW_REQUESTS; i++) {
+            // 요청마다 다른 텍스트 (같은 텍스트는 합성 한 번으로 합쳐짐)
+            slowRequests.add(httpClient.sendAsync(get("/api/v1/tts/audio?language=ENGLISH&text=" + encode("slow sentence " + i)),
+                    HttpResponse.BodyHandlers.ofByteArray()));
+        }
+        // 모든 TTS 요청이 서버에 도착하여 합성을 시작할 때까지 대기
+        Thread.sleep(TTS_LATENCY_MS / 4);
+
+        long start = System.nanoTime();
+        HttpResponse<String> publicList = httpClient.send(get("/api/v1/public/sentence-set"), HttpResponse.BodyHandlers.ofString());
+        long elapsedMillis = (System.nanoTime() - start) / 1_000_000;
+
+        assertThat(publicList.statusCode()).isEqualTo(200);
+        // 합성이 끝나기 전에 응답 (TTS 요청이 Tomcat 스레드를 잡고 있으면 합성 지연만큼 기다림)
+        assertThat(elapsedMillis).isLessThan(TTS_LATENCY_MS / 2);
+        assertThat(slowRequests).noneMatch(CompletableFuture::isDone);
+
+        for (CompletableFuture<HttpResponse<byte[]>> slowRequest : slowRequests) {
+            HttpResponse<byte[]> response = slowRequest.get();
+            assertThat(response.statusCode()).isEqualTo(200);
+            assertThat(response.body()).isNotEmpty();
+        }
+    }
+
+    @Test
+    void generateSetsContentDispositionOnlyOnSuccess() throws Exception {
+        HttpResponse<byte[]> success = httpClient.send(generate("{\"language\":\"ENGLISH\",\"text\":\"hello\"}"),
+                HttpResponse.BodyHandlers.ofByteArray());
+        assertThat(success.statusCode()).isEqualTo(200);
+        assertThat(success.headers().firstValue(HttpHeaders.CONTENT_DISPOSITION)).hasValue("inline; filename=\"tts_output.mp3\"");
+
+        // 합성 실패 시 오류 응답에는 파일 이름을 붙이지 않음
+        HttpResponse<String> failure = httpClient.send(generate("{\"language\":\"KLINGON\",\"text\":\"hello\"}"),
+                HttpResponse.BodyHandlers.ofString());
+        assertThat(failure.statusCode()).isNotEqualTo(200);
+        assertThat(failure.headers().firstValue(HttpHeaders.CONTENT_DISPOSITION)).isEmpty();
+    }
+
+    private HttpRequest get(String path) {
+        return HttpRequest.newBuilder(uri(path))
+                .timeout(Duration.ofMillis(TTS_LATENCY_MS * 5L))
+                .GET()
+                .build();
+    }
+
+    // GET /generate는 요청 본문으로 텍스트를 받음
+    private HttpRequest generate(String json) {
+        return HttpRequest.newBuilder(uri("/api/v1/tts/generate"))
+                .timeout(Duration.ofMillis(TTS_LATENCY_MS * 5L))
+                .header(HttpHeaders.CONTENT_TYPE, "application/json")
+                .method("GET", HttpRequest.BodyPublishers.ofString(json))
+                .build();
+    }
+
+    private URI uri(String path) {
+        return URI.create("http://localhost:" + port + path);
+    }
+
+    private static String encode(String value) {
+        return URLEncoder.encode(value, StandardCharsets.UTF_8);
+    }
+}
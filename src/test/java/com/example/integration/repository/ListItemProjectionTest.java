@@ -0,0 +1,139 @@
+package com.example.integration.repository;
+
+import com.example.integration.common.util.PageCursor;
+import com.example.integration.dto.sentence.PublicSentenceResponseDto;
+import com.example.integration.dto.sentence.SentenceListItemDto;
+import com.example.integration.dto.sentence.SentenceResponseDto;
+import com.example.integration.dto.sentence.SentenceSearchItemDto;
+import com.example.integration.dto.sentenceSet.PublicSentenceSetResponseDto;
+import com.example.integration.dto.sentenceSet.SentenceSetResponseDto;
+import com.example.integration.entity.LearningStatus;
+import com.example.integration.entity.RoleType;
+import com.example.integration.entity.Sentence;
+import com.example.integration.entity.SentenceSet;
+import com.example.integration.entity.User;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.autoconfigure.orm.jpa.TestEntityManager;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.time.LocalDate;
+import java.util.Comparator;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 목록 조회 projection이 엔티티로 만든 응답 DTO와 같은 값을 반환하는지 확인
+ */
+@DataJpaTest
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+@ActiveProfiles("test")
+class ListItemProjectionTest {
+
+    @Autowired
+    private TestEntityManager entityManager;
+
+    @Autowired
+    private SentenceSetRepository sentenceSetRepository;
+
+    @Autowired
+    private SentenceRepository sentenceRepository;
+
+    private User user;
+    private Long privateSetId;
+    private Long publicSetId;
+
+    @BeforeEach
+    void setUp() {
+        user = entityManager.persist(User.builder()
+                .email("a@test.com")
+                .password("password")
+                .roleType(RoleType.ADMIN)
+                .enabled(true)
+                .build());
+
+        SentenceSet privateSet = SentenceSet.builder().title("private").isPublic(false).user(user).build();
+        privateSet.updateLastViewedDate(LocalDate.of(2024, 3, 1));
+        privateSetId = entityManager.persist(privateSet).getId();
+        publicSetId = entityManager.persist(SentenceSet.builder().title("public").isPublic(true).user(user).build()).getId();
+
+        persistSentence("How are you?", "잘 지내?", "인사", LearningStatus.IN_PROGRESS, privateSet);
+        persistSentence("See you later.", "나중에 봐.", null, LearningStatus.COMPLETED, privateSet);
+        persistSentence("Where is the airport?", "공항이 어디예요?", "여행", LearningStatus.IN_PROGRESS,
+                entityManager.find(SentenceSet.class, publicSetId));
+
+        entityManager.flush();
+        sentenceSetRepository.updateSentenceCounts(privateSetId, 2, 1, 1);
+        sentenceSetRepository.updateSentenceCounts(publicSetId, 1, 1, 0);
+        entityManager.clear();
+    }
+
+    @Test
+    void userListItemMatchesEntityResponse() {
+        SentenceSet entity = sentenceSetRepository.findById(privateSetId).orElseThrow();
+
+        List<SentenceSetResponseDto> projected = sentenceSetRepository.findListByUserId(user.getId(), PageRequest.of(0, 10));
+
+        assertThat(projected).contains(new SentenceSetResponseDto(entity));
+        assertThat(new SentenceSetResponseDto(entity)).hasNoNullFieldsOrProperties();
+    }
+
+    @Test
+    void publicListItemMatchesEntityResponse() {
+        SentenceSet entity = sentenceSetRepository.findById(publicSetId).orElseThrow();
+        PublicSentenceSetResponseDto expected = new PublicSentenceSetResponseDto(entity);
+
+        assertThat(sentenceSetRepository.findPublicList(PageRequest.of(0, 10))).containsExactly(expected);
+        assertThat(sentenceSetRepository.findPublicListWithKeyword("pub", PageRequest.of(0, 10))).containsExactly(expected);
+        assertThat(sentenceSetRepository.findPublicListItem(publicSetId)).contains(expected);
+        assertThat(sentenceSetRepository.findPublicListByIdAfter(0L, PageRequest.of(0, 10))).containsExactly(expected);
+    }
+
+    @Test
+    void sentenceListItemMatchesEntityResponse() {
+        List<Sentence> entities = sentencesOf(privateSetId);
+
+        List<SentenceListItemDto> projected = sentenceRepository.findListBySentenceSetId(privateSetId, PageRequest.of(0, 10));
+
+        assertThat(projected).extracting(SentenceListItemDto::toResponse)
+                .containsExactlyElementsOf(entities.stream().map(SentenceResponseDto::new).toList());
+        assertThat(projected).extracting(SentenceListItemDto::toPublicResponse)
+                .containsExactlyElementsOf(entities.stream().map(PublicSentenceResponseDto::new).toList());
+        // 커서는 엔티티의 (생성일, id)
+        assertThat(projected).extracting(SentenceListItemDto::cursor)
+                .containsExactlyElementsOf(entities.stream().map(s -> new PageCursor(s.getCreatedDate(), s.getId())).toList());
+    }
+
+    @Test
+    void searchItemMatchesEntityColumns() {
+        List<SentenceSearchItemDto> expected = sentenceRepository.findAll().stream()
+                .map(s -> new SentenceSearchItemDto(s.getSentenceSet().getId(), s.getId(), s.getContent(), s.getMeaning()))
+                .toList();
+
+        assertThat(sentenceRepository.findSearchItemsBySentenceSetIdIn(List.of(privateSetId, publicSetId)))
+                .containsExactlyInAnyOrderElementsOf(expected);
+        assertThat(sentenceRepository.findSearchItemById(expected.get(0).id())).contains(expected.get(0));
+    }
+
+    private List<Sentence> sentencesOf(Long sentenceSetId) {
+        return sentenceRepository.findAll().stream()
+                .filter(s -> s.getSentenceSet().getId().equals(sentenceSetId))
+                .sorted(Comparator.comparing(Sentence::getCreatedDate).thenComparing(Sentence::getId))
+                .toList();
+    }
+
+    private void persistSentence(String content, String meaning, String description, LearningStatus learningStatus, SentenceSet sentenceSet) {
+        entityManager.persist(Sentence.builder()
+                .content(content)
+                .meaning(meaning)
+                .description(description)
+                .learningStatus(learningStatus)
+                .sentenceSet(sentenceSet)
+                .build());
+    }
+}
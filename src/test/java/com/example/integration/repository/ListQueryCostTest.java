@@ -0,0 +1,169 @@
+package com.example.integration.repository;
+
+import com.example.integration.dto.sentence.SentenceListItemDto;
+import com.example.integration.dto.sentence.SentenceResponseDto;
+import com.example.integration.dto.sentenceSet.SentenceSetResponseDto;
+import com.example.integration.entity.LearningStatus;
+import com.example.integration.entity.RoleType;
+import com.example.integration.entity.Sentence;
+import com.example.integration.entity.SentenceSet;
+import com.example.integration.entity.User;
+import com.example.integration.support.SqlCapture;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.autoconfigure.orm.jpa.TestEntityManager;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.util.Comparator;
+import java.util.List;
+import java.util.Locale;
+import java.util.function.Supplier;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 목록 한 페이지를 읽는 비용 비교 (이전: id 조회 후 엔티티 조회, 이후: DTO projection)
+ * 실행된 SQL 수와 조회한 컬럼 수를 SqlCapture로 측정하고, 반복 조회 시간은 참고용으로 출력
+ */
+@DataJpaTest
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+@ActiveProfiles("test")
+class ListQueryCostTest {
+
+    private static final int PAGE_SIZE = 20;
+    private static final Pattern SELECT_LIST = Pattern.compile("(?s)^select (.*?) from ");
+
+    @Autowired
+    private TestEntityManager entityManager;
+
+    @Autowired
+    private SentenceSetRepository sentenceSetRepository;
+
+    @Autowired
+    private SentenceRepository sentenceRepository;
+
+    private Long userId;
+    private Long sentenceSetId;
+
+    @BeforeEach
+    void setUp() {
+        User user = entityManager.persist(User.builder()
+                .email("a@test.com")
+                .password("password")
+                .roleType(RoleType.ADMIN)
+                .enabled(true)
+                .build());
+        userId = user.getId();
+
+        for (int i = 0; i < 50; i++) {
+            SentenceSet sentenceSet = entityManager.persist(SentenceSet.builder().title("set " + i).isPublic(true).user(user).build());
+            if (i == 0) {
+                sentenceSetId = sentenceSet.getId();
+                for (int j = 0; j < 50; j++) {
+                    entityManager.persist(Sentence.builder()
+                            .content("sentence " + j)
+                            .meaning("문장 " + j)
+                            .description("설명 " + j)
+                            .learningStatus(LearningStatus.IN_PROGRESS)
+                            .sentenceSet(sentenceSet)
+                            .build());
+                }
+            }
+        }
+        entityManager.flush();
+        entityManager.clear();
+    }
+
+    @Test
+    void userSetPageIsOneNarrowQuery() {
+        PageCost before = measure(this::userSetPageFromEntities);
+        PageCost after = measure(() -> sentenceSetRepository.findListByUserId(userId, PageRequest.of(0, PAGE_SIZE)));
+        print("user sentence-set page", before, after);
+
+        // 이전: 페이지 id 조회 + 엔티티 조회, 이후: DTO 조회 한 번
+        assertThat(before.statements()).isEqualTo(2);
+        assertThat(after.statements()).isEqualTo(1);
+        assertThat(after.columns()).isLessThan(before.columns());
+        assertThat(after.result()).isEqualTo(before.result());
+    }
+
+    @Test
+    void sentencePageSelectsOnlyResponseColumns() {
+        PageCost before = measure(this::sentencePageFromEntities);
+        PageCost after = measure(() -> sentenceRepository.findListBySentenceSetId(sentenceSetId, PageRequest.of(0, PAGE_SIZE)).stream()
+                .map(SentenceListItemDto::toResponse)
+                .toList());
+        print("sentence page", before, after);
+
+        assertThat(before.statements()).isEqualTo(1);
+        assertThat(after.statements()).isEqualTo(1);
+        // 응답에 없는 컬럼(sentence_set_id, 수정 시각 등)은 읽지 않음
+        assertThat(after.columns()).isLessThan(before.columns());
+        assertThat(after.result()).isEqualTo(before.result());
+    }
+
+    // 이전 구현과 같은 방식: 페이지에 해당하는 id를 먼저 조회하고, 그 id의 엔티티를 조회하여 DTO로 변환
+    private List<SentenceSetResponseDto> userSetPageFromEntities() {
+        List<Long> ids = entityManager.getEntityManager()
+                .createQuery("SELECT ss.id FROM SentenceSet ss WHERE ss.user.id = :userId " +
+                        "ORDER BY ss.createdDate desc, ss.id desc", Long.class)
+                .setParameter("userId", userId)
+                .setMaxResults(PAGE_SIZE)
+                .getResultList();
+        return sentenceSetRepository.findAllById(ids).stream()
+                .sorted(Comparator.comparing(SentenceSet::getCreatedDate).thenComparing(SentenceSet::getId).reversed())
+                .map(SentenceSetResponseDto::new)
+                .toList();
+    }
+
+    // 이전 구현과 같은 방식: 문장 엔티티를 조회하여 DTO로 변환
+    private List<SentenceResponseDto> sentencePageFromEntities() {
+        return entityManager.getEntityManager()
+                .createQuery("SELECT s FROM Sentence s WHERE s.sentenceSet.id = :sentenceSetId " +
+                        "ORDER BY s.createdDate asc, s.id asc", Sentence.class)
+                .setParameter("sentenceSetId", sentenceSetId)
+                .setMaxResults(PAGE_SIZE)
+                .getResultList().stream()
+                .map(SentenceResponseDto::new)
+                .toList();
+    }
+
+    private PageCost measure(Supplier<List<?>> page) {
+        entityManager.clear();
+        SqlCapture.clear();
+        List<?> result = page.get();
+        List<String> statements = SqlCapture.statements();
+        int columns = statements.stream().mapToInt(ListQueryCostTest::selectedColumns).sum();
+
+        // 반복 조회 시간 (참고용, 영속성 컨텍스트를 비워 매번 새로 조회)
+        int iterations = 200;
+        long start = System.nanoTime();
+        for (int i = 0; i < iterations; i++) {
+            entityManager.clear();
+            page.get();
+        }
+        long micros = (System.nanoTime() - start) / iterations / 1000;
+
+        return new PageCost(statements.size(), columns, micros, result);
+    }
+
+    private static int selectedColumns(String sql) {
+        Matcher matcher = SELECT_LIST.matcher(sql.toLowerCase(Locale.ROOT));
+        return matcher.find() ? matcher.group(1).split(",").length : 0;
+    }
+
+    private static void print(String name, PageCost before, PageCost after) {
+        System.out.printf("%s: entity %d queries / %d columns / %d us, projection %d queries / %d columns / %d us%n",
+                name, before.statements(), before.columns(), before.micros(),
+                after.statements(), after.columns(), after.micros());
+    }
+
+    private record PageCost(int statements, int columns, long micros, List<?> result) {
+    }
+}
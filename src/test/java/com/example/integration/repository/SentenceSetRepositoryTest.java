@@ -0,0 +1,156 @@
+package com.example.integration.repository;
+
+import com.example.integration.dto.sentenceSet.PublicSentenceSetResponseDto;
+import com.example.integration.dto.sentenceSet.SentenceSetResponseDto;
+import com.example.integration.entity.RoleType;
+import com.example.integration.entity.SentenceSet;
+import com.example.integration.entity.User;
+import com.example.integration.support.SqlCapture;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.autoconfigure.orm.jpa.TestEntityManager;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Locale;
+import java.util.function.Function;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 문장 세트 목록 페이징이 DB에서 수행되는지 (메모리 페이징 없이) 확인
+ */
+@DataJpaTest
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+@ActiveProfiles("test")
+class SentenceSetRepositoryTest {
+
+    private static final int PAGE_SIZE = 10;
+
+    @Autowired
+    private TestEntityManager entityManager;
+
+    @Autowired
+    private SentenceSetRepository sentenceSetRepository;
+
+    private User user;
+    // 생성일이 모두 같으므로 id 내림차순이 기대 순서
+    private final List<Long> userSetIds = new ArrayList<>();
+    private final List<Long> publicSetIds = new ArrayList<>();
+    private final List<Long> keywordSetIds = new ArrayList<>();
+
+    @BeforeEach
+    void setUp() {
+        user = persistUser("a@test.com", RoleType.USER);
+        User otherUser = persistUser("b@test.com", RoleType.USER);
+        User admin = persistUser("admin@test.com", RoleType.ADMIN);
+
+        for (int i = 0; i < 25; i++) {
+            userSetIds.add(persistSentenceSet("user set " + i, false, user));
+        }
+        for (int i = 0; i < 3; i++) {
+            persistSentenceSet("other set " + i, false, otherUser);
+        }
+        for (int i = 0; i < 23; i++) {
+            String title = i % 2 == 0 ? "travel " + i : "business " + i;
+            Long id = persistSentenceSet(title, true, admin);
+            publicSetIds.add(id);
+            if (i % 2 == 0) {
+                keywordSetIds.add(id);
+            }
+        }
+
+        userSetIds.sort(Comparator.reverseOrder());
+        publicSetIds.sort(Comparator.reverseOrder());
+        keywordSetIds.sort(Comparator.reverseOrder());
+
+        entityManager.flush();
+        entityManager.clear();
+        SqlCapture.clear();
+    }
+
+    @Test
+    void userListPagesCoverAllSetsWithoutOverlap() {
+        List<List<Long>> pages = readPages(page -> ids(sentenceSetRepository.findListByUserId(user.getId(), PageRequest.of(page, PAGE_SIZE)), SentenceSetResponseDto::id));
+
+        assertThat(pages).extracting(List::size).containsExactly(10, 10, 5, 0);
+        assertThat(pages.stream().flatMap(List::stream).toList()).containsExactlyElementsOf(userSetIds);
+        assertThat(sentenceSetRepository.countByUser(user.getId())).isEqualTo(25);
+    }
+
+    @Test
+    void publicListPagesCoverAllSetsWithoutOverlap() {
+        List<List<Long>> pages = readPages(page -> ids(sentenceSetRepository.findPublicList(PageRequest.of(page, PAGE_SIZE)), PublicSentenceSetResponseDto::id));
+
+        assertThat(pages).extracting(List::size).containsExactly(10, 10, 3, 0);
+        assertThat(pages.stream().flatMap(List::stream).toList()).containsExactlyElementsOf(publicSetIds);
+    }
+
+    @Test
+    void keywordListPagesCoverMatchingSetsOnly() {
+        // 같은 생성일에서는 제목 오름차순 (travel 0, travel 10, travel 12, ...)
+        List<Long> expected = sentenceSetRepository.findPublicListWithKeyword("travel", PageRequest.of(0, 100)).stream()
+                .map(PublicSentenceSetResponseDto::id)
+                .toList();
+        SqlCapture.clear();
+
+        List<List<Long>> pages = readPages(page -> ids(sentenceSetRepository.findPublicListWithKeyword("travel", PageRequest.of(page, 5)), PublicSentenceSetResponseDto::id));
+
+        assertThat(pages).extracting(List::size).containsExactly(5, 5, 2, 0);
+        assertThat(pages.stream().flatMap(List::stream).toList())
+                .containsExactlyElementsOf(expected)
+                .containsExactlyInAnyOrderElementsOf(keywordSetIds);
+    }
+
+    @Test
+    void eachPageIsOneLimitedQueryWithoutSentenceRows() {
+        sentenceSetRepository.findListByUserId(user.getId(), PageRequest.of(1, PAGE_SIZE));
+        sentenceSetRepository.findPublicList(PageRequest.of(1, PAGE_SIZE));
+        sentenceSetRepository.findPublicListWithKeyword("travel", PageRequest.of(1, 5));
+
+        // 페이지마다 LIMIT/OFFSET이 적용된 쿼리 하나 (메모리 페이징이면 제한 없이 전체를 읽음)
+        List<String> statements = SqlCapture.statements();
+        assertThat(statements).hasSize(3);
+        assertThat(statements).allSatisfy(sql -> {
+            String lower = sql.toLowerCase(Locale.ROOT);
+            assertThat(lower).containsAnyOf(" limit ", " fetch first ", " fetch next ");
+            assertThat(lower).containsAnyOf(" offset ", " limit ?,");
+        });
+        assertThat(SqlCapture.selectsFrom("sentence")).isZero();
+    }
+
+    private static List<List<Long>> readPages(Function<Integer, List<Long>> pageReader) {
+        List<List<Long>> pages = new ArrayList<>();
+        for (int page = 0; page < 4; page++) {
+            pages.add(pageReader.apply(page));
+        }
+        return pages;
+    }
+
+    private static <T> List<Long> ids(List<T> items, Function<T, Long> id) {
+        return items.stream().map(id).toList();
+    }
+
+    private User persistUser(String email, RoleType roleType) {
+        return entityManager.persist(User.builder()
+                .email(email)
+                .password("password")
+                .roleType(roleType)
+                .enabled(true)
+                .build());
+    }
+
+    private Long persistSentenceSet(String title, boolean isPublic, User owner) {
+        return entityManager.persist(SentenceSet.builder()
+                .title(title)
+                .isPublic(isPublic)
+                .user(owner)
+                .build()).getId();
+    }
+}
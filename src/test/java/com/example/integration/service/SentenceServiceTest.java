@@ -0,0 +1,125 @@
+package com.example.integration.service;
+
+import com.example.integration.common.config.CurrentUserHolder;
+import com.example.integration.dto.sentence.LearningStatusRequestDto;
+import com.example.integration.entity.LearningStatus;
+import com.example.integration.entity.RoleType;
+import com.example.integration.entity.Sentence;
+import com.example.integration.entity.SentenceSet;
+import com.example.integration.entity.User;
+import com.example.integration.repository.SentenceSetRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.autoconfigure.orm.jpa.TestEntityManager;
+import org.springframework.boot.test.mock.mockito.MockBean;
+import org.springframework.context.annotation.Import;
+import org.springframework.test.context.ActiveProfiles;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.when;
+
+/**
+ * 같은 문장에 대한 충돌하는 변경이 문장 개수를 한 번만 옮기는지 확인
+ * <p>
+ * 두 요청이 모두 변경 전 상태를 읽은 상황은, 같은 영속성 컨텍스트에서 서비스를 두 번 호출하여 재현합니다.
+ * (서비스는 읽은 엔티티를 바꾸지 않고 조건부 UPDATE/DELETE를 실행하므로, 두 번째 호출도 변경 전 상태를 읽음)
+ */
+@DataJpaTest
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+@ActiveProfiles("test")
+@Import(SentenceService.class)
+class SentenceServiceTest {
+
+    @Autowired
+    private TestEntityManager entityManager;
+
+    @Autowired
+    private SentenceService sentenceService;
+
+    @Autowired
+    private SentenceSetRepository sentenceSetRepository;
+
+    @MockBean
+    private CurrentUserHolder currentUserHolder;
+
+    private Long sentenceSetId;
+    private Long sentenceId;
+
+    @BeforeEach
+    void setUp() {
+        User user = entityManager.persist(User.builder()
+                .email("a@test.com")
+                .password("password")
+                .roleType(RoleType.USER)
+                .enabled(true)
+                .build());
+        SentenceSet sentenceSet = entityManager.persist(SentenceSet.builder().title("travel").isPublic(false).user(user).build());
+        Sentence sentence = entityManager.persist(Sentence.builder()
+                .content("Where is the airport?")
+                .learningStatus(LearningStatus.IN_PROGRESS)
+                .sentenceSet(sentenceSet)
+                .build());
+        entityManager.flush();
+        sentenceSetRepository.updateSentenceCounts(sentenceSet.getId(), 1, 1, 0);
+
+        sentenceSetId = sentenceSet.getId();
+        sentenceId = sentence.getId();
+        when(currentUserHolder.getId()).thenReturn(user.getId());
+
+        entityManager.clear();
+        // 두 요청이 모두 학습 중 상태를 읽음
+        entityManager.find(Sentence.class, sentenceId);
+    }
+
+    @Test
+    void conflictingStatusChangesMoveCountOnce() {
+        sentenceService.updateLearningStatus(sentenceId, new LearningStatusRequestDto(LearningStatus.COMPLETED));
+        sentenceService.updateLearningStatus(sentenceId, new LearningStatusRequestDto(LearningStatus.COMPLETED));
+
+        assertCounts(1, 0, 1);
+        assertThat(reloadSentence().getLearningStatus()).isEqualTo(LearningStatus.COMPLETED);
+    }
+
+    @Test
+    void statusChangedMeanwhileIsMovedFromActualStatus() {
+        // 다른 요청이 먼저 완료로 바꾼 뒤, 학습 중 상태를 읽은 요청이 다시 학습 중으로 되돌림
+        sentenceService.updateLearningStatus(sentenceId, new LearningStatusRequestDto(LearningStatus.COMPLETED));
+        sentenceService.updateLearningStatus(sentenceId, new LearningStatusRequestDto(LearningStatus.IN_PROGRESS));
+
+        assertCounts(1, 1, 0);
+        assertThat(reloadSentence().getLearningStatus()).isEqualTo(LearningStatus.IN_PROGRESS);
+    }
+
+    @Test
+    void concurrentDeletesDecrementOnce() {
+        sentenceService.deleteSentence(sentenceId);
+        sentenceService.deleteSentence(sentenceId);
+
+        assertCounts(0, 0, 0);
+    }
+
+    @Test
+    void deleteAfterStatusChangeDecrementsActualStatus() {
+        sentenceService.updateLearningStatus(sentenceId, new LearningStatusRequestDto(LearningStatus.COMPLETED));
+        sentenceService.deleteSentence(sentenceId);
+
+        assertCounts(0, 0, 0);
+    }
+
+    private void assertCounts(int sentenceCount, int inProgressCount, int completedCount) {
+        entityManager.clear();
+        SentenceSet sentenceSet = entityManager.find(SentenceSet.class, sentenceSetId);
+
+        assertThat(sentenceSet.getSentenceCount()).isEqualTo(sentenceCount);
+        assertThat(sentenceSet.getInProgressCount()).isEqualTo(inProgressCount);
+        assertThat(sentenceSet.getCompletedCount()).isEqualTo(completedCount);
+    }
+
+    private Sentence reloadSentence() {
+        entityManager.clear();
+        return entityManager.find(Sentence.class, sentenceId);
+    }
+}
@@ -0,0 +1,72 @@
+package com.example.integration.service;
+
+import com.example.integration.common.config.tts.TextToSpeechMetrics;
+import com.example.integration.common.config.tts.TextToSpeechProvider;
+import com.example.integration.common.config.tts.TtsAudioCache;
+import com.example.integration.common.config.tts.TtsAudioFile;
+import com.example.integration.common.config.tts.TtsAudioSpec;
+import com.example.integration.common.config.tts.TtsBulkhead;
+import com.example.integration.common.config.tts.TtsCallPolicy;
+import com.example.integration.common.config.tts.TtsChunkedSynthesizer;
+import com.example.integration.common.config.tts.TtsPriorityGate;
+import com.example.integration.common.config.tts.TtsSingleFlight;
+import com.example.integration.common.config.tts.TtsTextSplitter;
+import com.example.integration.common.enums.tts.AudioFormat;
+import com.example.integration.common.enums.tts.VoiceLanguage;
+import com.example.integration.common.enums.tts.VoiceName;
+import com.example.integration.dto.tts.SingleTtsRequestDto;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.verifyNoInteractions;
+
+class TextToSpeechServiceTest {
+
+    private static final SingleTtsRequestDto REQUEST = new SingleTtsRequestDto("ENGLISH", "Where is the airport?");
+    private static final TtsAudioSpec SPEC =
+            new TtsAudioSpec(REQUEST.text(), VoiceLanguage.ENGLISH_US, VoiceName.EN_US_NEURAL2_A, AudioFormat.MP3);
+
+    @TempDir
+    Path directory;
+
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+    private final TextToSpeechProvider provider = mock(TextToSpeechProvider.class);
+
+    @Test
+    void clipMissingOnDiskButInMemoryIsStreamedWithoutSynthesis() throws Exception {
+        Path cacheDirectory = directory.resolve("cache");
+        TtsAudioCache cache = new TtsAudioCache(cacheDirectory.toString(), 1024, 1024, meterRegistry);
+        cache.loadDiskIndex();
+
+        // 디스크 저장에 실패하여 메모리에만 남은 음성
+        Files.delete(cacheDirectory);
+        byte[] audio = {1, 2, 3};
+        cache.put(SPEC, audio);
+        Files.createDirectories(cacheDirectory);
+
+        TtsAudioFile audioFile = service(cache).prepareSpeechAudioFile(REQUEST, AudioFormat.MP3);
+
+        assertThat(Files.readAllBytes(audioFile.path())).isEqualTo(audio);
+        verifyNoInteractions(provider);
+    }
+
+    private TextToSpeechService service(TtsAudioCache cache) {
+        return new TextToSpeechService(
+                provider,
+                cache,
+                new TtsSingleFlight(meterRegistry),
+                new TtsPriorityGate(),
+                mock(TtsBulkhead.class),
+                mock(TtsCallPolicy.class),
+                mock(TtsTextSplitter.class),
+                mock(TtsChunkedSynthesizer.class),
+                new TextToSpeechMetrics(meterRegistry)
+        );
+    }
+}
@@ -0,0 +1,80 @@
+package com.example.integration.service;
+
+import com.example.integration.common.response.CustomException;
+import com.example.integration.common.response.ErrorCode;
+import com.example.integration.common.util.HashUtil;
+import com.example.integration.common.util.RedisUtil;
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThatCode;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+class TokenServiceTest {
+
+    private static final String EMAIL = "a@test.com";
+
+    private final RedisUtil redisUtil = mock(RedisUtil.class);
+    private final TokenService tokenService = new TokenService(redisUtil, 10);
+
+    @Test
+    void matchingTokenIsRotatedWithDigestsOnly() {
+        givenRotateResult(RedisUtil.ROTATED);
+
+        assertThatCode(() -> tokenService.rotateRefreshToken(EMAIL, "refresh.old", "refresh.new", 3600))
+                .doesNotThrowAnyException();
+        // 토큰 원문은 Redis로 전달되지 않음
+        verify(redisUtil).rotateData(
+                "refresh_token:" + EMAIL,
+                "refresh_token:rotated:" + EMAIL,
+                "refresh_token:last_rotation:" + EMAIL,
+                HashUtil.sha256Hex("refresh.old"),
+                HashUtil.sha256Hex("refresh.new"),
+                3600,
+                10);
+    }
+
+    @Test
+    void reuseWithinGraceWindowIsConflictWithoutTokens() {
+        givenRotateResult(RedisUtil.REPLAYED);
+
+        // 새 토큰 쌍을 주지 않고, 먼저 받은 최신 토큰으로 다시 시도하도록 409
+        assertThatThrownBy(() -> tokenService.rotateRefreshToken(EMAIL, "refresh.old", "refresh.new", 3600))
+                .isInstanceOf(CustomException.class)
+                .extracting("errorCode").isEqualTo(ErrorCode.REFRESH_TOKEN_ALREADY_ROTATED);
+    }
+
+    @Test
+    void reuseOutsideGraceWindowRevokesFamily() {
+        givenRotateResult(RedisUtil.REUSED);
+
+        assertThatThrownBy(() -> tokenService.rotateRefreshToken(EMAIL, "refresh.old", "refresh.new", 3600))
+                .isInstanceOf(CustomException.class)
+                .extracting("errorCode").isEqualTo(ErrorCode.REUSED_REFRESH_TOKEN);
+    }
+
+    @Test
+    void unknownTokenIsRejected() {
+        givenRotateResult(RedisUtil.NOT_MATCHED);
+
+        assertThatThrownBy(() -> tokenService.rotateRefreshToken(EMAIL, "refresh.unknown", "refresh.new", 3600))
+                .isInstanceOf(CustomException.class)
+                .extracting("errorCode").isEqualTo(ErrorCode.NOT_MATCHED_REFRESH_TOKEN);
+    }
+
+    @Test
+    void logoutAlsoDropsGraceWindowDigest() {
+        tokenService.deleteRefreshToken(EMAIL);
+
+        verify(redisUtil).deleteData("refresh_token:last_rotation:" + EMAIL);
+    }
+
+    private void givenRotateResult(long status) {
+        when(redisUtil.rotateData(anyString(), anyString(), anyString(), anyString(), anyString(), anyLong(), anyLong()))
+                .thenReturn(status);
+    }
+}
@@ -0,0 +1,127 @@
+package com.example.integration.service;
+
+import com.example.integration.common.enums.tts.TtsJobState;
+import com.example.integration.dto.tts.SingleTtsRequestDto;
+import com.example.integration.dto.tts.TtsJobStatusDto;
+import com.example.integration.entity.Sentence;
+import com.example.integration.repository.SentenceRepository;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.Optional;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.function.BooleanSupplier;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.timeout;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
+import static org.mockito.Mockito.when;
+
+class TtsPreSynthesisServiceTest {
+
+    private static final long JOB_TTL_MILLIS = 60_000;
+
+    private final TextToSpeechService textToSpeechService = mock(TextToSpeechService.class);
+    private final SentenceRepository sentenceRepository = mock(SentenceRepository.class);
+    private final TtsPreSynthesisService service =
+            new TtsPreSynthesisService(textToSpeechService, sentenceRepository, 1, 10, JOB_TTL_MILLIS, "ENGLISH");
+
+    @AfterEach
+    void tearDown() {
+        service.shutdown();
+    }
+
+    @Test
+    void configuredLanguageIsUsedRegardlessOfContent() throws Exception {
+        // 내용으로 언어를 추측하지 않음 (한글이 있어도 클라이언트가 요청하는 언어로 합성)
+        stubSentence(1L, "airport (공항)");
+        service.enqueueSentence(10L, 1L);
+
+        verify(textToSpeechService, timeout(5000))
+                .preSynthesizeSpeechAudio(new SingleTtsRequestDto("ENGLISH", "airport (공항)"));
+    }
+
+    @Test
+    void nothingIsPreSynthesizedWithoutLanguage() {
+        TtsPreSynthesisService disabled =
+                new TtsPreSynthesisService(textToSpeechService, sentenceRepository, 1, 10, JOB_TTL_MILLIS, "");
+        try {
+            stubSentence(1L, "first");
+            disabled.enqueueSentence(10L, 1L);
+            disabled.enqueueSentenceSet(10L);
+
+            assertThat(disabled.getJobStatus(10L).state()).isEqualTo(TtsJobState.IDLE);
+            verifyNoInteractions(textToSpeechService);
+        } finally {
+            disabled.shutdown();
+        }
+    }
+
+    @Test
+    void sentencesEnqueuedWhileRunningAreCountedInSameJob() throws Exception {
+        CountDownLatch release = new CountDownLatch(1);
+        doAnswer(invocation -> release.await(5, TimeUnit.SECONDS))
+                .when(textToSpeechService).preSynthesizeSpeechAudio(any());
+        stubSentence(1L, "first");
+        stubSentence(2L, "second");
+
+        service.enqueueSentence(10L, 1L);
+        service.enqueueSentence(10L, 2L);
+
+        TtsJobStatusDto running = service.getJobStatus(10L);
+        assertThat(running.state()).isEqualTo(TtsJobState.RUNNING);
+        assertThat(running.total()).isEqualTo(2);
+
+        release.countDown();
+        waitUntil(() -> service.getJobStatus(10L).state() == TtsJobState.COMPLETED);
+        assertThat(service.getJobStatus(10L).completed()).isEqualTo(2);
+    }
+
+    @Test
+    void finishedJobIsEvictedAfterTtl() throws Exception {
+        stubSentence(1L, "first");
+        service.enqueueSentence(10L, 1L);
+        waitUntil(() -> service.getJobStatus(10L).state() == TtsJobState.COMPLETED);
+
+        service.evictFinishedJobs(System.currentTimeMillis() + JOB_TTL_MILLIS / 2);
+        assertThat(service.getJobStatus(10L).state()).isEqualTo(TtsJobState.COMPLETED);
+
+        service.evictFinishedJobs(System.currentTimeMillis() + JOB_TTL_MILLIS);
+        assertThat(service.getJobStatus(10L).state()).isEqualTo(TtsJobState.IDLE);
+    }
+
+    @Test
+    void runningJobIsNotEvicted() throws Exception {
+        CountDownLatch release = new CountDownLatch(1);
+        doAnswer(invocation -> release.await(5, TimeUnit.SECONDS))
+                .when(textToSpeechService).preSynthesizeSpeechAudio(any());
+        stubSentence(1L, "first");
+
+        service.enqueueSentence(10L, 1L);
+        service.evictFinishedJobs(System.currentTimeMillis() + JOB_TTL_MILLIS * 2);
+
+        assertThat(service.getJobStatus(10L).state()).isEqualTo(TtsJobState.RUNNING);
+        release.countDown();
+    }
+
+    private void stubSentence(Long id, String content) {
+        Sentence sentence = mock(Sentence.class);
+        when(sentence.getContent()).thenReturn(content);
+        when(sentenceRepository.findById(id)).thenReturn(Optional.of(sentence));
+    }
+
+    private static void waitUntil(BooleanSupplier condition) throws InterruptedException {
+        long deadline = System.currentTimeMillis() + 5000;
+        while (!condition.getAsBoolean()) {
+            if (System.currentTimeMillis() > deadline) {
+                throw new AssertionError("timed out");
+            }
+            Thread.sleep(10);
+        }
+    }
+}
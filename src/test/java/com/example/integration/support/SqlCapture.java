@@ -0,0 +1,40 @@
+package com.example.integration.support;
+
+import org.hibernate.resource.jdbc.spi.StatementInspector;
+
+import java.util.List;
+import java.util.Locale;
+import java.util.concurrent.CopyOnWriteArrayList;
+
+/**
+ * 테스트에서 실행된 SQL 기록 (application-test.properties의 statement_inspector)
+ */
+public class SqlCapture implements StatementInspector {
+
+    private static final List<String> STATEMENTS = new CopyOnWriteArrayList<>();
+
+    @Override
+    public String inspect(String sql) {
+        STATEMENTS.add(sql);
+        return sql;
+    }
+
+    public static void clear() {
+        STATEMENTS.clear();
+    }
+
+    public static List<String> statements() {
+        return List.copyOf(STATEMENTS);
+    }
+
+    /**
+     * 지정한 테이블을 조회한 SELECT 문 개수
+     * @param table 테이블 이름 (소문자)
+     */
+    public static long selectsFrom(String table) {
+        return STATEMENTS.stream()
+                .map(sql -> sql.toLowerCase(Locale.ROOT))
+                .filter(sql -> sql.startsWith("select") && sql.matches("(?s).*\\bfrom " + table + "\\b.*"))
+                .count();
+    }
+}